@@ -0,0 +1,85 @@
+#!/usr/bin/env bash
+# Compares the native image with the JVM image: time to first request and resident memory.
+# Both images run the prod profile against the same throwaway PostgreSQL container; each is
+# started RUNS times, timed until its first HTTP response, then sent WARMUP requests before
+# its memory is read from docker stats.
+#
+# Usage: scripts/compare-native.sh [RUNS] [WARMUP]
+# Needs docker and a JDK with Maven for the JVM jar; the native image is built inside Docker.
+set -euo pipefail
+
+RUNS=${1:-5}
+WARMUP=${2:-200}
+NETWORK=jobhunthub-compare
+DB=jobhunthub-compare-db
+APP=jobhunthub-compare-app
+JVM_IMAGE=jobhunthub-backend:jvm
+NATIVE_IMAGE=jobhunthub-backend:native
+
+cd "$(dirname "$0")/.."
+
+cleanup() {
+    docker rm -f "$APP" "$DB" >/dev/null 2>&1 || true
+    docker network rm "$NETWORK" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+echo "Building images..."
+./mvnw -q -B -Pfast-start package -DskipTests
+docker build -q -t "$JVM_IMAGE" . >/dev/null
+docker build -q -f Dockerfile.native -t "$NATIVE_IMAGE" . >/dev/null
+
+cleanup
+docker network create "$NETWORK" >/dev/null
+docker run -d --name "$DB" --network "$NETWORK" -e POSTGRES_PASSWORD=compare postgres:16-alpine >/dev/null
+until docker exec "$DB" pg_isready -U postgres >/dev/null 2>&1; do sleep 0.5; done
+
+# Milliseconds since the epoch; date +%s%3N is GNU only
+now_ms() {
+    python3 -c 'import time; print(int(time.time() * 1000))'
+}
+
+# Median of the numbers on stdin
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'
+}
+
+measure() {
+    local label=$1 image=$2
+    local starts=() memories=()
+    for ((i = 1; i <= RUNS; i++)); do
+        local start
+        start=$(now_ms)
+        docker run -d --name "$APP" --network "$NETWORK" -p 18080:8080 \
+            -e JDBC_DATABASE_URL="jdbc:postgresql://$DB:5432/postgres" \
+            -e JDBC_DATABASE_USERNAME=postgres -e JDBC_DATABASE_PASSWORD=compare \
+            -e OPENAI_API_KEY=compare -e FRONTEND_URL=http://localhost:3000 \
+            -e AUTH_TOKEN_SECRET=compare-secret-of-at-least-32-bytes \
+            -e OAUTH_GITHUB_CLIENT_ID=compare -e OAUTH_GITHUB_CLIENT_SECRET=compare \
+            -e OAUTH_GOOGLE_CLIENT_ID=compare -e OAUTH_GOOGLE_CLIENT_SECRET=compare \
+            "$image" >/dev/null
+        until curl -s -o /dev/null http://localhost:18080/api/auth/user; do
+            if [ "$(docker inspect -f '{{.State.Running}}' "$APP")" != "true" ]; then
+                docker logs "$APP" | tail -20
+                echo "$label exited before serving a request" >&2
+                exit 1
+            fi
+            sleep 0.02
+        done
+        starts+=($(($(now_ms) - start)))
+        for ((r = 0; r < WARMUP; r++)); do
+            curl -s -o /dev/null http://localhost:18080/api/auth/user
+        done
+        memories+=("$(docker stats --no-stream --format '{{.MemUsage}}' "$APP" | awk '{ print $1 }' | sed 's/B$//' | numfmt --from=iec-i)")
+        docker rm -f "$APP" >/dev/null
+    done
+    printf '%-8s %20s %16s\n' "$label" \
+        "$(printf '%s\n' "${starts[@]}" | median)" \
+        "$(($(printf '%s\n' "${memories[@]}" | median) / 1024 / 1024))"
+}
+
+echo
+echo "Median of $RUNS runs, memory after $WARMUP requests"
+printf '%-8s %20s %16s\n' "image" "first request ms" "memory MiB"
+measure jvm "$JVM_IMAGE"
+measure native "$NATIVE_IMAGE"
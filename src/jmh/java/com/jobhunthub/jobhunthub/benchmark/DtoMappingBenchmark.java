@@ -0,0 +1,82 @@
+package com.jobhunthub.jobhunthub.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jobhunthub.jobhunthub.dto.JobDTO;
+import com.jobhunthub.jobhunthub.dto.QuestionDTO;
+import com.jobhunthub.jobhunthub.model.Job;
+import com.jobhunthub.jobhunthub.model.Question;
+import com.jobhunthub.jobhunthub.model.User;
+
+/**
+ * Entity to DTO mapping cost for a full listing of jobs and questions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private List<Job> jobs;
+    private List<Question> questions;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder().id(1L).githubId("bench").build();
+        LocalDate today = LocalDate.now();
+        Job.Status[] statuses = Job.Status.values();
+        jobs = new ArrayList<>(size);
+        questions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            jobs.add(Job.builder()
+                    .id((long) i)
+                    .title("Software Engineer " + i)
+                    .company("Company " + (i % 50))
+                    .location("Chicago, IL")
+                    .status(statuses[i % statuses.length])
+                    .createdAt(today.minusDays(i % 90))
+                    .user(user)
+                    .build());
+            questions.add(Question.builder()
+                    .id((long) i)
+                    .type(i % 2 == 0 ? Question.QuestionType.TECHNICAL : Question.QuestionType.BEHAVIORAL)
+                    .question("Question number " + i + "?")
+                    .responseText("A reasonably long answer to question " + i)
+                    .rating(i % 10 + 1)
+                    .feedback("Strengths, improvements and tips for answer " + i)
+                    .updatedAt(today.minusDays(i % 30))
+                    .user(user)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<JobDTO> jobDtoFromEntity() {
+        return jobs.stream().map(JobDTO::fromEntity).toList();
+    }
+
+    @Benchmark
+    public List<QuestionDTO> questionDtoFromEntity() {
+        return questions.stream().map(QuestionDTO::fromEntity).toList();
+    }
+}
@@ -0,0 +1,70 @@
+package com.jobhunthub.jobhunthub.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobhunthub.jobhunthub.dto.AllTimeJobStatsDTO;
+import com.jobhunthub.jobhunthub.dto.WeeklyJobStatsDTO;
+
+/**
+ * Jackson serialization of the progress and dashboard stats payloads, including
+ * the Map-based /api/jobs/dashboard-stats response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatsSerializationBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private WeeklyJobStatsDTO weeklyStats;
+    private AllTimeJobStatsDTO allTimeStats;
+    private Map<String, Object> dashboardStats;
+
+    @Setup
+    public void setUp() {
+        LocalDate today = LocalDate.now();
+        List<WeeklyJobStatsDTO.ChartPoint> chart = new ArrayList<>();
+        for (int i = 6; i >= 0; i--) {
+            chart.add(new WeeklyJobStatsDTO.ChartPoint(today.minusDays(i).toString(), 3L + i));
+        }
+        weeklyStats = new WeeklyJobStatsDTO(chart, 42, 5, 30, 8, 4);
+        allTimeStats = new AllTimeJobStatsDTO(1234, "4.2", 17, 900, 200, 134);
+        dashboardStats = Map.of("totalCount", 1234L, "appliedCount", 900L, "todayCount", 5L,
+                "interviewedCount", 200L, "rejectedCount", 134L);
+    }
+
+    @Benchmark
+    public String weeklyStats() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(weeklyStats);
+    }
+
+    @Benchmark
+    public String allTimeStats() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(allTimeStats);
+    }
+
+    @Benchmark
+    public String dashboardStatsMap() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(dashboardStats);
+    }
+}
@@ -0,0 +1,112 @@
+package com.jobhunthub.jobhunthub.benchmark;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.jobhunthub.jobhunthub.JobHuntHubApplication;
+import com.jobhunthub.jobhunthub.dto.AllTimeJobStatsDTO;
+import com.jobhunthub.jobhunthub.dto.WeeklyJobStatsDTO;
+import com.jobhunthub.jobhunthub.model.Job;
+import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.repository.UserRepository;
+import com.jobhunthub.jobhunthub.service.JobService;
+import com.jobhunthub.jobhunthub.service.JobStatsService;
+
+/**
+ * JobService weekly chart building and all-time stats against the embedded H2
+ * database, seeded with synthetic users spread over the last 90 days.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WeeklyStatsBenchmark {
+
+    private static final String INSERT_JOB_SQL =
+            "INSERT INTO jobs (id, title, company, location, status, created_at, user_id) VALUES (NEXT VALUE FOR jobs_seq, ?, ?, ?, ?, ?, ?)";
+
+    @Param({"100"})
+    private int users;
+
+    @Param({"500"})
+    private int jobsPerUser;
+
+    private ConfigurableApplicationContext context;
+    private JobService jobService;
+    private List<User> seededUsers;
+    private LocalDate today;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(JobHuntHubApplication.class)
+                .properties("server.port=0", "spring.jpa.show-sql=false", "logging.level.root=WARN",
+                        "spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+                .run();
+        jobService = context.getBean(JobService.class);
+        today = LocalDate.now(context.getBean(ZoneId.class));
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        JobStatsService jobStatsService = context.getBean(JobStatsService.class);
+        Job.Status[] statuses = Job.Status.values();
+        seededUsers = new ArrayList<>(users);
+        for (int u = 0; u < users; u++) {
+            User user = new User();
+            user.setGithubId("jmh-" + u);
+            user = userRepository.save(user);
+            long userId = user.getId();
+
+            List<Object[]> rows = new ArrayList<>(jobsPerUser);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int j = 0; j < jobsPerUser; j++) {
+                rows.add(new Object[]{"Engineer " + j, "Company " + random.nextInt(200), "Chicago, IL",
+                        statuses[random.nextInt(statuses.length)].name(), today.minusDays(random.nextInt(90)), userId});
+            }
+            jdbcTemplate.batchUpdate(INSERT_JOB_SQL, rows);
+            jobStatsService.rebuild(user);
+            seededUsers.add(user);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private User randomUser() {
+        return seededUsers.get(ThreadLocalRandom.current().nextInt(seededUsers.size()));
+    }
+
+    @Benchmark
+    public WeeklyJobStatsDTO weeklyJobStats() {
+        return jobService.getWeeklyJobStats(randomUser(), today.minusDays(6), today);
+    }
+
+    @Benchmark
+    public AllTimeJobStatsDTO allTimeJobStats() {
+        return jobService.getAllTimeJobStats(randomUser());
+    }
+}
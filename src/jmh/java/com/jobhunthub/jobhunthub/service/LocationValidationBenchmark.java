@@ -0,0 +1,46 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the location check run by JobService.validateJob on every create and
+ * update: the previous String.matches version, which compiled both patterns on
+ * every call, against LocationValidator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocationValidationBenchmark {
+
+    // Remote short-circuits, a city/state pair, a gazetteer alias, and one that fails every pattern
+    @Param({"Remote", "San Francisco, CA", "St. Louis", "Zürich, Switzerland 8001"})
+    private String location;
+
+    private final LocationValidator validator = new LocationValidator();
+
+    @Benchmark
+    public boolean stringMatches() {
+        return location.equals("Remote") ||
+            location.matches("^[A-Za-z\\s.,'-]+,\\s*[A-Z]{2}$") ||
+            location.matches("^[A-Za-z\\s.,'-]+$");
+    }
+
+    @Benchmark
+    public LocationValidator.Location normalize() {
+        return validator.normalize(location);
+    }
+}
@@ -0,0 +1,70 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * OpenAIService.processResponse: parsing the completion body and re-parsing the
+ * content to check it is JSON, for both the JSON and plain-text fallback paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OpenAIResponseParsingBenchmark {
+
+    private static final String FEEDBACK = "Strong structure and a clear example. ".repeat(20);
+
+    private OpenAIService openAIService;
+    private String jsonCompletion;
+    private String textCompletion;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OpenAIResilience resilience = new OpenAIResilience(meterRegistry, 32, 20, 10, 50, 20,
+                Duration.ofSeconds(30), 3, 3, Duration.ofMillis(500));
+        openAIService = new OpenAIService(null, objectMapper, resilience, meterRegistry);
+
+        String content = objectMapper.writeValueAsString(Map.of("rating", 8, "feedback", FEEDBACK));
+        jsonCompletion = completion(objectMapper, content);
+        textCompletion = completion(objectMapper, FEEDBACK);
+    }
+
+    private static String completion(ObjectMapper objectMapper, String content) throws Exception {
+        return """
+                {"id":"chatcmpl-1","object":"chat.completion","model":"gpt-4.1-mini",
+                 "choices":[{"index":0,"message":{"role":"assistant","content":%s},"finish_reason":"stop"}],
+                 "usage":{"prompt_tokens":420,"completion_tokens":180,"total_tokens":600}}
+                """.formatted(objectMapper.writeValueAsString(content));
+    }
+
+    @Benchmark
+    public String jsonContent() throws Exception {
+        return openAIService.processResponse(jsonCompletion);
+    }
+
+    @Benchmark
+    public String plainTextContent() throws Exception {
+        return openAIService.processResponse(textCompletion);
+    }
+}
@@ -0,0 +1,85 @@
+package com.jobhunthub.jobhunthub.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Hibernate second-level cache: a Caffeine-backed JCache manager with one
+ * explicitly sized region per cached entity and per group of cached queries.
+ * Regions not listed here fail at startup (missing_cache_strategy=fail), so
+ * nothing is cached with unbounded defaults by accident. Entries expire after
+ * a TTL as a backstop for rows changed outside JPA. Per-region hit and miss
+ * counts are published by Micrometer as hibernate.second.level.cache.requests.
+ */
+@Configuration
+public class CacheConfig {
+
+    // Entity regions; the names match the @Cache annotations on the entities
+    public static final String USERS = "users";
+    public static final String PROFILES = "profiles";
+    public static final String JOBS = "jobs";
+    public static final String QUESTIONS = "questions";
+
+    // Query result regions, used through HINT_CACHE_REGION on the repository methods
+    public static final String USERS_BY_PROVIDER = "users.by-provider";
+    public static final String PROFILES_BY_USER = "profiles.by-user";
+    public static final String JOB_COUNTS = "jobs.counts";
+    public static final String QUESTION_LOOKUPS = "questions.lookups";
+
+    // Hibernate's own regions: results of cacheable queries without a region, and last-write times per table
+    private static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    private static final Map<String, Long> ENTITY_REGIONS = Map.of(
+            USERS, 10_000L, PROFILES, 10_000L, JOBS, 50_000L, QUESTIONS, 50_000L);
+    private static final Map<String, Long> QUERY_REGIONS = Map.of(
+            USERS_BY_PROVIDER, 10_000L, PROFILES_BY_USER, 10_000L, JOB_COUNTS, 20_000L, QUESTION_LOOKUPS, 20_000L,
+            DEFAULT_QUERY_RESULTS, 1_000L);
+
+    // Each application context gets its own manager, so test contexts do not share regions
+    private static final AtomicInteger MANAGERS = new AtomicInteger();
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${app.cache.entity-ttl:30m}") Duration entityTtl,
+                                              @Value("${app.cache.query-ttl:10m}") Duration queryTtl) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("jobhunthub:hibernate-" + MANAGERS.incrementAndGet()), getClass().getClassLoader());
+        ENTITY_REGIONS.forEach((region, maxEntries) -> cacheManager.createCache(region, region(maxEntries, entityTtl)));
+        QUERY_REGIONS.forEach((region, maxEntries) -> cacheManager.createCache(region, region(maxEntries, queryTtl)));
+        // Timestamps must outlive every query result that depends on them, so they never expire (one entry per table)
+        cacheManager.createCache(UPDATE_TIMESTAMPS, region(1_000L, null));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    // Entries are stored by reference: Hibernate already caches disassembled state, so copying would only add work
+    private static CaffeineConfiguration<Object, Object> region(long maxEntries, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(ttl.toMillis())));
+        }
+        configuration.setStoreByValue(false);
+        return configuration;
+    }
+}
@@ -0,0 +1,110 @@
+package com.jobhunthub.jobhunthub.config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Keeps the pending OAuth2 authorization request (state, nonce, redirect uri)
+ * in a short-lived signed cookie instead of the HttpSession, so the provider's
+ * callback can land on any replica. The request is stored as a small JSON
+ * object rather than with Java serialization, and is only parsed after its
+ * signature has been checked.
+ */
+public class CookieAuthorizationRequestRepository implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    static final String COOKIE = "JHH_OAUTH2_REQUEST";
+    private static final Duration MAX_AGE = Duration.ofMinutes(5);
+    private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<>() {
+    };
+
+    private final SignedCookies cookies;
+    private final ObjectMapper objectMapper;
+
+    public CookieAuthorizationRequestRepository(SignedCookies cookies, ObjectMapper objectMapper) {
+        this.cookies = cookies;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        String state = request.getParameter(OAuth2ParameterNames.STATE);
+        if (state == null) {
+            return null;
+        }
+        OAuth2AuthorizationRequest authorizationRequest = cookies.read(request, COOKIE)
+                .map(this::deserialize)
+                .orElse(null);
+        return authorizationRequest != null && state.equals(authorizationRequest.getState()) ? authorizationRequest : null;
+    }
+
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest, HttpServletRequest request,
+                                         HttpServletResponse response) {
+        if (authorizationRequest == null) {
+            cookies.clear(response, COOKIE);
+            return;
+        }
+        cookies.write(response, COOKIE, serialize(authorizationRequest), MAX_AGE);
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request, HttpServletResponse response) {
+        OAuth2AuthorizationRequest authorizationRequest = loadAuthorizationRequest(request);
+        if (authorizationRequest != null) {
+            cookies.clear(response, COOKIE);
+        }
+        return authorizationRequest;
+    }
+
+    private byte[] serialize(OAuth2AuthorizationRequest authorizationRequest) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("authorizationUri", authorizationRequest.getAuthorizationUri());
+        fields.put("clientId", authorizationRequest.getClientId());
+        fields.put("redirectUri", authorizationRequest.getRedirectUri());
+        fields.put("scopes", authorizationRequest.getScopes());
+        fields.put("state", authorizationRequest.getState());
+        fields.put("additionalParameters", authorizationRequest.getAdditionalParameters());
+        fields.put("attributes", authorizationRequest.getAttributes());
+        fields.put("authorizationRequestUri", authorizationRequest.getAuthorizationRequestUri());
+        try {
+            return objectMapper.writeValueAsBytes(fields);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Only the authorization code grant is used, which is also the only one stored
+    @SuppressWarnings("unchecked")
+    private OAuth2AuthorizationRequest deserialize(byte[] payload) {
+        try {
+            Map<String, Object> fields = objectMapper.readValue(payload, JSON_OBJECT);
+            return OAuth2AuthorizationRequest.authorizationCode()
+                    .authorizationUri((String) fields.get("authorizationUri"))
+                    .clientId((String) fields.get("clientId"))
+                    .redirectUri((String) fields.get("redirectUri"))
+                    .scopes(Set.copyOf((List<String>) fields.get("scopes")))
+                    .state((String) fields.get("state"))
+                    .additionalParameters((Map<String, Object>) fields.get("additionalParameters"))
+                    .attributes((Map<String, Object>) fields.get("attributes"))
+                    .authorizationRequestUri((String) fields.get("authorizationRequestUri"))
+                    .build();
+        } catch (IOException | RuntimeException e) {
+            return null; // written by an incompatible version; the user just signs in again
+        }
+    }
+}
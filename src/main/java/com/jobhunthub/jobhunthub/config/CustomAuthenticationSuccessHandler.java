@@ -1,21 +1,45 @@
 package com.jobhunthub.jobhunthub.config;
 
+import java.io.IOException;
+
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.web.authentication.SavedRequestAwareAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
 /**
- * Handles post‑login redirects only; provisioning is done in the OAuth2UserService.
+ * Handles post‑login redirects; provisioning is done in the OAuth2UserService.
+ * In token session mode it also issues the session token cookie.
  */
 @Component
 public class CustomAuthenticationSuccessHandler
         extends SavedRequestAwareAuthenticationSuccessHandler {
 
+    private final SessionTokens sessionTokens;
+
     public CustomAuthenticationSuccessHandler(
-            @Value("${frontend.url}") String frontendUrl
+            @Value("${frontend.url}") String frontendUrl,
+            SessionTokens sessionTokens
     ) {
         // send everyone here after successful login
         setDefaultTargetUrl(frontendUrl + "/dashboard");
         setAlwaysUseDefaultTargetUrl(true);
+        this.sessionTokens = sessionTokens;
+    }
+
+    @Override
+    public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
+                                        Authentication authentication) throws IOException, ServletException {
+        // The cookie has to be on the response before the redirect commits it
+        if (sessionTokens.enabled() && authentication instanceof OAuth2AuthenticationToken oauth2
+                && oauth2.getPrincipal() instanceof UserPrincipal principal) {
+            sessionTokens.issue(response, principal.getDomainUser(), oauth2.getAuthorizedClientRegistrationId());
+        }
+        super.onAuthenticationSuccess(request, response, authentication);
     }
 }
@@ -0,0 +1,93 @@
+package com.jobhunthub.jobhunthub.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import com.jobhunthub.jobhunthub.dto.AllTimeJobStatsDTO;
+import com.jobhunthub.jobhunthub.dto.AuthenticatedUserDTO;
+import com.jobhunthub.jobhunthub.dto.CreateJobRequestDTO;
+import com.jobhunthub.jobhunthub.dto.EvaluateResponseRequest;
+import com.jobhunthub.jobhunthub.dto.EvaluationDTO;
+import com.jobhunthub.jobhunthub.dto.JobDTO;
+import com.jobhunthub.jobhunthub.dto.JobFilterDTO;
+import com.jobhunthub.jobhunthub.dto.JobImportResultDTO;
+import com.jobhunthub.jobhunthub.dto.JobImportRowDTO;
+import com.jobhunthub.jobhunthub.dto.JobPageDTO;
+import com.jobhunthub.jobhunthub.dto.JobStatusBatchRequestDTO;
+import com.jobhunthub.jobhunthub.dto.JobStatusBatchResultDTO;
+import com.jobhunthub.jobhunthub.dto.OAuth2UserAttributes;
+import com.jobhunthub.jobhunthub.dto.ProfileDTO;
+import com.jobhunthub.jobhunthub.dto.QuestionDTO;
+import com.jobhunthub.jobhunthub.dto.SearchPageDTO;
+import com.jobhunthub.jobhunthub.dto.SearchResultDTO;
+import com.jobhunthub.jobhunthub.dto.UpdateJobRequestDTO;
+import com.jobhunthub.jobhunthub.dto.UpdateProfileRequestDTO;
+import com.jobhunthub.jobhunthub.dto.UsernameAvailabilityDTO;
+import com.jobhunthub.jobhunthub.dto.WeeklyJobStatsDTO;
+import com.jobhunthub.jobhunthub.model.Evaluation;
+import com.jobhunthub.jobhunthub.model.EvaluationCacheEntry;
+import com.jobhunthub.jobhunthub.model.Job;
+import com.jobhunthub.jobhunthub.model.Profile;
+import com.jobhunthub.jobhunthub.model.Question;
+import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.model.UserJobDailyCount;
+import com.jobhunthub.jobhunthub.model.UserJobStats;
+
+/**
+ * Runtime hints for the GraalVM native image (mvn -Pnative native:compile).
+ * Spring AOT already covers the beans, repositories and controller bindings;
+ * these are the parts it cannot infer:
+ * - the JPA entities, their id class and enums, which Hibernate builds reflectively
+ * - every DTO, including the ones Jackson reads outside a controller (JobImportRowDTO)
+ * - the Flyway scripts, which are found by location pattern rather than by name
+ * - the defaults file Caffeine's JCache provider reads through Typesafe Config
+ * Spring Security, the OAuth2 client and Jackson ship their own hints; Caffeine's
+ * generated cache classes are covered by the GraalVM reachability metadata.
+ */
+@Configuration
+@ImportRuntimeHints(NativeImageConfig.Hints.class)
+public class NativeImageConfig {
+
+    static final Class<?>[] ENTITIES = {
+            Job.class, Job.Status.class,
+            Question.class, Question.QuestionType.class,
+            Profile.class,
+            User.class,
+            Evaluation.class, Evaluation.Status.class,
+            EvaluationCacheEntry.class,
+            UserJobDailyCount.class, UserJobDailyCount.Key.class,
+            UserJobStats.class
+    };
+
+    // Lombok @Data classes and records; nested types (e.g. WeeklyJobStatsDTO.ChartPoint) are followed automatically
+    static final Class<?>[] DTOS = {
+            AllTimeJobStatsDTO.class, AuthenticatedUserDTO.class, CreateJobRequestDTO.class,
+            EvaluateResponseRequest.class, EvaluationDTO.class, JobDTO.class, JobFilterDTO.class,
+            JobImportResultDTO.class, JobImportRowDTO.class, JobPageDTO.class, JobStatusBatchRequestDTO.class,
+            JobStatusBatchResultDTO.class, OAuth2UserAttributes.class, ProfileDTO.class, QuestionDTO.class,
+            SearchPageDTO.class, SearchResultDTO.class, UpdateJobRequestDTO.class, UpdateProfileRequestDTO.class,
+            UsernameAvailabilityDTO.class, WeeklyJobStatsDTO.class
+    };
+
+    static final String[] MIGRATIONS = {"db/migration/h2/*.sql", "db/migration/postgresql/*.sql"};
+
+    static final String CACHE_DEFAULTS = "reference.conf";
+
+    static class Hints implements RuntimeHintsRegistrar {
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> entity : ENTITIES) {
+                hints.reflection().registerType(entity, MemberCategory.values());
+            }
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), DTOS);
+            for (String pattern : MIGRATIONS) {
+                hints.resources().registerPattern(pattern);
+            }
+            hints.resources().registerPattern(CACHE_DEFAULTS);
+        }
+    }
+}
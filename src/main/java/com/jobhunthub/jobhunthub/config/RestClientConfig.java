@@ -1,20 +1,76 @@
 package com.jobhunthub.jobhunthub.config;
 
+import java.time.Duration;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
 /**
  * Configuration class for setting up HTTP client beans.
+ * The OpenAI client gets its own keep-alive connection pool and timeouts so
+ * slow upstream calls cannot tie up sockets indefinitely.
  */
 @Configuration
 public class RestClientConfig {
 
+    // Pool shared by all OpenAI calls; leased/pending/available counts are published as httpcomponents.httpclient.pool.*
     @Bean
-    public RestClient restClient(RestClient.Builder builder) {
-        // You can customize the builder here if needed, e.g., with base URLs, default headers, etc.
-        // Example: return builder.baseUrl("https://api.example.com").build();
-        return builder.build();
+    public PoolingHttpClientConnectionManager openAiConnectionManager(
+            @Value("${openai.http.max-connections:64}") int maxConnections,
+            @Value("${openai.http.max-connections-per-route:32}") int maxPerRoute,
+            @Value("${openai.http.connect-timeout:5s}") Duration connectTimeout,
+            @Value("${openai.http.read-timeout:60s}") Duration readTimeout,
+            @Value("${openai.http.connection-ttl:5m}") Duration connectionTtl,
+            MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(connectionTtl))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "openai").bindTo(meterRegistry);
+        return connectionManager;
     }
-}
 
+    // Keep-alive client over the pool; gzip responses are requested and decompressed transparently
+    @Bean
+    public CloseableHttpClient openAiHttpClient(
+            PoolingHttpClientConnectionManager openAiConnectionManager,
+            @Value("${openai.http.pool-timeout:2s}") Duration poolTimeout,
+            @Value("${openai.http.read-timeout:60s}") Duration readTimeout) {
+        return HttpClients.custom()
+                .setConnectionManager(openAiConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    @Bean
+    public RestClient openAiRestClient(RestClient.Builder builder, CloseableHttpClient openAiHttpClient) {
+        return builder
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(openAiHttpClient))
+                .build();
+    }
+}
@@ -4,12 +4,17 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import jakarta.servlet.DispatcherType;
+
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserRequest;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
@@ -17,10 +22,12 @@ import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.logout.HttpStatusReturningLogoutSuccessHandler;
+import org.springframework.security.web.authentication.logout.LogoutFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobhunthub.jobhunthub.service.OAuth2Service;
 
 
@@ -36,15 +43,27 @@ public class SecurityConfig {
     private final String frontendUrlValue;
     private final String allowedOriginValue;
     private final OAuth2Service oAuth2Service;
+    private final SessionTokens sessionTokens;
+    private final SignedCookies signedCookies;
+    private final ObjectMapper objectMapper;
+    private final boolean separateManagementPort;
 
     public SecurityConfig(CustomAuthenticationSuccessHandler customAuthenticationSuccessHandler,
                           @Value("${frontend.url}") String frontendUrlValue,
                           @Value("${allowed.origin}") String allowedOriginValue,
-                          OAuth2Service oAuth2Service) {
+                          OAuth2Service oAuth2Service,
+                          SessionTokens sessionTokens,
+                          SignedCookies signedCookies,
+                          ObjectMapper objectMapper,
+                          Environment environment) {
         this.customAuthenticationSuccessHandler = customAuthenticationSuccessHandler;
         this.frontendUrlValue = frontendUrlValue;
         this.allowedOriginValue = allowedOriginValue;
         this.oAuth2Service = oAuth2Service;
+        this.sessionTokens = sessionTokens;
+        this.signedCookies = signedCookies;
+        this.objectMapper = objectMapper;
+        this.separateManagementPort = ManagementPortType.get(environment) == ManagementPortType.DIFFERENT;
     }
 
     /**
@@ -69,6 +88,7 @@ public class SecurityConfig {
      * - Authorization rules for public and protected endpoints
      * - OAuth2 login process, including success and failure handlers
      * - Logout process
+     * - Session storage: a signed token cookie, or the HttpSession in the session profile
      *
      * @param http The {@link HttpSecurity} to configure.
      * @return The configured {@link SecurityFilterChain}.
@@ -76,15 +96,31 @@ public class SecurityConfig {
      */
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        if (sessionTokens.enabled()) {
+            // No HttpSession: the user comes from the token cookie and the pending login from its own cookie
+            http.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                    .addFilterBefore(new SessionTokenFilter(sessionTokens), LogoutFilter.class)
+                    .oauth2Login(oauth2 -> oauth2.authorizationEndpoint(endpoint -> endpoint
+                            .authorizationRequestRepository(new CookieAuthorizationRequestRepository(signedCookies, objectMapper))))
+                    .logout(logout -> logout.addLogoutHandler((request, response, authentication) -> sessionTokens.clear(response)));
+        }
         return http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(AbstractHttpConfigurer::disable) // CSRF disabled for stateless REST API
                 .authorizeHttpRequests(auth -> {
+                    // Let async dispatches (SSE, streamed responses) through; the original request was already authorized
+                    auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
+
                     // Define public endpoints
                     auth.requestMatchers("/", "/error", "/api/public/**", "/health").permitAll();
                     auth.requestMatchers("/oauth2/authorization/**").permitAll();
                     auth.requestMatchers("/login/oauth2/code/**").permitAll();
                     auth.requestMatchers("/api/auth/user").permitAll();
+                    auth.requestMatchers("/actuator/health").permitAll();
+                    // Metrics are only public when the actuator sits on its own, unexposed port
+                    if (separateManagementPort) {
+                        auth.requestMatchers("/actuator/prometheus").permitAll();
+                    }
 
                     // All other requests require authentication
                     auth.anyRequest().authenticated();
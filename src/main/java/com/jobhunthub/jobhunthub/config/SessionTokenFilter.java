@@ -0,0 +1,42 @@
+package com.jobhunthub.jobhunthub.config;
+
+import java.io.IOException;
+
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Authenticates requests from the session token cookie (see SessionTokens).
+ * Runs before logout and the OAuth2 login filters, so account linking sees
+ * the signed-in user. Not a bean, so it only runs inside the security chain.
+ */
+public class SessionTokenFilter extends OncePerRequestFilter {
+
+    private final SessionTokens sessionTokens;
+
+    public SessionTokenFilter(SessionTokens sessionTokens) {
+        this.sessionTokens = sessionTokens;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            sessionTokens.read(request).ifPresent(token -> {
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(sessionTokens.authenticate(token));
+                SecurityContextHolder.setContext(context);
+                if (sessionTokens.needsRenewal(token)) {
+                    sessionTokens.issue(response, token.user(), token.registrationId());
+                }
+            });
+        }
+        chain.doFilter(request, response);
+    }
+}
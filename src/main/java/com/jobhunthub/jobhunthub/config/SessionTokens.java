@@ -0,0 +1,131 @@
+package com.jobhunthub.jobhunthub.config;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.stereotype.Component;
+
+import com.jobhunthub.jobhunthub.model.User;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Stateless sessions (app.auth.session-mode=token, the default): after login
+ * the user is kept in a signed cookie instead of the HttpSession. The token
+ * payload is "v1|userId|registrationId|githubId|googleId|expiresAt", which is
+ * everything in User, so each request rebuilds its principal from the cookie
+ * alone, without a database lookup and on any replica. Tokens are signed, not
+ * encrypted; the provider ids in them are the user's own. A token is renewed
+ * once less than half of its lifetime is left, and logout clears the cookie.
+ * The session profile (app.auth.session-mode=session) keeps the server-side
+ * HttpSession holding the full principal.
+ */
+@Component
+public class SessionTokens {
+
+    public static final String COOKIE = "JHH_SESSION";
+    private static final String VERSION = "v1";
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("OAUTH2_USER"));
+
+    // A token that passed verification; user is detached and only carries the token's fields
+    public record SessionToken(User user, String registrationId, Instant expiresAt) {
+    }
+
+    private final SignedCookies cookies;
+    private final Duration ttl;
+    private final boolean enabled;
+
+    public SessionTokens(SignedCookies cookies,
+                         @Value("${app.auth.token-ttl:12h}") Duration ttl,
+                         @Value("${app.auth.session-mode:token}") String sessionMode) {
+        this.cookies = cookies;
+        this.ttl = ttl;
+        this.enabled = switch (sessionMode) {
+            case "token" -> true;
+            case "session" -> false;
+            default -> throw new IllegalArgumentException("app.auth.session-mode must be token or session, not " + sessionMode);
+        };
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    // Set a fresh token cookie for the signed-in user
+    public void issue(HttpServletResponse response, User user, String registrationId) {
+        Instant expiresAt = Instant.now().plus(ttl);
+        cookies.write(response, COOKIE, payload(user, registrationId, expiresAt), ttl);
+    }
+
+    public void clear(HttpServletResponse response) {
+        cookies.clear(response, COOKIE);
+    }
+
+    // The verified, unexpired token from the request's cookie, if any
+    public Optional<SessionToken> read(HttpServletRequest request) {
+        return cookies.read(request, COOKIE).flatMap(SessionTokens::parse)
+                .filter(token -> token.expiresAt().isAfter(Instant.now()));
+    }
+
+    // Renew tokens past half of their lifetime, so active users stay signed in
+    public boolean needsRenewal(SessionToken token) {
+        return Duration.between(Instant.now(), token.expiresAt()).compareTo(ttl.dividedBy(2)) < 0;
+    }
+
+    // Sign a token value directly, e.g. to build a cookie with a chosen expiry
+    public String encode(User user, String registrationId, Instant expiresAt) {
+        return cookies.sign(COOKIE, payload(user, registrationId, expiresAt));
+    }
+
+    // The authentication a request with this token runs as
+    public OAuth2AuthenticationToken authenticate(SessionToken token) {
+        var delegate = new DefaultOAuth2User(AUTHORITIES, Map.of("id", token.user().getId()), "id");
+        UserPrincipal principal = new UserPrincipal(delegate, token.user());
+        return new OAuth2AuthenticationToken(principal, AUTHORITIES, token.registrationId());
+    }
+
+    private static byte[] payload(User user, String registrationId, Instant expiresAt) {
+        String payload = String.join("|", VERSION, user.getId().toString(), encodeField(registrationId),
+                encodeField(user.getGithubId()), encodeField(user.getGoogleId()),
+                Long.toString(expiresAt.getEpochSecond()));
+        return payload.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Optional<SessionToken> parse(byte[] payload) {
+        String[] fields = new String(payload, StandardCharsets.UTF_8).split("\\|", -1);
+        if (fields.length != 6 || !VERSION.equals(fields[0])) {
+            return Optional.empty();
+        }
+        try {
+            User user = User.builder()
+                    .id(Long.parseLong(fields[1]))
+                    .githubId(decodeField(fields[3]))
+                    .googleId(decodeField(fields[4]))
+                    .build();
+            return Optional.of(new SessionToken(user, decodeField(fields[2]), Instant.ofEpochSecond(Long.parseLong(fields[5]))));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    // Fields are URL-encoded so they cannot contain the separator; null is stored as an empty field
+    private static String encodeField(String value) {
+        return value != null ? URLEncoder.encode(value, StandardCharsets.UTF_8) : "";
+    }
+
+    private static String decodeField(String value) {
+        return value.isEmpty() ? null : URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,127 @@
+package com.jobhunthub.jobhunthub.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * HMAC-SHA256 signed cookies, used for the session token and for the OAuth2
+ * authorization request while the user is at the provider. A value is
+ * base64url(payload) + "." + base64url(signature), and the signature also
+ * covers the cookie name, so a value cannot be replayed under another cookie.
+ * Cookies get the same Secure and SameSite settings as the servlet session
+ * cookie. Every replica must share app.auth.token-secret to accept each
+ * other's cookies; without one a random per-process key is used (dev only).
+ */
+@Component
+public class SignedCookies {
+
+    private static final Logger logger = LoggerFactory.getLogger(SignedCookies.class);
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final SecretKeySpec key;
+    private final boolean secure;
+    private final String sameSite;
+
+    public SignedCookies(@Value("${app.auth.token-secret:}") String secret,
+                         @Value("${server.servlet.session.cookie.secure:false}") boolean secure,
+                         @Value("${server.servlet.session.cookie.same-site:lax}") String sameSite) {
+        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secret.isEmpty()) {
+            logger.warn("app.auth.token-secret is not set; using a random key, so sign-ins do not survive a restart");
+            keyBytes = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(keyBytes);
+        } else if (keyBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("app.auth.token-secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.secure = secure;
+        this.sameSite = sameSite;
+    }
+
+    // Sign the payload for the named cookie
+    public String sign(String name, byte[] payload) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload) + "." + encoder.encodeToString(mac(name, payload));
+    }
+
+    // Return the payload if the value was signed for the named cookie with this key
+    public Optional<byte[]> verify(String name, String value) {
+        int dot = value.lastIndexOf('.');
+        if (dot < 0) {
+            return Optional.empty();
+        }
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            byte[] payload = decoder.decode(value.substring(0, dot));
+            byte[] signature = decoder.decode(value.substring(dot + 1));
+            return MessageDigest.isEqual(signature, mac(name, payload)) ? Optional.of(payload) : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty(); // not base64url
+        }
+    }
+
+    // Read and verify the named cookie; tampered, foreign or missing cookies give empty
+    public Optional<byte[]> read(HttpServletRequest request, String name) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return Optional.empty();
+        }
+        for (Cookie cookie : cookies) {
+            if (name.equals(cookie.getName())) {
+                return verify(name, cookie.getValue());
+            }
+        }
+        return Optional.empty();
+    }
+
+    public void write(HttpServletResponse response, String name, byte[] payload, Duration maxAge) {
+        addCookie(response, name, sign(name, payload), maxAge);
+    }
+
+    public void clear(HttpServletResponse response, String name) {
+        addCookie(response, name, "", Duration.ZERO);
+    }
+
+    private void addCookie(HttpServletResponse response, String name, String value, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(name, value)
+                .path("/")
+                .httpOnly(true)
+                .secure(secure)
+                .sameSite(sameSite)
+                .maxAge(maxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private byte[] mac(String name, byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(name.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+}
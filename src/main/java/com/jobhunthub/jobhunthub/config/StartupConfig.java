@@ -0,0 +1,30 @@
+package com.jobhunthub.jobhunthub.config;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Startup settings for spring.main.lazy-initialization (on in the prod profile).
+ * Most beans, such as the OpenAI client, import/export and evaluation services,
+ * are then created on first use. The beans that must be ready before the first
+ * request are kept eager: the connection pool, the Flyway migrations and the
+ * JPA EntityManagerFactory, whose schema validation should fail the boot rather
+ * than the first request.
+ */
+@Configuration
+public class StartupConfig {
+
+    // Static so the filter is available when the lazy-init post-processor runs, before this class is instantiated
+    @Bean
+    public static LazyInitializationExcludeFilter eagerInfrastructureBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                DataSource.class, Flyway.class, FlywayMigrationInitializer.class, EntityManagerFactory.class);
+    }
+}
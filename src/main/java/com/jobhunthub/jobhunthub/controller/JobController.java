@@ -1,9 +1,17 @@
 package com.jobhunthub.jobhunthub.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,25 +20,47 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobhunthub.jobhunthub.config.UserPrincipal;
 import com.jobhunthub.jobhunthub.dto.CreateJobRequestDTO;
 import com.jobhunthub.jobhunthub.dto.JobDTO;
+import com.jobhunthub.jobhunthub.dto.JobFilterDTO;
+import com.jobhunthub.jobhunthub.dto.JobImportResultDTO;
+import com.jobhunthub.jobhunthub.dto.JobPageDTO;
+import com.jobhunthub.jobhunthub.dto.JobStatusBatchRequestDTO;
+import com.jobhunthub.jobhunthub.dto.JobStatusBatchResultDTO;
 import com.jobhunthub.jobhunthub.dto.UpdateJobRequestDTO;
 import com.jobhunthub.jobhunthub.model.Job;
+import com.jobhunthub.jobhunthub.service.JobExportService;
+import com.jobhunthub.jobhunthub.service.JobImportService;
 import com.jobhunthub.jobhunthub.service.JobService;
 
+import jakarta.servlet.http.HttpServletResponse;
+
 @RestController
 @RequestMapping("/api/jobs")
 public class JobController {
 
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+    private static final String CSV_CONTENT_TYPE = "text/csv";
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
     private final JobService jobService;
+    private final JobImportService jobImportService;
+    private final JobExportService jobExportService;
+    private final ObjectMapper objectMapper;
 
-    public JobController(JobService jobService) {
+    public JobController(JobService jobService, JobImportService jobImportService, JobExportService jobExportService,
+                         ObjectMapper objectMapper) {
         this.jobService = jobService;
-
+        this.jobImportService = jobImportService;
+        this.jobExportService = jobExportService;
+        this.objectMapper = objectMapper;
     }
 
     // CRUD Endpoints
@@ -42,6 +72,18 @@ public class JobController {
         return new ResponseEntity<>(createdJobDTO, HttpStatus.CREATED);
     }
 
+    // Import jobs from a CSV upload with a header row (title, company, location, optional status and createdAt)
+    @PostMapping(value = "/import", consumes = CSV_CONTENT_TYPE)
+    public ResponseEntity<JobImportResultDTO> importJobsCsv(InputStream body, @AuthenticationPrincipal UserPrincipal me) throws IOException {
+        return ResponseEntity.ok(jobImportService.importCsv(body, me.getDomainUser()));
+    }
+
+    // Import jobs from a JSON array of {title, company, location, status, createdAt} objects
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<JobImportResultDTO> importJobsJson(InputStream body, @AuthenticationPrincipal UserPrincipal me) throws IOException {
+        return ResponseEntity.ok(jobImportService.importJson(body, me.getDomainUser()));
+    }
+
     // Get all jobs
     @GetMapping
     public ResponseEntity<List<JobDTO>> getAllJobs(@AuthenticationPrincipal UserPrincipal me) {
@@ -49,6 +91,57 @@ public class JobController {
         return ResponseEntity.ok(jobDTOs);
     }
 
+    // Get one page of jobs, newest first (filters: status, company, from, to)
+    @GetMapping("/page")
+    public ResponseEntity<JobPageDTO> getJobPage(JobFilterDTO filter,
+                                                 @RequestParam(required = false) String cursor,
+                                                 @RequestParam(required = false) Integer limit,
+                                                 @AuthenticationPrincipal UserPrincipal me) {
+        return ResponseEntity.ok(jobService.getJobPage(me.getDomainUser(), filter, cursor, limit));
+    }
+
+    // Stream all jobs as newline-delimited JSON, writing each row as it is read
+    @GetMapping("/stream")
+    public void streamJobs(JobFilterDTO filter, @AuthenticationPrincipal UserPrincipal me, HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON_CONTENT_TYPE);
+        OutputStream out = response.getOutputStream();
+        jobService.streamJobs(me.getDomainUser(), filter, job -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(job));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
+    }
+
+    // Export all matching jobs as csv (default), ndjson or columnar, gzip-compressed when the client accepts it
+    @GetMapping("/export")
+    public void exportJobs(JobFilterDTO filter,
+                           @RequestParam(required = false) String format,
+                           @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                           @AuthenticationPrincipal UserPrincipal me,
+                           HttpServletResponse response) throws IOException {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        OutputStream[] opened = new OutputStream[1];
+        jobExportService.export(me.getDomainUser(), filter, JobExportService.Format.parse(format), exportFormat -> {
+            response.setContentType(exportFormat.contentType());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"jobs." + exportFormat.extension() + "\"");
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (gzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                opened[0] = new GZIPOutputStream(response.getOutputStream(), EXPORT_BUFFER_SIZE);
+            } else {
+                opened[0] = response.getOutputStream();
+            }
+            return opened[0];
+        });
+        if (opened[0] instanceof GZIPOutputStream compressed) {
+            compressed.finish();
+        }
+    }
+
     // Get job by id
     @GetMapping("/{id}")
     public ResponseEntity<JobDTO> getJobById(@PathVariable Long id, @AuthenticationPrincipal UserPrincipal me) {
@@ -63,6 +156,12 @@ public class JobController {
         return ResponseEntity.ok(updatedJobDTO);
     }
 
+    // Move several jobs to one status in a single request
+    @PutMapping("/status")
+    public ResponseEntity<JobStatusBatchResultDTO> updateJobStatuses(@RequestBody JobStatusBatchRequestDTO request, @AuthenticationPrincipal UserPrincipal me) {
+        return ResponseEntity.ok(jobService.updateStatuses(request, me.getDomainUser()));
+    }
+
     // Delete a job
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteJob(@PathVariable Long id, @AuthenticationPrincipal UserPrincipal me) {
@@ -89,4 +188,35 @@ public class JobController {
     public Map<String, Object> getDashboardStats(@AuthenticationPrincipal UserPrincipal me) {
         return Map.of("totalCount", jobService.getJobCountByUser(me.getDomainUser()), "appliedCount", jobService.getJobCountByUserAndStatus(me.getDomainUser(), Job.Status.APPLIED), "todayCount", jobService.getTodayCount(me.getDomainUser()), "interviewedCount", jobService.getJobCountByUserAndStatus(me.getDomainUser(), Job.Status.INTERVIEWED), "rejectedCount", jobService.getJobCountByUserAndStatus(me.getDomainUser(), Job.Status.REJECTED));
     }
+
+    // True if Accept-Encoding allows gzip: listed, or covered by *, with a q-value above zero
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.toLowerCase(Locale.ROOT).startsWith("q=")) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = q;
+            } else if (coding.equals("*")) {
+                any = q;
+            }
+        }
+        Double q = gzip != null ? gzip : any;
+        return q != null && q > 0;
+    }
 }
@@ -6,21 +6,26 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.jobhunthub.jobhunthub.config.UserPrincipal;
 import com.jobhunthub.jobhunthub.dto.ProfileDTO;
 import com.jobhunthub.jobhunthub.dto.UpdateProfileRequestDTO;
+import com.jobhunthub.jobhunthub.dto.UsernameAvailabilityDTO;
 import com.jobhunthub.jobhunthub.service.ProfileService;
+import com.jobhunthub.jobhunthub.service.UsernameAvailabilityService;
 
 @RestController
 @RequestMapping("/api/profile")
 public class ProfileController {
 
     private final ProfileService profileService;
+    private final UsernameAvailabilityService usernameAvailability;
 
-    public ProfileController(ProfileService profileService) {
+    public ProfileController(ProfileService profileService, UsernameAvailabilityService usernameAvailability) {
         this.profileService = profileService;
+        this.usernameAvailability = usernameAvailability;
     }
 
     // Get the current user's profile
@@ -39,4 +44,12 @@ public class ProfileController {
         ProfileDTO updatedProfile = profileService.updateProfile(me.getDomainUser(), updateRequest);
         return ResponseEntity.ok(updatedProfile);
     }
+
+    // Check whether a username is free, for live validation while the user types
+    @GetMapping("/username-availability")
+    public ResponseEntity<UsernameAvailabilityDTO> checkUsernameAvailability(
+            @AuthenticationPrincipal UserPrincipal me,
+            @RequestParam String username) {
+        return ResponseEntity.ok(usernameAvailability.check(username, me.getDomainUser()));
+    }
 }
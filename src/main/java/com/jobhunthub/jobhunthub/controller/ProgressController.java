@@ -3,7 +3,6 @@ package com.jobhunthub.jobhunthub.controller;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.HashMap;
-import java.util.Map;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -31,7 +30,7 @@ public class ProgressController {
 
     // Get weekly stats for a category (currently only jobs)
     @GetMapping("/{category}")
-    public ResponseEntity<Map<String, Object>> getWeeklyProgress(@PathVariable String category, @AuthenticationPrincipal UserPrincipal me) {
+    public ResponseEntity<?> getWeeklyProgress(@PathVariable String category, @AuthenticationPrincipal UserPrincipal me) {
         if (category.equals("jobs")) {
             LocalDate today = LocalDate.now(zoneId);
             return ResponseEntity.ok(jobService.getWeeklyJobStats(me.getDomainUser(), today.minusDays(6), today));
@@ -42,7 +41,7 @@ public class ProgressController {
 
     // Get all-time stats for a category (currently only jobs)
     @GetMapping("/{category}/all-time")
-    public ResponseEntity<Map<String, Object>> getAllTimeStats(@PathVariable String category, @AuthenticationPrincipal UserPrincipal me) {
+    public ResponseEntity<?> getAllTimeStats(@PathVariable String category, @AuthenticationPrincipal UserPrincipal me) {
         if (category.equals("jobs")) {
             return ResponseEntity.ok(jobService.getAllTimeJobStats(me.getDomainUser()));
         }
@@ -1,9 +1,11 @@
 package com.jobhunthub.jobhunthub.controller;
 
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,12 +15,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.jobhunthub.jobhunthub.config.UserPrincipal;
 import com.jobhunthub.jobhunthub.dto.EvaluateResponseRequest;
+import com.jobhunthub.jobhunthub.dto.EvaluationDTO;
 import com.jobhunthub.jobhunthub.dto.QuestionDTO;
 import com.jobhunthub.jobhunthub.model.Question;
 import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.service.EvaluationService;
 import com.jobhunthub.jobhunthub.service.QuestionService;
 
 
@@ -32,9 +37,11 @@ import com.jobhunthub.jobhunthub.service.QuestionService;
 public class QuestionController {
 
     private final QuestionService service;
+    private final EvaluationService evaluationService;
 
-    public QuestionController(QuestionService service) {
+    public QuestionController(QuestionService service, EvaluationService evaluationService) {
         this.service = service;
+        this.evaluationService = evaluationService;
     }
 
     // CRUD Endpoints
@@ -87,10 +94,53 @@ public class QuestionController {
         if (!request.isValid()) {
             return ResponseEntity.badRequest().build();
         }
-        Question result = service.evaluateResponse(request.getQuestion(), request.getResponse(), me.getDomainUser(), Question.QuestionType.valueOf(type.toUpperCase()));
+        Question result = service.evaluateResponse(request.getQuestion(), request.getResponse(), me.getDomainUser(), Question.QuestionType.valueOf(type.toUpperCase()), request.isReevaluate());
         return ResponseEntity.ok(result);
     }
 
+    // Submit user's response to the question with this id for AI evaluation
+    @PostMapping("/{type}/{id}/evaluate")
+    public ResponseEntity<Question> evaluateResponseById(@PathVariable String type, @PathVariable Long id, @RequestBody EvaluateResponseRequest request, @AuthenticationPrincipal UserPrincipal me) {
+        if (!request.hasResponse()) {
+            return ResponseEntity.badRequest().build();
+        }
+        Question result = service.evaluateResponse(id, request.getResponse(), me.getDomainUser(), Question.QuestionType.valueOf(type.toUpperCase()), request.isReevaluate());
+        return ResponseEntity.ok(result);
+    }
+
+    // Queue user's response for AI evaluation and return immediately with the evaluation id
+    @PostMapping("/{type}/evaluate/async")
+    public ResponseEntity<EvaluationDTO> evaluateResponseAsync(@PathVariable String type, @RequestBody EvaluateResponseRequest request, @AuthenticationPrincipal UserPrincipal me) {
+        if (!request.isValid()) {
+            return ResponseEntity.badRequest().build();
+        }
+        EvaluationDTO evaluation = evaluationService.submit(request.getQuestion(), request.getResponse(), me.getDomainUser(), Question.QuestionType.valueOf(type.toUpperCase()), request.isReevaluate());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/questions/evaluations/" + evaluation.id()))
+                .body(evaluation);
+    }
+
+    // Evaluate user's response, streaming feedback text as it is generated
+    @PostMapping(value = "/{type}/evaluate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> evaluateResponseStream(@PathVariable String type, @RequestBody EvaluateResponseRequest request, @AuthenticationPrincipal UserPrincipal me) {
+        if (!request.isValid()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(evaluationService.stream(request.getQuestion(), request.getResponse(), me.getDomainUser(), Question.QuestionType.valueOf(type.toUpperCase()), request.isReevaluate()));
+    }
+
+    // Poll the status of an asynchronous evaluation
+    @GetMapping("/evaluations/{id}")
+    public ResponseEntity<EvaluationDTO> getEvaluation(@PathVariable Long id, @AuthenticationPrincipal UserPrincipal me) {
+        return ResponseEntity.ok(evaluationService.getEvaluation(id, me.getDomainUser()));
+    }
+
+    // Subscribe to an asynchronous evaluation; sends one "evaluation" event when it finishes
+    @GetMapping(value = "/evaluations/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToEvaluation(@PathVariable Long id, @AuthenticationPrincipal UserPrincipal me) {
+        return evaluationService.subscribe(id, me.getDomainUser());
+    }
+
     // Reset all questions of specific type for user (marks them as unanswered)
     @PostMapping("/{type}/reset")
     public ResponseEntity<Void> resetQuestions(@PathVariable String type, @AuthenticationPrincipal UserPrincipal me) {
@@ -104,4 +154,11 @@ public class QuestionController {
         service.resetQuestionDate(request.get("question"), me.getDomainUser(), Question.QuestionType.valueOf(type.toUpperCase()));
         return ResponseEntity.ok().build();
     }
+
+    // Reset the question with this id (marks it as unanswered)
+    @PostMapping("/{type}/{id}/reset-date")
+    public ResponseEntity<Void> resetQuestionDateById(@PathVariable String type, @PathVariable Long id, @AuthenticationPrincipal UserPrincipal me) {
+        service.resetQuestionDate(id, me.getDomainUser(), Question.QuestionType.valueOf(type.toUpperCase()));
+        return ResponseEntity.ok().build();
+    }
 }
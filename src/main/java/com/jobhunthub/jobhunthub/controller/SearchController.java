@@ -0,0 +1,33 @@
+package com.jobhunthub.jobhunthub.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.jobhunthub.jobhunthub.config.UserPrincipal;
+import com.jobhunthub.jobhunthub.dto.SearchPageDTO;
+import com.jobhunthub.jobhunthub.service.SearchService;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    // Ranked search over the user's jobs and questions; every word matches as a prefix (type: all, jobs, questions)
+    @GetMapping
+    public ResponseEntity<SearchPageDTO> search(@RequestParam("q") String query,
+                                                @RequestParam(defaultValue = "all") String type,
+                                                @RequestParam(defaultValue = "0") int page,
+                                                @RequestParam(defaultValue = "20") int size,
+                                                @AuthenticationPrincipal UserPrincipal me) {
+        return ResponseEntity.ok(searchService.search(query, type, page, size, me.getDomainUser()));
+    }
+}
@@ -0,0 +1,26 @@
+package com.jobhunthub.jobhunthub.dto;
+
+import com.jobhunthub.jobhunthub.model.UserJobStats;
+
+// All-time job stats for the progress page
+public record AllTimeJobStatsDTO(
+        long total,
+        String average,
+        long bestDay,
+        long applied,
+        long interviewed,
+        long rejected
+) {
+    public static AllTimeJobStatsDTO fromEntity(UserJobStats stats) {
+        // Daily average over days with at least one application
+        double average = stats.getDistinctDays() > 0 ? (double) stats.getTotal() / stats.getDistinctDays() : 0.0;
+        return new AllTimeJobStatsDTO(
+                stats.getTotal(),
+                String.format("%.1f", average),
+                stats.getBestDayCount(),
+                stats.getApplied(),
+                stats.getInterviewed(),
+                stats.getRejected()
+        );
+    }
+}
@@ -12,9 +12,14 @@ import lombok.Setter;
 public class EvaluateResponseRequest {
     private String question;
     private String response;
+    private boolean reevaluate; // skip the evaluation cache and ask OpenAI again
 
     public boolean isValid() {
-        return question != null && !question.trim().isEmpty()
-                && response != null && !response.trim().isEmpty();
+        return question != null && !question.trim().isEmpty() && hasResponse();
+    }
+
+    // Requests naming the question by id only carry the response
+    public boolean hasResponse() {
+        return response != null && !response.trim().isEmpty();
     }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.jobhunthub.jobhunthub.dto;
+
+import com.jobhunthub.jobhunthub.model.Evaluation;
+
+// Status and result of an asynchronous evaluation; rating and feedback are null until COMPLETED
+public record EvaluationDTO(
+        Long id,
+        Long questionId,
+        String status,
+        Integer rating,
+        String feedback
+) {
+    public static EvaluationDTO fromEntity(Evaluation evaluation) {
+        return new EvaluationDTO(
+                evaluation.getId(),
+                evaluation.getQuestion() != null ? evaluation.getQuestion().getId() : null,
+                evaluation.getStatus() != null ? evaluation.getStatus().name() : null,
+                evaluation.getRating(),
+                evaluation.getFeedback()
+        );
+    }
+}
@@ -20,6 +20,11 @@ public class JobDTO {
     private LocalDate createdAt;
     private Long userId;
 
+    // Used by the JPQL constructor projections in JobRepository
+    public JobDTO(Long id, String title, String company, String location, Job.Status status, LocalDate createdAt, Long userId) {
+        this(id, title, company, location, status != null ? status.name() : null, createdAt, userId);
+    }
+
     public static JobDTO fromEntity(Job job) {
         if (job == null) {
             return null;
@@ -0,0 +1,17 @@
+package com.jobhunthub.jobhunthub.dto;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+// Optional filters for job listings; null fields are ignored
+public record JobFilterDTO(
+        String status,
+        String company,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+) {
+    public static JobFilterDTO none() {
+        return new JobFilterDTO(null, null, null, null);
+    }
+}
@@ -0,0 +1,13 @@
+package com.jobhunthub.jobhunthub.dto;
+
+import java.util.List;
+
+// Outcome of a bulk import; errors lists the first rejected rows (CSV line or 1-based JSON array position)
+public record JobImportResultDTO(
+        long imported,
+        long failed,
+        List<RowError> errors
+) {
+    public record RowError(long row, String message) {
+    }
+}
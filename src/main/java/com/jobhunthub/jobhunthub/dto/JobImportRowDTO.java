@@ -0,0 +1,11 @@
+package com.jobhunthub.jobhunthub.dto;
+
+// One job from a bulk import; status and createdAt (yyyy-MM-dd) are optional and parsed per row
+public record JobImportRowDTO(
+        String title,
+        String company,
+        String location,
+        String status,
+        String createdAt
+) {
+}
@@ -0,0 +1,10 @@
+package com.jobhunthub.jobhunthub.dto;
+
+import java.util.List;
+
+// One page of jobs; nextCursor is null when there are no more results
+public record JobPageDTO(
+        List<JobDTO> jobs,
+        String nextCursor
+) {
+}
@@ -0,0 +1,10 @@
+package com.jobhunthub.jobhunthub.dto;
+
+import java.util.List;
+
+// Move several of the user's jobs to one status
+public record JobStatusBatchRequestDTO(
+        List<Long> ids,
+        String status
+) {
+}
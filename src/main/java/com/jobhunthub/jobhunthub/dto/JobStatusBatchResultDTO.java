@@ -0,0 +1,12 @@
+package com.jobhunthub.jobhunthub.dto;
+
+import java.util.List;
+
+// Outcome of a batch status change; notFound holds ids that do not exist or belong to another user
+public record JobStatusBatchResultDTO(
+        String status,
+        List<Long> updated,
+        List<Long> unchanged,
+        List<Long> notFound
+) {
+}
@@ -0,0 +1,12 @@
+package com.jobhunthub.jobhunthub.dto;
+
+import java.util.List;
+
+// One page of search results, best match first; hasMore is true when a further page exists
+public record SearchPageDTO(
+        List<SearchResultDTO> results,
+        int page,
+        int size,
+        boolean hasMore
+) {
+}
@@ -0,0 +1,11 @@
+package com.jobhunthub.jobhunthub.dto;
+
+// One search hit: a job (title, company) or a question (question text, question type), with its rank
+public record SearchResultDTO(
+        String type,
+        Long id,
+        String title,
+        String detail,
+        double score
+) {
+}
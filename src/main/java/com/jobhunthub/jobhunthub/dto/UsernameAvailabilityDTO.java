@@ -0,0 +1,10 @@
+package com.jobhunthub.jobhunthub.dto;
+
+/**
+ * Result of a username availability check.
+ */
+public record UsernameAvailabilityDTO(
+        String username,
+        boolean available
+) {
+}
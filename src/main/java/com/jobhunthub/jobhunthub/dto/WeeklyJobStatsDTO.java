@@ -0,0 +1,16 @@
+package com.jobhunthub.jobhunthub.dto;
+
+import java.util.List;
+
+// Weekly dashboard stats: one chart point per day plus overall totals
+public record WeeklyJobStatsDTO(
+        List<ChartPoint> chartData,
+        long total,
+        long todayCount,
+        long applied,
+        long interviewed,
+        long rejected
+) {
+    public record ChartPoint(String date, long count) {
+    }
+}
@@ -52,6 +52,18 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         public DataIntegrityViolationException(String message) { super(message); }
     }
 
+    public static class ServiceUnavailableException extends RuntimeException {
+        public ServiceUnavailableException(String message) {
+            super(message);
+        }
+    }
+
+    public static class TooManyRequestsException extends RuntimeException {
+        public TooManyRequestsException(String message) {
+            super(message);
+        }
+    }
+
     // Handles 401 Unauthorized
     @ExceptionHandler(AuthenticationException.class)
     public ResponseEntity<Object> handleAuthenticationException(AuthenticationException ex, WebRequest request) {
@@ -99,6 +111,30 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 new HttpHeaders(), HttpStatus.BAD_REQUEST, request);
     }
 
+    // Handles 429 Too Many Requests (rate limits)
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<Object> handleTooManyRequestsException(TooManyRequestsException ex, WebRequest request) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.TOO_MANY_REQUESTS,
+                ex.getMessage()
+        );
+        problemDetail.setTitle("Too Many Requests");
+        return handleExceptionInternal(ex, problemDetail,
+                new HttpHeaders(), HttpStatus.TOO_MANY_REQUESTS, request);
+    }
+
+    // Handles 503 Service Unavailable (overloaded or failing dependencies)
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Object> handleServiceUnavailableException(ServiceUnavailableException ex, WebRequest request) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                ex.getMessage()
+        );
+        problemDetail.setTitle("Service Unavailable");
+        return handleExceptionInternal(ex, problemDetail,
+                new HttpHeaders(), HttpStatus.SERVICE_UNAVAILABLE, request);
+    }
+
     // Catches validation errors and returns field-specific messages
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(
@@ -0,0 +1,54 @@
+package com.jobhunthub.jobhunthub.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Persistent tier of the evaluation cache: the raw OpenAI evaluation for a
+ * hash of (type, prompt version, normalized question, normalized response).
+ */
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "evaluation_cache")
+public class EvaluationCacheEntry {
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String evaluation;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    // Getters and Setters
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
+    public void setCacheKey(String cacheKey) {
+        this.cacheKey = cacheKey;
+    }
+
+    public String getEvaluation() {
+        return evaluation;
+    }
+
+    public void setEvaluation(String evaluation) {
+        this.evaluation = evaluation;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
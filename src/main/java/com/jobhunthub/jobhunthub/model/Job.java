@@ -1,6 +1,8 @@
 package com.jobhunthub.jobhunthub.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
@@ -8,19 +10,33 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "jobs")
 @Builder
-@Table(name = "jobs")
+@Table(name = "jobs") // indexes are created by the Flyway migrations in db/migration
 @NoArgsConstructor
 @AllArgsConstructor
 public class Job {
+    // Pooled sequence: one round trip reserves 50 ids, so Hibernate can batch inserts (IDENTITY cannot)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jobs_seq")
+    @SequenceGenerator(name = "jobs_seq", sequenceName = "jobs_seq", allocationSize = 50)
     private Long id;
 
     private String title;
     private String company;
     private String location;
 
+    // Normalized form of location, filled in by LocationValidator
+    @Column(name = "location_city", length = 100)
+    private String locationCity;
+
+    @Column(name = "location_state", length = 2)
+    private String locationState;
+
+    @Column(name = "remote")
+    private Boolean remote;
+
     @Enumerated(EnumType.STRING)
     private Status status; // APPLIED, REJECTED, INTERVIEWED
 
@@ -64,6 +80,30 @@ public class Job {
         this.location = location;
     }
 
+    public String getLocationCity() {
+        return locationCity;
+    }
+
+    public void setLocationCity(String locationCity) {
+        this.locationCity = locationCity;
+    }
+
+    public String getLocationState() {
+        return locationState;
+    }
+
+    public void setLocationState(String locationState) {
+        this.locationState = locationState;
+    }
+
+    public Boolean getRemote() {
+        return remote;
+    }
+
+    public void setRemote(Boolean remote) {
+        this.remote = remote;
+    }
+
     public Status getStatus() {
         return status;
     }
@@ -1,5 +1,11 @@
 package com.jobhunthub.jobhunthub.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -12,6 +18,8 @@ import lombok.Builder;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "profiles")
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,7 +29,8 @@ public class Profile {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    // A first login persists a new user through its profile, so one save writes both rows
+    @ManyToOne(cascade = CascadeType.PERSIST)
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -31,6 +40,7 @@ public class Profile {
 
     private String googleEmail;
 
+    @Column(unique = true)
     private String username;
 
     private String avatarUrl;
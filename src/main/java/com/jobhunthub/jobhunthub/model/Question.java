@@ -1,17 +1,30 @@
 package com.jobhunthub.jobhunthub.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
 import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "questions")
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "questions")
+@Table(name = "questions") // indexes are created by the Flyway migrations in db/migration
 public class Question {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,6 +36,10 @@ public class Question {
     @Column(length = 500)
     private String question;
 
+    // SHA-256 of the normalized question text; unique per user and type, and the key for lookups by text
+    @Column(name = "question_hash", length = 64)
+    private String questionHash;
+
     @Column(name = "updated_at")
     private LocalDate updatedAt;
 
@@ -35,10 +52,44 @@ public class Question {
     @Column(columnDefinition = "TEXT")
     private String feedback;
 
+    // Uniform random sort key in [0, 1) used to sample questions through an index
+    @Column(name = "random_key")
+    private Double randomKey;
+
     @ManyToOne
     @JoinColumn(name = "user_id")
     private User user;
 
+    @PrePersist
+    void beforeInsert() {
+        if (randomKey == null) {
+            randomKey = ThreadLocalRandom.current().nextDouble();
+        }
+        questionHash = question != null ? contentHash(question) : null;
+    }
+
+    // Rows left without a hash by migration V7 (QuestionHashMigration) are duplicates and keep it null
+    @PreUpdate
+    void beforeUpdate() {
+        if (questionHash != null) {
+            questionHash = question != null ? contentHash(question) : null;
+        }
+    }
+
+    // Hash identifying a question's text; case, Unicode form and whitespace differences are ignored
+    public static String contentHash(String question) {
+        String normalized = Normalizer.normalize(question, Normalizer.Form.NFKC)
+                .trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -56,6 +107,15 @@ public class Question {
         this.question = question;
     }
 
+    @JsonIgnore
+    public String getQuestionHash() {
+        return questionHash;
+    }
+
+    public void setQuestionHash(String questionHash) {
+        this.questionHash = questionHash;
+    }
+
     public LocalDate getUpdatedAt() {
         return updatedAt;
     }
@@ -96,6 +156,14 @@ public class Question {
         this.type = type;
     }
 
+    public Double getRandomKey() {
+        return randomKey;
+    }
+
+    public void setRandomKey(Double randomKey) {
+        this.randomKey = randomKey;
+    }
+
     public User getUser() {
         return user;
     }
@@ -0,0 +1,71 @@
+package com.jobhunthub.jobhunthub.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-user, per-day job histogram backing the distinct-days and best-day
+ * values in {@link UserJobStats}. Rows are removed when their count drops to zero.
+ */
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(UserJobDailyCount.Key.class)
+@Table(name = "user_job_daily_counts")
+public class UserJobDailyCount {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "job_date")
+    private LocalDate jobDate;
+
+    @Column(name = "job_count")
+    private long jobCount;
+
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDate getJobDate() {
+        return jobDate;
+    }
+
+    public void setJobDate(LocalDate jobDate) {
+        this.jobDate = jobDate;
+    }
+
+    public long getJobCount() {
+        return jobCount;
+    }
+
+    public void setJobCount(long jobCount) {
+        this.jobCount = jobCount;
+    }
+
+    // Composite primary key (user_id, job_date)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private LocalDate jobDate;
+    }
+}
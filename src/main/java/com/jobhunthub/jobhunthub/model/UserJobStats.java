@@ -0,0 +1,102 @@
+package com.jobhunthub.jobhunthub.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-user rollup of job stats, kept current by JobService writes so the
+ * all-time progress view is a single primary-key lookup.
+ */
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "user_job_stats")
+public class UserJobStats {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    private long total;
+
+    @Column(name = "distinct_days")
+    private long distinctDays;
+
+    @Column(name = "best_day_count")
+    private long bestDayCount;
+
+    private long applied;
+    private long interviewed;
+    private long rejected;
+
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public long getDistinctDays() {
+        return distinctDays;
+    }
+
+    public void setDistinctDays(long distinctDays) {
+        this.distinctDays = distinctDays;
+    }
+
+    public long getBestDayCount() {
+        return bestDayCount;
+    }
+
+    public void setBestDayCount(long bestDayCount) {
+        this.bestDayCount = bestDayCount;
+    }
+
+    public long getApplied() {
+        return applied;
+    }
+
+    public void setApplied(long applied) {
+        this.applied = applied;
+    }
+
+    public long getInterviewed() {
+        return interviewed;
+    }
+
+    public void setInterviewed(long interviewed) {
+        this.interviewed = interviewed;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    // Adds delta to the counter for the given status
+    public void adjustStatus(Job.Status status, long delta) {
+        switch (status) {
+            case APPLIED -> applied += delta;
+            case INTERVIEWED -> interviewed += delta;
+            case REJECTED -> rejected += delta;
+        }
+    }
+}
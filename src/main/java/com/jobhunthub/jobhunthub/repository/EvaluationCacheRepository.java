@@ -0,0 +1,22 @@
+package com.jobhunthub.jobhunthub.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jobhunthub.jobhunthub.model.EvaluationCacheEntry;
+
+public interface EvaluationCacheRepository extends JpaRepository<EvaluationCacheEntry, String> {
+    // Cached evaluation for a key, ignoring entries written before the cutoff
+    Optional<EvaluationCacheEntry> findByCacheKeyAndCreatedAtAfter(String cacheKey, Instant cutoff);
+
+    // Delete the entries written before the cutoff, which lookups no longer return
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM EvaluationCacheEntry e WHERE e.createdAt < :cutoff")
+    int deleteByCreatedAtBefore(Instant cutoff);
+}
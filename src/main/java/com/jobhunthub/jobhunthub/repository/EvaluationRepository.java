@@ -0,0 +1,20 @@
+package com.jobhunthub.jobhunthub.repository;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jobhunthub.jobhunthub.model.Evaluation;
+
+public interface EvaluationRepository extends JpaRepository<Evaluation, Long> {
+    // Fail the evaluations still PENDING that were created before the cutoff
+    @Modifying
+    @Transactional
+    @Query("UPDATE Evaluation e SET e.status = com.jobhunthub.jobhunthub.model.Evaluation.Status.FAILED, " +
+            "e.feedback = :feedback, e.completedAt = :now " +
+            "WHERE e.status = com.jobhunthub.jobhunthub.model.Evaluation.Status.PENDING AND e.createdAt < :cutoff")
+    int failPendingCreatedBefore(Instant cutoff, String feedback, Instant now);
+}
@@ -1,47 +1,105 @@
 package com.jobhunthub.jobhunthub.repository;
 
+import com.jobhunthub.jobhunthub.config.CacheConfig;
+import com.jobhunthub.jobhunthub.dto.JobDTO;
 import com.jobhunthub.jobhunthub.model.Job;
 import com.jobhunthub.jobhunthub.model.User;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 import java.time.LocalDate;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
+    // DTO projection shared by the paged and streamed listings (no managed entities are created)
+    String JOB_DTO_SELECT = "SELECT new com.jobhunthub.jobhunthub.dto.JobDTO(" +
+            "j.id, j.title, j.company, j.location, j.status, j.createdAt, j.user.id) FROM Job j ";
+
+    // Optional filters: a null parameter disables its condition
+    String JOB_FILTERS = "WHERE j.user = :user " +
+            "AND (:status IS NULL OR j.status = :status) " +
+            "AND (:company IS NULL OR LOWER(j.company) = LOWER(:company)) " +
+            "AND (:fromDate IS NULL OR j.createdAt >= :fromDate) " +
+            "AND (:toDate IS NULL OR j.createdAt <= :toDate) ";
+
     // Find all jobs for a user
     List<Job> findByUser(User user);
 
+    // Get one page of jobs, newest first, starting after the (createdAt, id) cursor
+    @Query(JOB_DTO_SELECT + JOB_FILTERS +
+            "AND (:cursorDate IS NULL OR j.createdAt < :cursorDate " +
+            "OR (j.createdAt = :cursorDate AND j.id < :cursorId)) " +
+            "ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobDTO> findPageByUser(User user, Job.Status status, String company, LocalDate fromDate, LocalDate toDate,
+                                LocalDate cursorDate, Long cursorId, Limit limit);
+
+    // Stream all matching jobs, newest first, fetching rows from the JDBC cursor in chunks
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(JOB_DTO_SELECT + JOB_FILTERS + "ORDER BY j.createdAt DESC, j.id DESC")
+    Stream<JobDTO> streamByUser(User user, Job.Status status, String company, LocalDate fromDate, LocalDate toDate);
+
+    // Jobs saved before locations were parsed, in id order after a keyset position
+    @Query("SELECT j FROM Job j WHERE j.location IS NOT NULL AND j.locationState IS NULL AND j.remote IS NULL " +
+            "AND j.id > :afterId ORDER BY j.id")
+    List<Job> findWithoutParsedLocation(Long afterId, Limit limit);
+
+    // Get (id, status) for the given ids, limited to jobs the user owns
+    @Query("SELECT j.id, j.status FROM Job j WHERE j.user = :user AND j.id IN :ids")
+    List<Object[]> findStatusesByUserAndIdIn(User user, Collection<Long> ids);
+
+    // Set the status of several jobs in one statement; ownership is enforced in the WHERE clause
+    @Modifying
+    @Query("UPDATE Job j SET j.status = :status WHERE j.user = :user AND j.id IN :ids")
+    int updateStatusByUserAndIdIn(User user, Collection<Long> ids, Job.Status status);
+
+    // Counts are cached until the next write to jobs
     // Count total jobs for a user
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = CacheConfig.JOB_COUNTS)
+    })
     long countByUser(User user);
 
     // Count jobs by status for a user
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = CacheConfig.JOB_COUNTS)
+    })
     long countByUserAndStatus(User user, Job.Status status);
 
     // Count jobs created on a specific date for a user
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = CacheConfig.JOB_COUNTS)
+    })
     long countByCreatedAtAndUser(LocalDate createdAt, User user);
 
-    // Get daily job counts within a date range
-    @Query("SELECT j.createdAt as date, COUNT(j) as count FROM Job j " +
-            "WHERE j.user = :user AND j.createdAt BETWEEN :startDate AND :endDate " +
-            "GROUP BY j.createdAt " +
-            "ORDER BY j.createdAt")
-    List<Object[]> getJobCountsByDateRange(User user, LocalDate startDate, LocalDate endDate);
-
-    // Get count of jobs by status
-    @Query("SELECT j.status, COUNT(j) FROM Job j WHERE j.user = :user GROUP BY j.status")
-    List<Object[]> getStatusCounts(User user);
-
-    // Get highest number of jobs submitted in a single day
-    @Query("SELECT MAX(cnt) FROM " +
-            "(SELECT COUNT(j) as cnt FROM Job j " +
-            "WHERE j.user = :user " +
-            "GROUP BY j.createdAt)")
-    Integer findBestDayCount(User user);
-
-    // Get count of distinct days with job submissions
-    @Query("SELECT COUNT(DISTINCT j.createdAt) FROM Job j WHERE j.user = :user")
-    Long countDistinctDates(User user);
+    // Get job counts per (day, status) in one round-trip; days outside the range (and not today)
+    // collapse into a single null bucket, so totals and status counts come from the same rows
+    @Query("SELECT d.bucketDate, d.status, COUNT(*) FROM " +
+            "(SELECT CASE WHEN j.createdAt BETWEEN :startDate AND :endDate OR j.createdAt = :today " +
+            "THEN j.createdAt END AS bucketDate, j.status AS status FROM Job j " +
+            "WHERE j.user = :user) d " +
+            "GROUP BY d.bucketDate, d.status")
+    List<Object[]> getDailyStatusCounts(User user, LocalDate startDate, LocalDate endDate, LocalDate today);
+
+    // Get job counts per (createdAt, status) across the user's whole history, used to rebuild the stats rollup
+    @Query("SELECT j.createdAt, j.status, COUNT(j) FROM Job j WHERE j.user = :user GROUP BY j.createdAt, j.status")
+    List<Object[]> getCountsByDateAndStatus(User user);
 }
@@ -1,18 +1,36 @@
 package com.jobhunthub.jobhunthub.repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import com.jobhunthub.jobhunthub.config.CacheConfig;
 import com.jobhunthub.jobhunthub.model.User;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.jobhunthub.jobhunthub.model.Profile;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
     /** Lookup the profile for a given user. */
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = CacheConfig.PROFILES_BY_USER)
+    })
     Optional<Profile> findByUser(User user);
 
     /** Convenience lookup by user’s PK. */
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = CacheConfig.PROFILES_BY_USER)
+    })
     Optional<Profile> findByUser_Id(Long userId);
 
     /** Prevent two profiles sharing the same primary email. */
@@ -26,4 +44,18 @@ public interface ProfileRepository extends JpaRepository<Profile, Long> {
 
     /** Enforce unique usernames. */
     boolean existsByUsername(String username);
+
+    /** Username taken by someone other than the given user (backed by the unique username index). */
+    boolean existsByUsernameAndUser_IdNot(String username, Long userId);
+
+    /** Number of profiles with a username, used to size the username filter. */
+    long countByUsernameIsNotNull();
+
+    /** Stream every username to rebuild the username filter; needs an open transaction. */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p.username FROM Profile p WHERE p.username IS NOT NULL")
+    Stream<String> streamUsernames();
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.jobhunthub.jobhunthub.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.jobhunthub.jobhunthub.model.Question;
+
+/**
+ * Migration V7: gives the questions stored before migration V6 their
+ * question_hash, so lookups by text and the duplicate check cover them from
+ * the first request. The hash is Question.contentHash (NFKC, Unicode case
+ * folding), which SQL cannot reproduce, hence a Java migration. Rows are read
+ * per user and type, oldest first; a row whose hash an older row already has
+ * (a duplicate from before the unique key) keeps a null hash, so the original
+ * question and its answer history stay reachable by text. Declared as a bean
+ * so Spring Boot hands it to Flyway for both databases.
+ */
+@Component
+public class QuestionHashMigration implements JavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+    private static final Logger logger = LoggerFactory.getLogger(QuestionHashMigration.class);
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("7");
+    }
+
+    @Override
+    public String getDescription() {
+        return "hash existing questions";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        long[] counts = hashExisting(context.getConnection());
+        if (counts[0] > 0) {
+            logger.info("Assigned question hashes to {} questions; {} duplicates left without one",
+                    counts[0] - counts[1], counts[1]);
+        }
+    }
+
+    // Returns {rows read, duplicates left without a hash}
+    static long[] hashExisting(Connection connection) throws SQLException {
+        long read = 0;
+        long duplicates = 0;
+        try (PreparedStatement select = connection.prepareStatement("SELECT id, user_id, type, question FROM questions " +
+                     "WHERE question_hash IS NULL AND question IS NOT NULL ORDER BY user_id, type, id");
+             PreparedStatement update = connection.prepareStatement("UPDATE questions SET question_hash = ? WHERE id = ?")) {
+            // Streams the rows instead of loading the table (PostgreSQL only honours it inside a transaction)
+            select.setFetchSize(BATCH_SIZE);
+            Object groupUser = null;
+            Object groupType = null;
+            Set<String> groupHashes = new HashSet<>();
+            int pending = 0;
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    read++;
+                    Object user = rows.getObject(2);
+                    Object type = rows.getObject(3);
+                    if (read == 1 || !Objects.equals(user, groupUser) || !Objects.equals(type, groupType)) {
+                        groupUser = user;
+                        groupType = type;
+                        groupHashes.clear();
+                    }
+                    String hash = Question.contentHash(rows.getString(4));
+                    if (!groupHashes.add(hash)) {
+                        duplicates++;
+                        continue;
+                    }
+                    update.setString(1, hash);
+                    update.setLong(2, rows.getLong(1));
+                    update.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        update.executeBatch();
+                        pending = 0;
+                    }
+                }
+            }
+            if (pending > 0) {
+                update.executeBatch();
+            }
+        }
+        return new long[]{read, duplicates};
+    }
+}
@@ -1,36 +1,74 @@
 package com.jobhunthub.jobhunthub.repository;
 
+import com.jobhunthub.jobhunthub.config.CacheConfig;
 import com.jobhunthub.jobhunthub.model.Question;
 import com.jobhunthub.jobhunthub.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import com.jobhunthub.jobhunthub.model.Question.QuestionType;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 import java.time.LocalDate;
 import java.util.List;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 @Repository
-public interface QuestionRepository extends JpaRepository<Question, Long> {
+public interface QuestionRepository extends JpaRepository<Question, Long>, QuestionRepositoryCustom {
     // Count completed questions for a specific date, user, and question type
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = CacheConfig.QUESTION_LOOKUPS)
+    })
     @Query("SELECT COUNT(DISTINCT q.question) FROM Question q WHERE q.updatedAt = :date AND q.user = :user AND q.type = :type")
     long countByDateAndUserAndType(LocalDate date, User user, QuestionType type);
 
-    // Find a random unanswered question for today
-    @Query(value = "SELECT * FROM questions WHERE (updated_at <> CURRENT_DATE OR updated_at IS NULL) " +
-            "AND user_id = :userId AND type = :type ORDER BY RANDOM() LIMIT 1", nativeQuery = true)
-    Question findRandomQuestionForUserAndType(Long userId, String type);
+    // Find the first unanswered question at or after a random_key position. Never-answered and answered-before-today
+    // rows are probed separately so PostgreSQL can range-scan one partial index for each, with no sort.
+    // ORDER BY repeats the index's leading columns so H2 also reads the index in order instead of sorting.
+    @Query(value = "SELECT * FROM (" +
+            "(SELECT * FROM questions WHERE user_id = :userId AND type = :type AND random_key >= :start " +
+            "AND updated_at IS NULL ORDER BY user_id, type, random_key LIMIT 1) " +
+            "UNION ALL " +
+            "(SELECT * FROM questions WHERE user_id = :userId AND type = :type AND random_key >= :start " +
+            "AND updated_at <> CURRENT_DATE ORDER BY user_id, type, random_key LIMIT 1)" +
+            ") candidates ORDER BY random_key LIMIT 1", nativeQuery = true)
+    Question findNextUnansweredByRandomKey(Long userId, String type, double start);
+
+    // Give rows created before the random_key column existed a key
+    @Modifying
+    @Query(value = "UPDATE questions SET random_key = RANDOM() WHERE random_key IS NULL", nativeQuery = true)
+    int assignMissingRandomKeys();
 
     // Reset all questions to unanswered state for a user and type
     @Modifying
     @Query("UPDATE Question t SET t.updatedAt = NULL WHERE t.user = :user AND t.type = :type")
     void resetAllDatesForUserAndType(User user, QuestionType type);
 
-    // Find a specific question by its text, user, and type
-    @Query("SELECT t FROM Question t WHERE t.question = :question AND t.user = :user AND t.type = :type")
-    Question findByQuestionAndUserAndType(String question, User user, QuestionType type);
+    // Find a specific question by the hash of its text (Question.contentHash), user, and type
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = CacheConfig.QUESTION_LOOKUPS)
+    })
+    @Query("SELECT t FROM Question t WHERE t.questionHash = :questionHash AND t.user = :user AND t.type = :type")
+    Question findByQuestionHashAndUserAndType(String questionHash, User user, QuestionType type);
+
+    boolean existsByQuestionHashAndUserAndType(String questionHash, User user, QuestionType type);
+
+    // Questions stored before question_hash existed, in id order after a keyset position
+    @Query("SELECT t FROM Question t WHERE t.questionHash IS NULL AND t.question IS NOT NULL AND t.id > :afterId ORDER BY t.id")
+    List<Question> findWithoutQuestionHash(Long afterId, Limit limit);
 
     // Get all questions for a specific user and type
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = CacheConfig.QUESTION_LOOKUPS)
+    })
     List<Question> findByUserAndType(User user, QuestionType type);
 } 
\ No newline at end of file
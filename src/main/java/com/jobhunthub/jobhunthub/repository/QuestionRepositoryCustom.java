@@ -0,0 +1,9 @@
+package com.jobhunthub.jobhunthub.repository;
+
+import com.jobhunthub.jobhunthub.model.Question.QuestionType;
+
+public interface QuestionRepositoryCustom {
+
+    // Insert a question unless the user already has one of this type with the same hash; true if inserted
+    boolean insertIfAbsent(Long userId, QuestionType type, String question, String questionHash, double randomKey);
+}
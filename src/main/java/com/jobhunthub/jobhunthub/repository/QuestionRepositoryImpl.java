@@ -0,0 +1,53 @@
+package com.jobhunthub.jobhunthub.repository;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jobhunthub.jobhunthub.model.Question;
+import com.jobhunthub.jobhunthub.model.Question.QuestionType;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Duplicate-free question inserts in one statement, backed by the unique key
+ * on (user_id, type, question_hash). PostgreSQL skips a conflicting row with
+ * ON CONFLICT DO NOTHING, so concurrent adds of the same question cannot
+ * both succeed or fail with an error. H2 has no ON CONFLICT outside its
+ * PostgreSQL mode; there the insert is guarded by NOT EXISTS, and a
+ * concurrent duplicate is still stopped by the unique key.
+ */
+public class QuestionRepositoryImpl implements QuestionRepositoryCustom {
+
+    private static final String POSTGRES_INSERT =
+            "INSERT INTO questions (user_id, type, question, question_hash, random_key) " +
+            "VALUES (:userId, :type, :question, :hash, :randomKey) " +
+            "ON CONFLICT (user_id, type, question_hash) DO NOTHING";
+    private static final String GUARDED_INSERT =
+            "INSERT INTO questions (user_id, type, question, question_hash, random_key) " +
+            "SELECT :userId, :type, :question, :hash, :randomKey FROM (VALUES (0)) one " +
+            "WHERE NOT EXISTS (SELECT 1 FROM questions " +
+            "WHERE user_id = :userId AND type = :type AND question_hash = :hash)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public boolean insertIfAbsent(Long userId, QuestionType type, String question, String questionHash, double randomKey) {
+        boolean postgres = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+        // Declaring the entity limits cache invalidation to the questions table
+        return entityManager.createNativeQuery(postgres ? POSTGRES_INSERT : GUARDED_INSERT)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Question.class)
+                .setParameter("userId", userId)
+                .setParameter("type", type.name())
+                .setParameter("question", question)
+                .setParameter("hash", questionHash)
+                .setParameter("randomKey", randomKey)
+                .executeUpdate() == 1;
+    }
+}
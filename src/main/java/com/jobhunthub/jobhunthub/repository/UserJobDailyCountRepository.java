@@ -0,0 +1,24 @@
+package com.jobhunthub.jobhunthub.repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.jobhunthub.jobhunthub.model.UserJobDailyCount;
+
+public interface UserJobDailyCountRepository extends JpaRepository<UserJobDailyCount, UserJobDailyCount.Key> {
+    /** Lookup the histogram row for one user and day. */
+    Optional<UserJobDailyCount> findByUserIdAndJobDate(Long userId, LocalDate jobDate);
+
+    /** Highest single-day count for a user, or null if the user has no rows. */
+    @Query("SELECT MAX(d.jobCount) FROM UserJobDailyCount d WHERE d.userId = :userId")
+    Long findMaxJobCount(Long userId);
+
+    /** Remove all histogram rows for a user (used by rebuilds). */
+    @Modifying
+    @Query("DELETE FROM UserJobDailyCount d WHERE d.userId = :userId")
+    void deleteByUserId(Long userId);
+}
@@ -0,0 +1,18 @@
+package com.jobhunthub.jobhunthub.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import com.jobhunthub.jobhunthub.model.UserJobStats;
+
+import jakarta.persistence.LockModeType;
+
+public interface UserJobStatsRepository extends JpaRepository<UserJobStats, Long>, UserJobStatsRepositoryCustom {
+    /** Load a user's rollup row with a write lock so concurrent job writes apply in order. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserJobStats s WHERE s.userId = :userId")
+    Optional<UserJobStats> findByIdForUpdate(Long userId);
+}
@@ -0,0 +1,7 @@
+package com.jobhunthub.jobhunthub.repository;
+
+public interface UserJobStatsRepositoryCustom {
+
+    // Insert an all-zero rollup row for the user unless one exists; true if inserted
+    boolean insertIfAbsent(Long userId);
+}
@@ -0,0 +1,51 @@
+package com.jobhunthub.jobhunthub.repository;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jobhunthub.jobhunthub.model.UserJobStats;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Creates a user's rollup row so there is always a row to lock before it is
+ * rebuilt. On PostgreSQL, ON CONFLICT DO NOTHING waits for a concurrent
+ * transaction inserting the same row and then skips it, so two first writes
+ * for a user serialize on the row lock instead of one failing on the primary
+ * key. H2 has no ON CONFLICT outside its PostgreSQL mode; there the user's
+ * row is locked first and the insert is guarded by NOT EXISTS, so a
+ * concurrent first write waits and then sees the committed rollup row.
+ */
+public class UserJobStatsRepositoryImpl implements UserJobStatsRepositoryCustom {
+
+    private static final String POSTGRES_INSERT =
+            "INSERT INTO user_job_stats (user_id, total, distinct_days, best_day_count, applied, interviewed, rejected) " +
+            "VALUES (:userId, 0, 0, 0, 0, 0, 0) " +
+            "ON CONFLICT (user_id) DO NOTHING";
+    private static final String GUARDED_INSERT =
+            "INSERT INTO user_job_stats (user_id, total, distinct_days, best_day_count, applied, interviewed, rejected) " +
+            "SELECT :userId, 0, 0, 0, 0, 0, 0 FROM (VALUES (0)) one " +
+            "WHERE NOT EXISTS (SELECT 1 FROM user_job_stats WHERE user_id = :userId)";
+    private static final String LOCK_USER = "SELECT id FROM users WHERE id = :userId FOR UPDATE";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public boolean insertIfAbsent(Long userId) {
+        boolean postgres = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+        if (!postgres) {
+            entityManager.createNativeQuery(LOCK_USER).setParameter("userId", userId).getResultList();
+        }
+        return entityManager.createNativeQuery(postgres ? POSTGRES_INSERT : GUARDED_INSERT)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(UserJobStats.class)
+                .setParameter("userId", userId)
+                .executeUpdate() == 1;
+    }
+}
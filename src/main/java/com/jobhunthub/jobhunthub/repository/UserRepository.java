@@ -3,11 +3,28 @@ package com.jobhunthub.jobhunthub.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import com.jobhunthub.jobhunthub.config.CacheConfig;
 import com.jobhunthub.jobhunthub.model.User;
 
+import jakarta.persistence.QueryHint;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 public interface UserRepository extends JpaRepository<User, Long> {
+    // Provider id lookups run on every login; both ids are nullable and can be linked later,
+    // so they are cached as queries (invalidated on any users write) rather than as a @NaturalId
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = CacheConfig.USERS_BY_PROVIDER)
+    })
     Optional<User> findByGithubId(String githubId);
 
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = CacheConfig.USERS_BY_PROVIDER)
+    })
     Optional<User> findByGoogleId(String googleId);
 }
@@ -0,0 +1,103 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler;
+
+/**
+ * Reads RFC 4180 CSV one record at a time, so uploads are parsed as they
+ * arrive instead of being buffered. Quoted fields may contain commas, doubled
+ * quotes and line breaks; CRLF and LF line endings are both accepted.
+ * Records longer than MAX_RECORD_LENGTH characters are rejected, so an
+ * unterminated quote cannot pull the rest of the upload into memory.
+ */
+class CsvRecordReader {
+    static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    private final BufferedReader reader;
+    private long line = 1;
+    private long recordLine;
+    private boolean started;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    // Next record's fields, or null at end of input
+    List<String> next() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean any = false;
+        int length = 0;
+        recordLine = line;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (!started) {
+                started = true;
+                if (c == '\uFEFF') {
+                    continue; // byte order mark written by spreadsheet exports
+                }
+            }
+            any = true;
+            if (++length > MAX_RECORD_LENGTH) {
+                throw new GlobalExceptionHandler.InvalidRequestException("CSV record starting on line " + recordLine
+                        + " is longer than " + MAX_RECORD_LENGTH + " characters");
+            }
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                line++;
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+        if (quoted) {
+            throw new GlobalExceptionHandler.InvalidRequestException("Unterminated quoted field in CSV record starting on line " + recordLine);
+        }
+        if (!any) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // Line number the last record returned by next() started on
+    long recordLine() {
+        return recordLine;
+    }
+}
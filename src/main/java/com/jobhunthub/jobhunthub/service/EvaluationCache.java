@@ -0,0 +1,173 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobhunthub.jobhunthub.model.EvaluationCacheEntry;
+import com.jobhunthub.jobhunthub.model.Question.QuestionType;
+import com.jobhunthub.jobhunthub.repository.EvaluationCacheRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Two-tier cache of OpenAI evaluations keyed by a hash of the question type,
+ * prompt version and normalized question/response text. A bounded in-memory
+ * tier sits in front of the evaluation_cache table, which survives restarts.
+ * Rows older than the database TTL are no longer served, and writes delete
+ * them in the background at most once per purge interval.
+ */
+@Service
+public class EvaluationCache {
+    private static final Logger logger = LoggerFactory.getLogger(EvaluationCache.class);
+
+    private final EvaluationCacheRepository repository;
+    private final Cache<String, String> memory;
+    private final Duration dbTtl;
+    private final Duration purgeInterval;
+    private final AtomicBoolean purging = new AtomicBoolean();
+    private volatile Instant purgedAt = Instant.MIN;
+    private final Counter memoryHits;
+    private final Counter dbHits;
+    private final Counter misses;
+    private final Counter bypasses;
+
+    public EvaluationCache(EvaluationCacheRepository repository,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.evaluation.cache.max-size:10000}") long maxSize,
+                           @Value("${app.evaluation.cache.ttl:24h}") Duration ttl,
+                           @Value("${app.evaluation.cache.db-ttl:30d}") Duration dbTtl,
+                           @Value("${app.evaluation.cache.purge-interval:1h}") Duration purgeInterval) {
+        this.repository = repository;
+        this.memory = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, "evaluations");
+        this.dbTtl = dbTtl;
+        this.purgeInterval = purgeInterval;
+        this.memoryHits = requests(meterRegistry, "hit", "memory");
+        this.dbHits = requests(meterRegistry, "hit", "db");
+        this.misses = requests(meterRegistry, "miss", "none");
+        this.bypasses = requests(meterRegistry, "bypass", "none");
+    }
+
+    // Hash of everything that determines the evaluation; whitespace and case differences are ignored
+    public String key(QuestionType type, int promptVersion, String question, String response) {
+        String material = type.name() + "\n" + promptVersion + "\n" + normalize(question) + "\n" + normalize(response);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(material.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // Look up a cached evaluation, checking memory first and promoting database hits; reevaluate skips the lookup
+    public Optional<String> get(String key, boolean reevaluate) {
+        if (reevaluate) {
+            bypasses.increment();
+            return Optional.empty();
+        }
+        String cached = memory.getIfPresent(key);
+        if (cached != null) {
+            memoryHits.increment();
+            return Optional.of(cached);
+        }
+        Optional<String> stored = repository.findByCacheKeyAndCreatedAtAfter(key, Instant.now().minus(dbTtl))
+                .map(EvaluationCacheEntry::getEvaluation);
+        if (stored.isPresent()) {
+            dbHits.increment();
+            memory.put(key, stored.get());
+        } else {
+            misses.increment();
+        }
+        return stored;
+    }
+
+    // Store an evaluation in both tiers; placeholder error responses are never cached
+    public void put(String key, String evaluation) {
+        if (evaluation == null || OpenAIService.isErrorResponse(evaluation)) {
+            return;
+        }
+        memory.put(key, evaluation);
+        try {
+            repository.save(EvaluationCacheEntry.builder()
+                    .cacheKey(key)
+                    .evaluation(evaluation)
+                    .createdAt(Instant.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // Another request stored the same key concurrently; either copy will do
+            logger.debug("Evaluation cache entry {} already stored", key);
+        }
+        purgeIfDue();
+    }
+
+    // Return the cached evaluation, or run the evaluator and cache its result
+    public String getOrEvaluate(String key, boolean reevaluate, Supplier<String> evaluator) {
+        return get(key, reevaluate).orElseGet(() -> {
+            String evaluation = evaluator.get();
+            put(key, evaluation);
+            return evaluation;
+        });
+    }
+
+    // Delete expired rows off the request thread; a failed purge is retried on a later write
+    private void purgeIfDue() {
+        if (purgedAt.plus(purgeInterval).isAfter(Instant.now())) {
+            return;
+        }
+        if (purging.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("evaluation-cache-purge").start(() -> {
+                try {
+                    Instant started = Instant.now();
+                    int deleted = repository.deleteByCreatedAtBefore(started.minus(dbTtl));
+                    purgedAt = started;
+                    logger.debug("Purged {} expired evaluation cache entries", deleted);
+                } catch (RuntimeException e) {
+                    logger.warn("Evaluation cache purge failed", e);
+                } finally {
+                    purging.set(false);
+                }
+            });
+        }
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result, String tier) {
+        return Counter.builder("evaluation.cache.requests")
+                .description("Evaluation cache lookups by result and tier")
+                .tag("result", result)
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,286 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.jobhunthub.jobhunthub.dto.EvaluationDTO;
+import com.jobhunthub.jobhunthub.dto.QuestionDTO;
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.AuthenticationException;
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.ResourceNotFoundException;
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.ServiceUnavailableException;
+import com.jobhunthub.jobhunthub.model.Evaluation;
+import com.jobhunthub.jobhunthub.model.Question;
+import com.jobhunthub.jobhunthub.model.Question.QuestionType;
+import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.repository.EvaluationRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs answer evaluations off the request thread. The request only persists a
+ * PENDING evaluation; a bounded pool of virtual threads makes the OpenAI call
+ * without holding a transaction and writes the result back in a short one.
+ * An evaluation still PENDING after the stale-after interval was lost with
+ * the instance running it (a restart or crash) and is reported as FAILED.
+ */
+@Service
+public class EvaluationService {
+    private static final Logger logger = LoggerFactory.getLogger(EvaluationService.class);
+    private static final long SSE_TIMEOUT_MS = 120_000;
+    static final String FAILED_FEEDBACK = "Failed to evaluate response, please try again";
+
+    private final EvaluationRepository evaluationRepository;
+    private final QuestionService questionService;
+    private final OpenAIService openAIService;
+    private final EvaluationCache evaluationCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final Duration staleAfter;
+    private final Map<Long, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public EvaluationService(EvaluationRepository evaluationRepository,
+                             QuestionService questionService,
+                             OpenAIService openAIService,
+                             EvaluationCache evaluationCache,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${app.evaluation.max-concurrency:16}") int maxConcurrency,
+                             @Value("${app.evaluation.queue-capacity:256}") int queueCapacity,
+                             @Value("${app.evaluation.stale-after:15m}") Duration staleAfter) {
+        this(evaluationRepository, questionService, openAIService, evaluationCache, transactionTemplate,
+                new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        Thread.ofVirtual().name("evaluation-", 0).factory()),
+                staleAfter);
+    }
+
+    EvaluationService(EvaluationRepository evaluationRepository,
+                      QuestionService questionService,
+                      OpenAIService openAIService,
+                      EvaluationCache evaluationCache,
+                      TransactionTemplate transactionTemplate,
+                      ExecutorService executor,
+                      Duration staleAfter) {
+        this.evaluationRepository = evaluationRepository;
+        this.questionService = questionService;
+        this.openAIService = openAIService;
+        this.evaluationCache = evaluationCache;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.staleAfter = staleAfter;
+    }
+
+    // Persist a PENDING evaluation and queue the OpenAI call; rejects with 503 when the queue is full
+    public EvaluationDTO submit(String question, String response, User user, QuestionType type, boolean reevaluate) {
+        Evaluation evaluation = transactionTemplate.execute(status -> {
+            Question questionEntity = questionService.findOwnedQuestion(question, user, type);
+            return evaluationRepository.save(Evaluation.builder()
+                    .question(questionEntity)
+                    .user(user)
+                    .responseText(response)
+                    .status(Evaluation.Status.PENDING)
+                    .createdAt(Instant.now())
+                    .build());
+        });
+
+        Long evaluationId = evaluation.getId();
+        try {
+            executor.execute(() -> runEvaluation(evaluationId, user, type, question, response, reevaluate));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Evaluation queue full, rejecting evaluation {}", evaluationId);
+            markFailed(evaluationId, "Evaluation queue is full");
+            throw new ServiceUnavailableException("Too many evaluations in progress, please try again shortly");
+        }
+        return EvaluationDTO.fromEntity(evaluation);
+    }
+
+    // Call OpenAI outside of any transaction, then store the result in a short one
+    void runEvaluation(Long evaluationId, User user, QuestionType type, String question, String response, boolean reevaluate) {
+        try {
+            String gptResponse = questionService.requestEvaluation(user, type, question, response, reevaluate);
+            EvaluationDTO result = transactionTemplate.execute(status -> {
+                Evaluation evaluation = evaluationRepository.findById(evaluationId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Evaluation", "id", evaluationId));
+                Question evaluated = questionService.applyEvaluation(evaluation.getQuestion(), response, gptResponse);
+                evaluation.setRating(evaluated.getRating());
+                evaluation.setFeedback(evaluated.getFeedback());
+                evaluation.setStatus(Evaluation.Status.COMPLETED);
+                evaluation.setCompletedAt(Instant.now());
+                return EvaluationDTO.fromEntity(evaluationRepository.save(evaluation));
+            });
+            publish(result);
+        } catch (Exception e) {
+            logger.error("Error evaluating response for evaluation {}", evaluationId, e);
+            markFailed(evaluationId, FAILED_FEEDBACK);
+        }
+    }
+
+    // Evaluate on the pool while streaming partial feedback as "feedback" events, then send the saved question
+    public SseEmitter stream(String question, String response, User user, QuestionType type, boolean reevaluate) {
+        Question questionEntity = transactionTemplate.execute(status -> questionService.findOwnedQuestion(question, user, type));
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MS);
+        try {
+            executor.execute(() -> runStreamingEvaluation(questionEntity, user, type, question, response, reevaluate, emitter));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Evaluation queue full, rejecting streamed evaluation");
+            throw new ServiceUnavailableException("Too many evaluations in progress, please try again shortly");
+        }
+        return emitter;
+    }
+
+    void runStreamingEvaluation(Question question, User user, QuestionType type, String questionText, String response,
+                                boolean reevaluate, SseEmitter emitter) {
+        FeedbackStreamExtractor extractor = new FeedbackStreamExtractor();
+        AtomicBoolean connected = new AtomicBoolean(true);
+        Consumer<String> onDelta = delta -> {
+            String text = extractor.accept(delta);
+            if (!text.isEmpty() && connected.get()) {
+                try {
+                    emitter.send(SseEmitter.event().name("feedback").data(Map.of("text", text)));
+                } catch (IOException | IllegalStateException e) {
+                    // Client went away; keep generating so the result is still saved
+                    connected.set(false);
+                }
+            }
+        };
+        try {
+            String cacheKey = questionService.evaluationCacheKey(type, questionText, response);
+            Optional<String> cached = evaluationCache.get(cacheKey, reevaluate);
+            String gptResponse;
+            if (cached.isPresent()) {
+                gptResponse = cached.get();
+                onDelta.accept(gptResponse); // a cache hit arrives as one feedback event
+            } else {
+                String prompt = questionService.buildEvaluationPrompt(type, questionText, response);
+                gptResponse = openAIService.streamResponse(user.getId(), response, prompt, onDelta);
+                evaluationCache.put(cacheKey, gptResponse);
+            }
+            Question saved = transactionTemplate.execute(status ->
+                    questionService.applyEvaluation(question, response, gptResponse));
+            emitter.send(SseEmitter.event().name("evaluation").data(QuestionDTO.fromEntity(saved)));
+            emitter.complete();
+        } catch (Exception e) {
+            logger.error("Error streaming evaluation for question {}", question.getId(), e);
+            emitter.completeWithError(e);
+        }
+    }
+
+    // Get an evaluation after checking it belongs to the user
+    public EvaluationDTO getEvaluation(Long id, User user) {
+        return current(findOwnedEvaluation(id, user));
+    }
+
+    // Stream the evaluation result over SSE; completes immediately if it has already finished
+    public SseEmitter subscribe(Long id, User user) {
+        EvaluationDTO evaluation = current(findOwnedEvaluation(id, user));
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MS);
+        if (!evaluation.status().equals(Evaluation.Status.PENDING.name())) {
+            send(emitter, evaluation);
+            return emitter;
+        }
+
+        List<SseEmitter> emitters = subscribers.computeIfAbsent(id, key -> new CopyOnWriteArrayList<>());
+        emitters.add(emitter);
+        Runnable remove = () -> emitters.remove(emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        // The evaluation may have finished between the lookup and registering the emitter
+        evaluationRepository.findById(id)
+                .filter(latest -> latest.getStatus() != Evaluation.Status.PENDING)
+                .ifPresent(latest -> publish(EvaluationDTO.fromEntity(latest)));
+        return emitter;
+    }
+
+    // Fail the evaluations a previous run left PENDING, so their pollers and subscribers get an answer
+    @EventListener(ApplicationReadyEvent.class)
+    public void failStaleEvaluations() {
+        Instant now = Instant.now();
+        int failed = evaluationRepository.failPendingCreatedBefore(now.minus(staleAfter), FAILED_FEEDBACK, now);
+        if (failed > 0) {
+            logger.info("Marked {} evaluations left pending for over {} as failed", failed, staleAfter);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private Evaluation findOwnedEvaluation(Long id, User user) {
+        Evaluation evaluation = evaluationRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Evaluation", "id", id));
+        if (!evaluation.getUser().getId().equals(user.getId())) {
+            throw new AuthenticationException("You don't have permission to view this evaluation");
+        }
+        return evaluation;
+    }
+
+    // The evaluation as the client should see it; one pending past the stale-after interval is failed first
+    private EvaluationDTO current(Evaluation evaluation) {
+        if (evaluation.getStatus() == Evaluation.Status.PENDING
+                && evaluation.getCreatedAt().isBefore(Instant.now().minus(staleAfter))) {
+            logger.warn("Evaluation {} pending since {}, marking it failed", evaluation.getId(), evaluation.getCreatedAt());
+            EvaluationDTO failed = markFailed(evaluation.getId(), FAILED_FEEDBACK);
+            if (failed != null) {
+                return failed;
+            }
+        }
+        return EvaluationDTO.fromEntity(evaluation);
+    }
+
+    private EvaluationDTO markFailed(Long evaluationId, String reason) {
+        EvaluationDTO result = transactionTemplate.execute(status -> evaluationRepository.findById(evaluationId)
+                .map(evaluation -> {
+                    evaluation.setStatus(Evaluation.Status.FAILED);
+                    evaluation.setFeedback(reason);
+                    evaluation.setCompletedAt(Instant.now());
+                    return EvaluationDTO.fromEntity(evaluationRepository.save(evaluation));
+                })
+                .orElse(null));
+        if (result != null) {
+            publish(result);
+        }
+        return result;
+    }
+
+    private void publish(EvaluationDTO result) {
+        List<SseEmitter> emitters = subscribers.remove(result.id());
+        if (emitters != null) {
+            emitters.forEach(emitter -> send(emitter, result));
+        }
+    }
+
+    private void send(SseEmitter emitter, EvaluationDTO result) {
+        try {
+            emitter.send(SseEmitter.event().name("evaluation").data(result));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+}
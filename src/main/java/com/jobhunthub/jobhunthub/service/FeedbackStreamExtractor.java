@@ -0,0 +1,93 @@
+package com.jobhunthub.jobhunthub.service;
+
+/**
+ * Pulls the text of the "feedback" field out of a JSON evaluation while it is
+ * still being streamed, so partial feedback can be shown before the model
+ * finishes. Chunks may split the key, escapes or unicode sequences anywhere;
+ * incomplete input is held back until the next chunk arrives.
+ */
+public class FeedbackStreamExtractor {
+    private static final String KEY = "\"feedback\"";
+
+    private enum State { SEEKING_KEY, SEEKING_VALUE, IN_VALUE, DONE }
+
+    private final StringBuilder buffer = new StringBuilder();
+    private State state = State.SEEKING_KEY;
+    private int pos = 0;
+
+    // Adds a chunk of model output and returns any newly decoded feedback text (possibly empty)
+    public String accept(String chunk) {
+        buffer.append(chunk);
+        StringBuilder decoded = new StringBuilder();
+
+        while (pos < buffer.length() && state != State.DONE) {
+            switch (state) {
+                case SEEKING_KEY -> {
+                    int index = buffer.indexOf(KEY, pos);
+                    if (index < 0) {
+                        // Keep enough of the tail to match a key split across chunks
+                        pos = Math.max(pos, buffer.length() - KEY.length() + 1);
+                        return decoded.toString();
+                    }
+                    pos = index + KEY.length();
+                    state = State.SEEKING_VALUE;
+                }
+                case SEEKING_VALUE -> {
+                    char c = buffer.charAt(pos++);
+                    if (c == '"') {
+                        state = State.IN_VALUE;
+                    } else if (c != ':' && !Character.isWhitespace(c)) {
+                        state = State.SEEKING_KEY; // "feedback" was a value, not a key
+                    }
+                }
+                case IN_VALUE -> {
+                    char c = buffer.charAt(pos);
+                    if (c == '"') {
+                        pos++;
+                        state = State.DONE;
+                    } else if (c == '\\') {
+                        int consumed = decodeEscape(decoded);
+                        if (consumed == 0) {
+                            return decoded.toString(); // escape split across chunks
+                        }
+                        pos += consumed;
+                    } else {
+                        decoded.append(c);
+                        pos++;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return decoded.toString();
+    }
+
+    // Decodes the escape at pos into out and returns how many characters it used, or 0 if incomplete
+    private int decodeEscape(StringBuilder out) {
+        if (pos + 1 >= buffer.length()) {
+            return 0;
+        }
+        char escaped = buffer.charAt(pos + 1);
+        switch (escaped) {
+            case 'n' -> out.append('\n');
+            case 't' -> out.append('\t');
+            case 'r' -> out.append('\r');
+            case 'b' -> out.append('\b');
+            case 'f' -> out.append('\f');
+            case 'u' -> {
+                if (pos + 6 > buffer.length()) {
+                    return 0;
+                }
+                try {
+                    out.append((char) Integer.parseInt(buffer.substring(pos + 2, pos + 6), 16));
+                } catch (NumberFormatException e) {
+                    out.append(buffer, pos, pos + 6);
+                }
+                return 6;
+            }
+            default -> out.append(escaped); // \" \\ \/
+        }
+        return 2;
+    }
+}
@@ -0,0 +1,200 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Compact columnar encoding for job archives, loosely modelled on Parquet row
+ * groups. The stream starts with the magic bytes "JHJC" and a version byte,
+ * followed by row groups of up to ROW_GROUP_SIZE rows and a terminating group
+ * with zero rows. Within a group each column is stored contiguously:
+ * - id and createdAt (epoch day): zig-zag varint deltas from the previous row
+ * - title, company, location and status: a dictionary of distinct UTF-8
+ *   values, then one varint per row indexing it (0 is null, n is entry n-1)
+ * Only one row group is buffered at a time, so memory use does not grow with
+ * the size of the export.
+ */
+public final class JobColumnarFormat {
+
+    static final byte[] MAGIC = {'J', 'H', 'J', 'C'};
+    static final int VERSION = 1;
+    static final int ROW_GROUP_SIZE = 8192;
+    private static final int STRING_COLUMNS = 4;
+
+    private JobColumnarFormat() {
+    }
+
+    // Writes rows into row groups; call finish to flush the last group and the end marker
+    public static class Writer {
+        private final OutputStream out;
+        private final ByteArrayOutputStream group = new ByteArrayOutputStream(64 * 1024);
+        private final long[] ids = new long[ROW_GROUP_SIZE];
+        private final long[] days = new long[ROW_GROUP_SIZE];
+        private final String[][] strings = new String[STRING_COLUMNS][ROW_GROUP_SIZE];
+        private int rows;
+
+        public Writer(OutputStream out) throws IOException {
+            this.out = out;
+            out.write(MAGIC);
+            out.write(VERSION);
+        }
+
+        public void write(JobExportService.Row row) throws IOException {
+            ids[rows] = row.id();
+            days[rows] = row.createdAt() != null ? row.createdAt().toEpochDay() : 0;
+            strings[0][rows] = row.title();
+            strings[1][rows] = row.company();
+            strings[2][rows] = row.location();
+            strings[3][rows] = row.status();
+            if (++rows == ROW_GROUP_SIZE) {
+                flushGroup();
+            }
+        }
+
+        public void finish() throws IOException {
+            if (rows > 0) {
+                flushGroup();
+            }
+            writeVarint(out, 0);
+            out.flush();
+        }
+
+        private void flushGroup() throws IOException {
+            group.reset();
+            writeVarint(group, rows);
+            writeDeltas(ids);
+            writeDeltas(days);
+            for (String[] column : strings) {
+                writeDictionary(column);
+            }
+            group.writeTo(out);
+            for (String[] column : strings) {
+                Arrays.fill(column, 0, rows, null);
+            }
+            rows = 0;
+        }
+
+        private void writeDeltas(long[] values) throws IOException {
+            long previous = 0;
+            for (int i = 0; i < rows; i++) {
+                writeVarint(group, zigZag(values[i] - previous));
+                previous = values[i];
+            }
+        }
+
+        private void writeDictionary(String[] values) throws IOException {
+            Map<String, Integer> dictionary = new HashMap<>();
+            List<String> entries = new ArrayList<>();
+            int[] indexes = new int[rows];
+            for (int i = 0; i < rows; i++) {
+                String value = values[i];
+                if (value != null) {
+                    indexes[i] = dictionary.computeIfAbsent(value, key -> {
+                        entries.add(key);
+                        return entries.size();
+                    });
+                }
+            }
+            writeVarint(group, entries.size());
+            for (String entry : entries) {
+                byte[] bytes = entry.getBytes(StandardCharsets.UTF_8);
+                writeVarint(group, bytes.length);
+                group.writeBytes(bytes);
+            }
+            for (int i = 0; i < rows; i++) {
+                writeVarint(group, indexes[i]);
+            }
+        }
+    }
+
+    // Decodes a columnar stream, passing each row to the consumer in the order it was written
+    public static void read(InputStream in, Consumer<JobExportService.Row> consumer) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        byte[] magic = new byte[MAGIC.length];
+        data.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC) || data.readUnsignedByte() != VERSION) {
+            throw new IOException("Not a version " + VERSION + " job archive");
+        }
+        int rows;
+        while ((rows = (int) readVarint(data)) > 0) {
+            long[] ids = readDeltas(data, rows);
+            long[] days = readDeltas(data, rows);
+            String[][] strings = new String[STRING_COLUMNS][];
+            for (int c = 0; c < STRING_COLUMNS; c++) {
+                strings[c] = readDictionary(data, rows);
+            }
+            for (int i = 0; i < rows; i++) {
+                consumer.accept(new JobExportService.Row(ids[i], strings[0][i], strings[1][i], strings[2][i],
+                        strings[3][i], LocalDate.ofEpochDay(days[i])));
+            }
+        }
+    }
+
+    private static long[] readDeltas(DataInputStream in, int rows) throws IOException {
+        long[] values = new long[rows];
+        long previous = 0;
+        for (int i = 0; i < rows; i++) {
+            previous += unZigZag(readVarint(in));
+            values[i] = previous;
+        }
+        return values;
+    }
+
+    private static String[] readDictionary(DataInputStream in, int rows) throws IOException {
+        String[] entries = new String[(int) readVarint(in)];
+        for (int i = 0; i < entries.length; i++) {
+            byte[] bytes = new byte[(int) readVarint(in)];
+            in.readFully(bytes);
+            entries[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        String[] values = new String[rows];
+        for (int i = 0; i < rows; i++) {
+            int index = (int) readVarint(in);
+            values[i] = index == 0 ? null : entries[index - 1];
+        }
+        return values;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Truncated job archive");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in job archive");
+    }
+}
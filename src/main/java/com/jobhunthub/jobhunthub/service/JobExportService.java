@@ -0,0 +1,266 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobhunthub.jobhunthub.dto.JobFilterDTO;
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler;
+import com.jobhunthub.jobhunthub.model.Job;
+import com.jobhunthub.jobhunthub.model.User;
+
+/**
+ * Streams a user's jobs straight from a forward-only JDBC cursor into CSV,
+ * NDJSON or the JobColumnarFormat archive. Rows are written as they are
+ * fetched and never collected, so memory stays flat however many jobs are
+ * exported. The read-only transaction keeps PostgreSQL using a server-side
+ * cursor with EXPORT_FETCH_SIZE rows per round trip.
+ */
+@Service
+public class JobExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobExportService.class);
+    private static final int EXPORT_FETCH_SIZE = 1000;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobService jobService;
+    private final ObjectMapper objectMapper;
+
+    public JobExportService(JdbcTemplate jdbcTemplate, JobService jobService, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobService = jobService;
+        this.objectMapper = objectMapper;
+    }
+
+    // One exported job; status is the enum name
+    public record Row(long id, String title, String company, String location, String status, LocalDate createdAt) {
+    }
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson"),
+        COLUMNAR("application/vnd.jobhunthub.jobs+columnar", "jhjc");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static Format parse(String format) {
+            if (format == null || format.isBlank()) {
+                return CSV;
+            }
+            try {
+                return valueOf(format.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new GlobalExceptionHandler.InvalidRequestException("Invalid export format: " + format + " (expected csv, ndjson or columnar)");
+            }
+        }
+    }
+
+    // Opens the destination once the request has been validated, so errors can still be sent as normal responses
+    @FunctionalInterface
+    public interface ExportTarget {
+        OutputStream open(Format format) throws IOException;
+    }
+
+    private interface RowWriter {
+        void write(Row row) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    // Write the user's matching jobs, oldest first, to out in the given format; returns the number of rows
+    @Transactional(readOnly = true)
+    public long export(User user, JobFilterDTO filter, Format format, ExportTarget target) throws IOException {
+        long start = System.nanoTime();
+        List<Object> params = new ArrayList<>();
+        String sql = buildQuery(user, filter, params);
+        OutputStream out = target.open(format);
+        RowWriter writer = switch (format) {
+            case CSV -> csvWriter(out);
+            case NDJSON -> ndjsonWriter(out);
+            case COLUMNAR -> columnarWriter(out);
+        };
+
+        long[] count = {0};
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(EXPORT_FETCH_SIZE);
+                for (int i = 0; i < params.size(); i++) {
+                    statement.setObject(i + 1, params.get(i));
+                }
+                return statement;
+            }, resultSet -> {
+                Date createdAt = resultSet.getDate(6);
+                Row row = new Row(resultSet.getLong(1), resultSet.getString(2), resultSet.getString(3),
+                        resultSet.getString(4), resultSet.getString(5), createdAt != null ? createdAt.toLocalDate() : null);
+                try {
+                    writer.write(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e); // client went away; stops the cursor
+                }
+                count[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.finish();
+        logger.info("Exported {} jobs for user {} as {} in {} ms",
+                count[0], user.getId(), format, (System.nanoTime() - start) / 1_000_000);
+        return count[0];
+    }
+
+    // Same optional filters as the job listing; only conditions that are set are added to the query
+    private String buildQuery(User user, JobFilterDTO filter, List<Object> params) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT id, title, company, location, status, created_at FROM jobs WHERE user_id = ?");
+        params.add(user.getId());
+        Job.Status status = jobService.parseStatus(filter.status());
+        if (status != null) {
+            sql.append(" AND status = ?");
+            params.add(status.name());
+        }
+        if (filter.company() != null && !filter.company().isBlank()) {
+            sql.append(" AND LOWER(company) = LOWER(?)");
+            params.add(filter.company());
+        }
+        if (filter.from() != null) {
+            sql.append(" AND created_at >= ?");
+            params.add(Date.valueOf(filter.from()));
+        }
+        if (filter.to() != null) {
+            sql.append(" AND created_at <= ?");
+            params.add(Date.valueOf(filter.to()));
+        }
+        return sql.append(" ORDER BY id").toString();
+    }
+
+    private RowWriter csvWriter(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        writer.write("id,title,company,location,status,createdAt\r\n");
+        return new RowWriter() {
+            @Override
+            public void write(Row row) throws IOException {
+                writer.write(Long.toString(row.id()));
+                writer.write(',');
+                writeCsvField(writer, row.title());
+                writer.write(',');
+                writeCsvField(writer, row.company());
+                writer.write(',');
+                writeCsvField(writer, row.location());
+                writer.write(',');
+                writeCsvField(writer, row.status());
+                writer.write(',');
+                writer.write(row.createdAt() != null ? row.createdAt().toString() : "");
+                writer.write("\r\n");
+            }
+
+            @Override
+            public void finish() throws IOException {
+                writer.flush();
+            }
+        };
+    }
+
+    private RowWriter ndjsonWriter(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.setRootValueSeparator(new SerializedString("\n"));
+        return new RowWriter() {
+            private boolean written;
+
+            @Override
+            public void write(Row row) throws IOException {
+                written = true;
+                generator.writeStartObject();
+                generator.writeNumberField("id", row.id());
+                generator.writeStringField("title", row.title());
+                generator.writeStringField("company", row.company());
+                generator.writeStringField("location", row.location());
+                generator.writeStringField("status", row.status());
+                generator.writeStringField("createdAt", row.createdAt() != null ? row.createdAt().toString() : null);
+                generator.writeEndObject();
+            }
+
+            @Override
+            public void finish() throws IOException {
+                if (written) {
+                    generator.writeRaw('\n'); // the separator only goes between rows
+                }
+                generator.flush();
+            }
+        };
+    }
+
+    private RowWriter columnarWriter(OutputStream out) throws IOException {
+        JobColumnarFormat.Writer writer = new JobColumnarFormat.Writer(out);
+        return new RowWriter() {
+            @Override
+            public void write(Row row) throws IOException {
+                writer.write(row);
+            }
+
+            @Override
+            public void finish() throws IOException {
+                writer.finish();
+            }
+        };
+    }
+
+    // Quote fields containing separators, quotes or line breaks, doubling embedded quotes (RFC 4180)
+    // Quote only when needed; a value a spreadsheet would run as a formula is quoted with a leading '
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean formula = !value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0;
+        boolean quote = formula;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        if (formula) {
+            writer.write('\'');
+        }
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
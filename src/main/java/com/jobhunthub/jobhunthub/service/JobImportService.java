@@ -0,0 +1,278 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobhunthub.jobhunthub.dto.JobImportResultDTO;
+import com.jobhunthub.jobhunthub.dto.JobImportRowDTO;
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler;
+import com.jobhunthub.jobhunthub.model.Job;
+import com.jobhunthub.jobhunthub.model.User;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Bulk job import from CSV or a JSON array. Uploads are parsed row by row as
+ * they stream in, each row is checked with the same rules as a single create,
+ * and valid rows are persisted in batches of BATCH_SIZE, one short
+ * transaction per batch. Job ids come from a pooled sequence, so Hibernate
+ * sends each batch as a single JDBC batch. The stats rollup is rebuilt once
+ * at the end instead of being updated per row, also when the upload fails
+ * after some batches were committed.
+ */
+@Service
+public class JobImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobImportService.class);
+    static final int BATCH_SIZE = 500; // keep in step with spring.jpa.properties.hibernate.jdbc.batch_size
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final JobService jobService;
+    private final JobStatsService jobStatsService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ZoneId zoneId;
+    private final int maxRows;
+
+    public JobImportService(JobService jobService,
+                            JobStatsService jobStatsService,
+                            EntityManager entityManager,
+                            TransactionTemplate transactionTemplate,
+                            ObjectMapper objectMapper,
+                            ZoneId zoneId,
+                            @Value("${app.jobs.import.max-rows:100000}") int maxRows) {
+        this.jobService = jobService;
+        this.jobStatsService = jobStatsService;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.zoneId = zoneId;
+        this.maxRows = maxRows;
+    }
+
+    // Source of rows for one upload; next returns null when the upload is exhausted
+    private interface RowSource {
+        JobImportRowDTO next() throws IOException;
+
+        long row();
+    }
+
+    // Import a CSV upload whose header row names the title, company and location columns (status and createdAt optional)
+    public JobImportResultDTO importCsv(InputStream body, User user) throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new GlobalExceptionHandler.InvalidRequestException("CSV upload is empty");
+        }
+        Map<String, Integer> columns = csvColumns(header);
+
+        return importRows(new RowSource() {
+            @Override
+            public JobImportRowDTO next() throws IOException {
+                List<String> record;
+                do {
+                    record = reader.next();
+                } while (record != null && isBlank(record));
+                if (record == null) {
+                    return null;
+                }
+                return new JobImportRowDTO(field(record, columns.get("title")), field(record, columns.get("company")),
+                        field(record, columns.get("location")), field(record, columns.get("status")),
+                        field(record, columns.get("createdat")));
+            }
+
+            @Override
+            public long row() {
+                return reader.recordLine();
+            }
+        }, user);
+    }
+
+    // Import a JSON array of job objects, reading one element at a time
+    public JobImportResultDTO importJson(InputStream body, User user) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new GlobalExceptionHandler.InvalidRequestException("Expected a JSON array of jobs");
+            }
+            long[] index = {0};
+            return importRows(new RowSource() {
+                @Override
+                public JobImportRowDTO next() throws IOException {
+                    JsonToken token = parser.nextToken();
+                    if (token == JsonToken.END_ARRAY || token == null) {
+                        return null;
+                    }
+                    index[0]++;
+                    if (token != JsonToken.START_OBJECT) {
+                        throw new GlobalExceptionHandler.InvalidRequestException("Element " + index[0] + " is not a JSON object");
+                    }
+                    return objectMapper.readValue(parser, JobImportRowDTO.class);
+                }
+
+                @Override
+                public long row() {
+                    return index[0];
+                }
+            }, user);
+        }
+    }
+
+    private JobImportResultDTO importRows(RowSource rows, User user) throws IOException {
+        long start = System.nanoTime();
+        LocalDate today = LocalDate.now(zoneId);
+        List<Job> batch = new ArrayList<>(BATCH_SIZE);
+        List<JobImportResultDTO.RowError> errors = new ArrayList<>();
+        long imported = 0;
+        long failed = 0;
+        long seen = 0;
+
+        try {
+            while (true) {
+                JobImportRowDTO row;
+                try {
+                    row = rows.next();
+                } catch (GlobalExceptionHandler.InvalidRequestException | JsonProcessingException e) {
+                    // The rest of the upload cannot be parsed; keep what was imported and report where it stopped
+                    failed++;
+                    String reason = e instanceof JsonProcessingException json ? json.getOriginalMessage() : e.getMessage();
+                    addError(errors, rows.row(), "Upload could not be parsed past this row: " + reason);
+                    break;
+                }
+                if (row == null) {
+                    break;
+                }
+                if (++seen > maxRows) {
+                    failed++;
+                    addError(errors, rows.row(), "Import is limited to " + maxRows + " rows; the remaining rows were skipped");
+                    break;
+                }
+                try {
+                    batch.add(toJob(row, today));
+                } catch (GlobalExceptionHandler.InvalidRequestException e) {
+                    failed++;
+                    addError(errors, rows.row(), e.getMessage());
+                    continue;
+                }
+                if (batch.size() == BATCH_SIZE) {
+                    imported += insert(batch, user);
+                }
+            }
+            imported += insert(batch, user);
+        } finally {
+            // Batches commit as they go, so a failed or aborted upload still leaves imported jobs to count
+            if (imported > 0) {
+                jobStatsService.rebuild(user);
+            }
+        }
+        logger.info("Imported {} jobs for user {} ({} rejected) in {} ms",
+                imported, user.getId(), failed, (System.nanoTime() - start) / 1_000_000);
+        return new JobImportResultDTO(imported, failed, errors);
+    }
+
+    // Build a job from a row, applying the single-create validation; throws InvalidRequestException for bad rows
+    private Job toJob(JobImportRowDTO row, LocalDate today) {
+        Job job = new Job();
+        job.setTitle(trim(row.title()));
+        job.setCompany(trim(row.company()));
+        job.setLocation(trim(row.location()));
+        jobService.validateJob(job);
+
+        Job.Status status = jobService.parseStatus(row.status());
+        job.setStatus(status != null ? status : Job.Status.APPLIED);
+        job.setCreatedAt(parseDate(row.createdAt(), today));
+        return job;
+    }
+
+    // Persist and flush one batch in its own transaction; clearing keeps the persistence context small.
+    // Imported rows skip the second-level cache so a large upload does not push out other users' entries.
+    private int insert(List<Job> batch, User user) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+            User owner = entityManager.getReference(User.class, user.getId());
+            for (Job job : batch) {
+                job.setUser(owner);
+                entityManager.persist(job);
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+        int inserted = batch.size();
+        batch.clear();
+        return inserted;
+    }
+
+    private static LocalDate parseDate(String value, LocalDate today) {
+        if (value == null || value.isBlank()) {
+            return today;
+        }
+        try {
+            LocalDate date = LocalDate.parse(value.trim());
+            if (date.isAfter(today)) {
+                throw new GlobalExceptionHandler.InvalidRequestException("createdAt cannot be in the future: " + value);
+            }
+            return date;
+        } catch (DateTimeParseException e) {
+            throw new GlobalExceptionHandler.InvalidRequestException("Invalid createdAt, expected yyyy-MM-dd: " + value);
+        }
+    }
+
+    // Map header names to column positions; matching ignores case, spaces and punctuation
+    private static Map<String, Integer> csvColumns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).toLowerCase(Locale.ROOT).replaceAll("[^a-z]", "");
+            switch (name) {
+                case "date", "dateapplied", "applied", "applieddate", "created", "createdat" -> columns.putIfAbsent("createdat", i);
+                default -> columns.putIfAbsent(name, i);
+            }
+        }
+        if (!columns.containsKey("title") || !columns.containsKey("company") || !columns.containsKey("location")) {
+            throw new GlobalExceptionHandler.InvalidRequestException("CSV header must include title, company and location columns");
+        }
+        return columns;
+    }
+
+    private static String field(List<String> record, Integer column) {
+        return column != null && column < record.size() ? record.get(column) : null;
+    }
+
+    private static boolean isBlank(List<String> record) {
+        return record.stream().allMatch(String::isBlank);
+    }
+
+    private static String trim(String value) {
+        return value != null ? value.trim() : null;
+    }
+
+    private static void addError(List<JobImportResultDTO.RowError> errors, long row, String message) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new JobImportResultDTO.RowError(row, message));
+        }
+    }
+}
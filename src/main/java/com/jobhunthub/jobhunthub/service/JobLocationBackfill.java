@@ -0,0 +1,68 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jobhunthub.jobhunthub.model.Job;
+import com.jobhunthub.jobhunthub.repository.JobRepository;
+
+/**
+ * Parses the free-text location of jobs saved before LocationValidator
+ * (city, state and remote all null) once the application is ready, in id
+ * order and one transaction per batch. Until a row is reached it only misses
+ * out on grouping and filtering by location. Unrecognized locations are
+ * stored as not remote, so they are not picked up again on the next start.
+ */
+@Component
+public class JobLocationBackfill {
+
+    private static final int BATCH_SIZE = 500;
+    private static final Logger logger = LoggerFactory.getLogger(JobLocationBackfill.class);
+
+    private final JobRepository jobRepository;
+    private final LocationValidator locationValidator;
+    private final TransactionTemplate transactionTemplate;
+
+    public JobLocationBackfill(JobRepository jobRepository, LocationValidator locationValidator,
+                               TransactionTemplate transactionTemplate) {
+        this.jobRepository = jobRepository;
+        this.locationValidator = locationValidator;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void parseMissingLocations() {
+        long parsed = 0;
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            List<Job> jobs = transactionTemplate.execute(status -> parseBatch(from));
+            if (jobs == null || jobs.isEmpty()) {
+                break;
+            }
+            parsed += jobs.size();
+            afterId = jobs.getLast().getId();
+        }
+        if (parsed > 0) {
+            logger.info("Parsed locations of {} existing jobs", parsed);
+        }
+    }
+
+    private List<Job> parseBatch(long afterId) {
+        List<Job> jobs = jobRepository.findWithoutParsedLocation(afterId, Limit.of(BATCH_SIZE));
+        for (Job job : jobs) {
+            LocationValidator.Location location = locationValidator.normalize(job.getLocation());
+            job.setLocationCity(location.city());
+            job.setLocationState(location.state());
+            job.setRemote(location.remote());
+        }
+        return jobs;
+    }
+}
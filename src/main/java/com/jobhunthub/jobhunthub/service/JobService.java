@@ -1,20 +1,36 @@
 package com.jobhunthub.jobhunthub.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.jobhunthub.jobhunthub.dto.AllTimeJobStatsDTO;
 import com.jobhunthub.jobhunthub.dto.CreateJobRequestDTO;
 import com.jobhunthub.jobhunthub.dto.JobDTO;
+import com.jobhunthub.jobhunthub.dto.JobFilterDTO;
+import com.jobhunthub.jobhunthub.dto.JobPageDTO;
+import com.jobhunthub.jobhunthub.dto.JobStatusBatchRequestDTO;
+import com.jobhunthub.jobhunthub.dto.JobStatusBatchResultDTO;
 import com.jobhunthub.jobhunthub.dto.UpdateJobRequestDTO;
+import com.jobhunthub.jobhunthub.dto.WeeklyJobStatsDTO;
 import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler;
 import com.jobhunthub.jobhunthub.model.Job;
 import com.jobhunthub.jobhunthub.model.User;
@@ -24,11 +40,19 @@ import com.jobhunthub.jobhunthub.repository.JobRepository;
 public class JobService {
 
     private static final Logger logger = LoggerFactory.getLogger(JobService.class);
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    static final int MAX_BATCH_SIZE = 1000;
+
     private final JobRepository jobRepository;
+    private final JobStatsService jobStatsService;
+    private final LocationValidator locationValidator;
     private final ZoneId zoneId;
 
-    public JobService(JobRepository jobRepository, ZoneId zoneId) {
+    public JobService(JobRepository jobRepository, JobStatsService jobStatsService, LocationValidator locationValidator, ZoneId zoneId) {
         this.jobRepository = jobRepository;
+        this.jobStatsService = jobStatsService;
+        this.locationValidator = locationValidator;
         this.zoneId = zoneId;
     }
 
@@ -48,6 +72,7 @@ public class JobService {
         job.setCreatedAt(LocalDate.now(zoneId));
 
         Job savedJob = jobRepository.save(job);
+        jobStatsService.recordJobAdded(user, savedJob.getCreatedAt(), savedJob.getStatus());
         return JobDTO.fromEntity(savedJob);
     }
 
@@ -59,6 +84,32 @@ public class JobService {
                 .collect(Collectors.toList());
     }
 
+    // Gets one page of jobs for a user, newest first, using keyset pagination on (createdAt, id)
+    @Transactional(readOnly = true)
+    public JobPageDTO getJobPage(User user, JobFilterDTO filter, String cursor, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        PageCursor after = cursor == null || cursor.isBlank() ? PageCursor.START : decodeCursor(cursor);
+
+        // Fetch one extra row to know whether another page exists
+        List<JobDTO> jobs = jobRepository.findPageByUser(user, parseStatus(filter.status()), blankToNull(filter.company()),
+                filter.from(), filter.to(), after.createdAt(), after.id(), Limit.of(pageSize + 1));
+        if (jobs.size() <= pageSize) {
+            return new JobPageDTO(jobs, null);
+        }
+        List<JobDTO> page = jobs.subList(0, pageSize);
+        JobDTO last = page.get(pageSize - 1);
+        return new JobPageDTO(page, encodeCursor(last.getCreatedAt(), last.getId()));
+    }
+
+    // Streams all matching jobs to the consumer without loading the full list into memory
+    @Transactional(readOnly = true)
+    public void streamJobs(User user, JobFilterDTO filter, Consumer<JobDTO> consumer) {
+        try (Stream<JobDTO> jobs = jobRepository.streamByUser(user, parseStatus(filter.status()),
+                blankToNull(filter.company()), filter.from(), filter.to())) {
+            jobs.forEach(consumer);
+        }
+    }
+
     // Gets a job by id
     public JobDTO getJobById(Long id, User user) {
         Job job = jobRepository.findById(id)
@@ -72,6 +123,8 @@ public class JobService {
     // Updates a job
     @Transactional
     public JobDTO updateJob(Long id, UpdateJobRequestDTO dto, User user) {
+        // Lock before reading the old status, so a concurrent update of the same job is counted from our result
+        jobStatsService.lockRollup(user);
         Job job = jobRepository.findById(id)
                 .orElseThrow(() -> new GlobalExceptionHandler.ResourceNotFoundException("Job", "id", id));
         
@@ -79,34 +132,78 @@ public class JobService {
             throw new GlobalExceptionHandler.ResourceNotFoundException("Job", "id", id);
         }
 
+        Job.Status oldStatus = job.getStatus();
         job.setTitle(dto.getTitle());
         job.setCompany(dto.getCompany());
         job.setLocation(dto.getLocation());
         
         validateJob(job);
 
-        if (dto.getStatus() != null && !dto.getStatus().trim().isEmpty()) {
-            try {
-                Job.Status newStatus = Job.Status.valueOf(dto.getStatus().toUpperCase());
-                job.setStatus(newStatus);
-            } catch (IllegalArgumentException e) {
-                throw new GlobalExceptionHandler.InvalidRequestException("Invalid status value: " + dto.getStatus());
-            }
+        Job.Status newStatus = parseStatus(dto.getStatus());
+        if (newStatus != null) {
+            job.setStatus(newStatus);
         }
 
         Job updatedJob = jobRepository.save(job);
+        jobStatsService.recordStatusChange(user, oldStatus, updatedJob.getStatus());
         return JobDTO.fromEntity(updatedJob);
     }
 
+    // Moves several jobs to one status with a single UPDATE and one rollup write
+    @Transactional
+    public JobStatusBatchResultDTO updateStatuses(JobStatusBatchRequestDTO dto, User user) {
+        Job.Status newStatus = parseStatus(dto.status());
+        if (newStatus == null) {
+            throw new GlobalExceptionHandler.InvalidRequestException("Status is required");
+        }
+        if (dto.ids() == null || dto.ids().isEmpty()) {
+            throw new GlobalExceptionHandler.InvalidRequestException("At least one job id is required");
+        }
+        Set<Long> ids = new LinkedHashSet<>(dto.ids());
+        ids.remove(null);
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new GlobalExceptionHandler.InvalidRequestException("At most " + MAX_BATCH_SIZE + " jobs can be updated at once");
+        }
+
+        jobStatsService.lockRollup(user);
+        Map<Long, Job.Status> current = new HashMap<>();
+        for (Object[] row : jobRepository.findStatusesByUserAndIdIn(user, ids)) {
+            current.put((Long) row[0], (Job.Status) row[1]);
+        }
+
+        List<Long> updated = new ArrayList<>();
+        List<Long> unchanged = new ArrayList<>();
+        List<Long> notFound = new ArrayList<>();
+        Map<Job.Status, Long> changedFrom = new HashMap<>(); // previous status may be null, so not an EnumMap
+        for (Long id : ids) {
+            if (!current.containsKey(id)) {
+                notFound.add(id);
+            } else if (current.get(id) == newStatus) {
+                unchanged.add(id);
+            } else {
+                updated.add(id);
+                changedFrom.merge(current.get(id), 1L, Long::sum);
+            }
+        }
+
+        if (!updated.isEmpty()) {
+            jobRepository.updateStatusByUserAndIdIn(user, updated, newStatus);
+            jobStatsService.recordStatusChanges(user, changedFrom, newStatus);
+        }
+        return new JobStatusBatchResultDTO(newStatus.name(), updated, unchanged, notFound);
+    }
+
     // Deletes a job
     @Transactional
     public void deleteJob(Long id, User user) {
+        jobStatsService.lockRollup(user);
         Job job = jobRepository.findById(id)
                 .orElseThrow(() -> new GlobalExceptionHandler.ResourceNotFoundException("Job", "id", id));
         if (!job.getUser().getId().equals(user.getId())) {
             throw new GlobalExceptionHandler.ResourceNotFoundException("Job", "id", id); 
         }
         jobRepository.delete(job);
+        jobStatsService.recordJobRemoved(user, job.getCreatedAt(), job.getStatus());
     }
 
     // Get job count for a specific user
@@ -125,79 +222,116 @@ public class JobService {
     }
 
     // Stats methods for dashboard and progress tracking
-    public Map<String, Object> getWeeklyJobStats(User user, LocalDate startDate, LocalDate endDate) {
-        // Initialize with zero counts for all dates in range
-        Map<LocalDate, Long> dateCountMap = new HashMap<>();
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            dateCountMap.put(date, 0L);
-        }
-
-        // Fill in actual counts and transform for frontend chart
-        jobRepository.getJobCountsByDateRange(user, startDate, endDate)
-                .forEach(count -> dateCountMap.put((LocalDate) count[0], ((Number) count[1]).longValue()));
-
-        List<Map<String, Object>> chartData = dateCountMap.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .map(entry -> {
-                    Map<String, Object> point = new HashMap<>();
-                    point.put("date", entry.getKey().toString());
-                    point.put("count", entry.getValue());
-                    return point;
-                })
-                .collect(Collectors.toList());
-
-        // Get all status counts in one query
-        Map<Job.Status, Long> statusCounts = jobRepository.getStatusCounts(user).stream()
-                .collect(Collectors.toMap(
-                        arr -> (Job.Status) arr[0],
-                        arr -> ((Number) arr[1]).longValue()
-                ));
-
-        // Build response with all stats
-        return Map.of(
-                "chartData", chartData,
-                "total", getJobCountByUser(user),
-                "todayCount", getTodayCount(user),
-                "applied", statusCounts.getOrDefault(Job.Status.APPLIED, 0L),
-                "interviewed", statusCounts.getOrDefault(Job.Status.INTERVIEWED, 0L),
-                "rejected", statusCounts.getOrDefault(Job.Status.REJECTED, 0L)
-        );
-    }
+    public WeeklyJobStatsDTO getWeeklyJobStats(User user, LocalDate startDate, LocalDate endDate) {
+        LocalDate today = LocalDate.now(zoneId);
+        int days = (int) Math.max(0, ChronoUnit.DAYS.between(startDate, endDate) + 1);
+        long[] dailyCounts = new long[days];
+        long[] statusCounts = new long[Job.Status.values().length];
+        long total = 0;
+        long todayCount = 0;
 
-    public Map<String, Object> getAllTimeJobStats(User user) {
-        long total = jobRepository.countByUser(user);
-        long distinctDates = jobRepository.countDistinctDates(user);
+        // Single aggregate query: each row is (day or null, status, count)
+        for (Object[] row : jobRepository.getDailyStatusCounts(user, startDate, endDate, today)) {
+            LocalDate day = (LocalDate) row[0];
+            Job.Status status = (Job.Status) row[1];
+            long count = ((Number) row[2]).longValue();
 
-        // Calculate daily average, handle division by zero
-        double average = distinctDates > 0 ? (double) total / distinctDates : 0.0;
+            total += count;
+            if (status != null) {
+                statusCounts[status.ordinal()] += count;
+            }
+            if (day != null) {
+                if (day.equals(today)) {
+                    todayCount += count;
+                }
+                if (!day.isBefore(startDate) && !day.isAfter(endDate)) {
+                    dailyCounts[(int) ChronoUnit.DAYS.between(startDate, day)] += count;
+                }
+            }
+        }
 
-        // Get best day count (defaults to 0 if null)
-        int bestDay = jobRepository.findBestDayCount(user) != null ?
-                jobRepository.findBestDayCount(user) : 0;
+        // Build the chart with zero counts for days without jobs
+        List<WeeklyJobStatsDTO.ChartPoint> chartData = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            chartData.add(new WeeklyJobStatsDTO.ChartPoint(startDate.plusDays(i).toString(), dailyCounts[i]));
+        }
 
-        // Get status breakdown
-        return Map.of(
-                "total", total,
-                "average", String.format("%.1f", average),
-                "bestDay", bestDay,
-                "applied", jobRepository.countByUserAndStatus(user, Job.Status.APPLIED),
-                "interviewed", jobRepository.countByUserAndStatus(user, Job.Status.INTERVIEWED),
-                "rejected", jobRepository.countByUserAndStatus(user, Job.Status.REJECTED)
+        return new WeeklyJobStatsDTO(
+                chartData,
+                total,
+                todayCount,
+                statusCounts[Job.Status.APPLIED.ordinal()],
+                statusCounts[Job.Status.INTERVIEWED.ordinal()],
+                statusCounts[Job.Status.REJECTED.ordinal()]
         );
     }
 
-    // Validates a job
-    private void validateJob(Job job) {
+    public AllTimeJobStatsDTO getAllTimeJobStats(User user) {
+        return jobStatsService.getAllTimeStats(user);
+    }
+
+    // Validates a job and stores the normalized location; also applied to each bulk import row
+    void validateJob(Job job) {
         if (job.getTitle() == null || job.getTitle().trim().isEmpty() ||
             job.getCompany() == null || job.getCompany().trim().isEmpty() ||
             job.getLocation() == null || job.getLocation().trim().isEmpty()) {
             throw new GlobalExceptionHandler.InvalidRequestException("Title, company, and location are required");
         }
-        // Simplified location validation for brevity, consider more robust validation
-        if (!job.getLocation().equals("Remote") && 
-            !job.getLocation().matches("^[A-Za-z\\s.,'-]+,\\s*[A-Z]{2}$") && // Allow more chars for city
-            !job.getLocation().matches("^[A-Za-z\\s.,'-]+$")) { // Allow city name only if no state
+        LocationValidator.Location location = locationValidator.normalize(job.getLocation());
+        if (!location.recognized()) {
             logger.warn("Job location validation failed for: {}", job.getLocation());
         }
+        job.setLocationCity(location.city());
+        job.setLocationState(location.state());
+        job.setRemote(location.remote());
+    }
+
+    // Parses a status string, returning null when it is blank
+    Job.Status parseStatus(String status) {
+        if (status == null || status.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return Job.Status.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new GlobalExceptionHandler.InvalidRequestException("Invalid status value: " + status);
+        }
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new GlobalExceptionHandler.InvalidRequestException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return limit;
+    }
+
+    private String blankToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+
+    // Cursors are opaque to clients: base64url("createdAt:id") of the last row on the page
+    private String encodeCursor(LocalDate createdAt, Long id) {
+        String raw = createdAt + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private PageCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new PageCursor(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new GlobalExceptionHandler.InvalidRequestException("Invalid cursor");
+        }
+    }
+
+    private record PageCursor(LocalDate createdAt, Long id) {
+        static final PageCursor START = new PageCursor(null, null);
     }
 }
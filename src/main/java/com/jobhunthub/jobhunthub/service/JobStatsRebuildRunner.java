@@ -0,0 +1,65 @@
+package com.jobhunthub.jobhunthub.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.repository.UserRepository;
+
+/**
+ * Backfill command for the job stats rollup. Start the app with
+ * {@code --rebuild-job-stats} to recompute every user's stats from the jobs
+ * table (one transaction per user), then exit.
+ */
+@Component
+public class JobStatsRebuildRunner implements ApplicationRunner {
+
+    static final String REBUILD_OPTION = "rebuild-job-stats";
+    private static final int BATCH_SIZE = 500;
+    private static final Logger logger = LoggerFactory.getLogger(JobStatsRebuildRunner.class);
+
+    private final UserRepository userRepository;
+    private final JobStatsService jobStatsService;
+    private final ConfigurableApplicationContext context;
+
+    public JobStatsRebuildRunner(UserRepository userRepository, JobStatsService jobStatsService,
+                                 ConfigurableApplicationContext context) {
+        this.userRepository = userRepository;
+        this.jobStatsService = jobStatsService;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(REBUILD_OPTION)) {
+            return;
+        }
+        long rebuilt = rebuildAll();
+        logger.info("Rebuilt job stats for {} users", rebuilt);
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    // Rebuild the rollup for every user, paging through the users table
+    public long rebuildAll() {
+        long rebuilt = 0;
+        Page<User> page = userRepository.findAll(PageRequest.of(0, BATCH_SIZE, Sort.by("id")));
+        while (true) {
+            for (User user : page) {
+                jobStatsService.rebuild(user);
+                rebuilt++;
+            }
+            if (!page.hasNext()) {
+                return rebuilt;
+            }
+            page = userRepository.findAll(page.nextPageable());
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jobhunthub.jobhunthub.dto.AllTimeJobStatsDTO;
+import com.jobhunthub.jobhunthub.model.Job;
+import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.model.UserJobDailyCount;
+import com.jobhunthub.jobhunthub.model.UserJobStats;
+import com.jobhunthub.jobhunthub.repository.JobRepository;
+import com.jobhunthub.jobhunthub.repository.UserJobDailyCountRepository;
+import com.jobhunthub.jobhunthub.repository.UserJobStatsRepository;
+
+/**
+ * Maintains the per-user job stats rollup (user_job_stats + user_job_daily_counts).
+ * The record* methods run inside the caller's transaction so the rollup commits
+ * or rolls back together with the job write.
+ */
+@Service
+public class JobStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobStatsService.class);
+
+    private final UserJobStatsRepository statsRepository;
+    private final UserJobDailyCountRepository dailyCountRepository;
+    private final JobRepository jobRepository;
+
+    public JobStatsService(UserJobStatsRepository statsRepository,
+                           UserJobDailyCountRepository dailyCountRepository,
+                           JobRepository jobRepository) {
+        this.statsRepository = statsRepository;
+        this.dailyCountRepository = dailyCountRepository;
+        this.jobRepository = jobRepository;
+    }
+
+    // Get all-time stats for a user (a single primary-key lookup once the rollup exists)
+    @Transactional(readOnly = true)
+    public AllTimeJobStatsDTO getAllTimeStats(User user) {
+        // Without a rollup yet, count from the jobs table; the user's next job write creates the row
+        UserJobStats stats = statsRepository.findById(user.getId())
+                .orElseGet(() -> countJobs(user, UserJobStats.builder().userId(user.getId()).build(), new HashMap<>()));
+        return AllTimeJobStatsDTO.fromEntity(stats);
+    }
+
+    // Apply a newly created job to the rollup
+    @Transactional
+    public void recordJobAdded(User user, LocalDate createdAt, Job.Status status) {
+        Optional<UserJobStats> locked = statsRepository.findByIdForUpdate(user.getId());
+        if (locked.isEmpty()) {
+            rebuild(user); // First write for this user: the rebuild already includes the new job
+            return;
+        }
+        UserJobStats stats = locked.get();
+
+        UserJobDailyCount daily = dailyCountRepository.findByUserIdAndJobDate(user.getId(), createdAt)
+                .orElseGet(() -> new UserJobDailyCount(user.getId(), createdAt, 0));
+        daily.setJobCount(daily.getJobCount() + 1);
+        dailyCountRepository.save(daily);
+
+        stats.setTotal(stats.getTotal() + 1);
+        stats.adjustStatus(status, 1);
+        if (daily.getJobCount() == 1) {
+            stats.setDistinctDays(stats.getDistinctDays() + 1);
+        }
+        stats.setBestDayCount(Math.max(stats.getBestDayCount(), daily.getJobCount()));
+        statsRepository.save(stats);
+    }
+
+    // Remove a deleted job from the rollup
+    @Transactional
+    public void recordJobRemoved(User user, LocalDate createdAt, Job.Status status) {
+        Optional<UserJobStats> locked = statsRepository.findByIdForUpdate(user.getId());
+        if (locked.isEmpty()) {
+            rebuild(user);
+            return;
+        }
+        UserJobStats stats = locked.get();
+
+        Optional<UserJobDailyCount> daily = dailyCountRepository.findByUserIdAndJobDate(user.getId(), createdAt);
+        if (daily.isEmpty()) {
+            logger.warn("Job stats rollup out of sync for user {}, rebuilding", user.getId());
+            rebuild(user);
+            return;
+        }
+
+        UserJobDailyCount day = daily.get();
+        long previousCount = day.getJobCount();
+        if (previousCount <= 1) {
+            dailyCountRepository.delete(day);
+            stats.setDistinctDays(stats.getDistinctDays() - 1);
+        } else {
+            day.setJobCount(previousCount - 1);
+            dailyCountRepository.save(day);
+        }
+
+        stats.setTotal(stats.getTotal() - 1);
+        stats.adjustStatus(status, -1);
+        // Only a drop on the best day can lower the best-day count; re-read the max from the histogram
+        if (previousCount == stats.getBestDayCount()) {
+            Long max = dailyCountRepository.findMaxJobCount(user.getId());
+            stats.setBestDayCount(max != null ? max : 0);
+        }
+        statsRepository.save(stats);
+    }
+
+    // Move a job from one status counter to another
+    @Transactional
+    public void recordStatusChange(User user, Job.Status oldStatus, Job.Status newStatus) {
+        if (oldStatus == newStatus) {
+            return;
+        }
+        Optional<UserJobStats> locked = statsRepository.findByIdForUpdate(user.getId());
+        if (locked.isEmpty()) {
+            rebuild(user);
+            return;
+        }
+        UserJobStats stats = locked.get();
+        if (oldStatus != null) {
+            stats.adjustStatus(oldStatus, -1);
+        }
+        if (newStatus != null) {
+            stats.adjustStatus(newStatus, 1);
+        }
+        statsRepository.save(stats);
+    }
+
+    // Lock the user's rollup row before reading the jobs a write changes, so concurrent writes see each other's
+    // results; a missing row is built first from the jobs as they are before this write
+    @Transactional
+    public void lockRollup(User user) {
+        if (statsRepository.findByIdForUpdate(user.getId()).isEmpty()) {
+            rebuild(user);
+        }
+    }
+
+    // Move jobs between status counters in one rollup write; changedFrom counts the moved jobs by previous status
+    @Transactional
+    public void recordStatusChanges(User user, Map<Job.Status, Long> changedFrom, Job.Status newStatus) {
+        if (changedFrom.isEmpty()) {
+            return;
+        }
+        Optional<UserJobStats> locked = statsRepository.findByIdForUpdate(user.getId());
+        if (locked.isEmpty()) {
+            rebuild(user);
+            return;
+        }
+        UserJobStats stats = locked.get();
+        long moved = 0;
+        for (Map.Entry<Job.Status, Long> change : changedFrom.entrySet()) {
+            if (change.getKey() != null) {
+                stats.adjustStatus(change.getKey(), -change.getValue());
+            }
+            moved += change.getValue();
+        }
+        stats.adjustStatus(newStatus, moved);
+        statsRepository.save(stats);
+    }
+
+    // Recompute a user's rollup from the jobs table (backfill and self-healing)
+    @Transactional
+    public UserJobStats rebuild(User user) {
+        // Create the row before locking it, so concurrent first writes wait on the lock instead of both inserting
+        statsRepository.insertIfAbsent(user.getId());
+        UserJobStats stats = statsRepository.findByIdForUpdate(user.getId()).orElseThrow();
+        Map<LocalDate, Long> dailyCounts = new HashMap<>();
+        countJobs(user, stats, dailyCounts);
+
+        dailyCountRepository.deleteByUserId(user.getId());
+        dailyCountRepository.saveAll(dailyCounts.entrySet().stream()
+                .map(e -> new UserJobDailyCount(user.getId(), e.getKey(), e.getValue()))
+                .toList());
+        return statsRepository.save(stats);
+    }
+
+    // Fill stats with the user's job counts, collecting the jobs per day into dailyCounts
+    private UserJobStats countJobs(User user, UserJobStats stats, Map<LocalDate, Long> dailyCounts) {
+        stats.setTotal(0);
+        stats.setApplied(0);
+        stats.setInterviewed(0);
+        stats.setRejected(0);
+
+        for (Object[] row : jobRepository.getCountsByDateAndStatus(user)) {
+            LocalDate createdAt = (LocalDate) row[0];
+            Job.Status status = (Job.Status) row[1];
+            long count = ((Number) row[2]).longValue();
+            stats.setTotal(stats.getTotal() + count);
+            if (status != null) {
+                stats.adjustStatus(status, count);
+            }
+            if (createdAt != null) {
+                dailyCounts.merge(createdAt, count, Long::sum);
+            }
+        }
+
+        stats.setDistinctDays(dailyCounts.size());
+        stats.setBestDayCount(dailyCounts.values().stream().mapToLong(Long::longValue).max().orElse(0));
+        return stats;
+    }
+}
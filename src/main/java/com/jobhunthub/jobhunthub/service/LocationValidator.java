@@ -0,0 +1,209 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Parses free-text job locations into a structured city/state/remote form.
+ * Patterns are compiled once and the gazetteer of US states and common city
+ * aliases lives in memory, so validating a location costs a few map lookups
+ * and anchored matches against simple character classes, which keeps bulk
+ * imports cheap.
+ */
+@Component
+public class LocationValidator {
+
+    private static final Pattern REMOTE = Pattern.compile(
+            "(?:fully\\s+|100%\\s+)?(?:remote|anywhere|work\\s+from\\s+home|wfh)\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CITY = Pattern.compile("[\\p{L} .'-]+");
+    private static final Pattern REGION = Pattern.compile("[\\p{L} .]+");
+    private static final Pattern ZIP = Pattern.compile("\\d{5}(?:-\\d{4})?");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    // Between a remote prefix and a place: "Remote - Chicago, IL", "Remote (NYC)", "remote in Austin, TX"
+    private static final Pattern REMOTE_SEPARATOR = Pattern.compile("[\\s\\-\u2013\u2014,:;/|(]*(?:(?:based\\s+)?in\\s+)?");
+    private static final int MAX_CITY_LENGTH = 100; // jobs.location_city
+    private static final String REMOTE_FIRST_LETTERS = "rawf1"; // cheap pre-check before the REMOTE pattern
+
+    private static final Map<String, String> STATES = new HashMap<>();   // lower-case name or code -> code
+    private static final Map<String, Location> CITIES = new HashMap<>(); // lower-case alias -> location
+
+    static {
+        String[][] states = {
+                {"AL", "Alabama"}, {"AK", "Alaska"}, {"AZ", "Arizona"}, {"AR", "Arkansas"}, {"CA", "California"},
+                {"CO", "Colorado"}, {"CT", "Connecticut"}, {"DE", "Delaware"}, {"DC", "District of Columbia"},
+                {"FL", "Florida"}, {"GA", "Georgia"}, {"HI", "Hawaii"}, {"ID", "Idaho"}, {"IL", "Illinois"},
+                {"IN", "Indiana"}, {"IA", "Iowa"}, {"KS", "Kansas"}, {"KY", "Kentucky"}, {"LA", "Louisiana"},
+                {"ME", "Maine"}, {"MD", "Maryland"}, {"MA", "Massachusetts"}, {"MI", "Michigan"}, {"MN", "Minnesota"},
+                {"MS", "Mississippi"}, {"MO", "Missouri"}, {"MT", "Montana"}, {"NE", "Nebraska"}, {"NV", "Nevada"},
+                {"NH", "New Hampshire"}, {"NJ", "New Jersey"}, {"NM", "New Mexico"}, {"NY", "New York"},
+                {"NC", "North Carolina"}, {"ND", "North Dakota"}, {"OH", "Ohio"}, {"OK", "Oklahoma"}, {"OR", "Oregon"},
+                {"PA", "Pennsylvania"}, {"RI", "Rhode Island"}, {"SC", "South Carolina"}, {"SD", "South Dakota"},
+                {"TN", "Tennessee"}, {"TX", "Texas"}, {"UT", "Utah"}, {"VT", "Vermont"}, {"VA", "Virginia"},
+                {"WA", "Washington"}, {"WV", "West Virginia"}, {"WI", "Wisconsin"}, {"WY", "Wyoming"},
+                {"PR", "Puerto Rico"}
+        };
+        for (String[] state : states) {
+            STATES.put(state[0].toLowerCase(Locale.ROOT), state[0]);
+            STATES.put(state[1].toLowerCase(Locale.ROOT), state[0]);
+        }
+        STATES.put("d.c.", "DC");
+        STATES.put("washington dc", "DC");
+        STATES.put("washington d.c.", "DC");
+
+        // Large job markets, so a bare city name still resolves to a state
+        city("New York", "NY", "nyc", "new york city", "manhattan", "brooklyn");
+        city("San Francisco", "CA", "sf", "san fran");
+        city("Los Angeles", "CA"); // not "LA", which is also Louisiana's code
+        city("San Jose", "CA");
+        city("San Diego", "CA");
+        city("Seattle", "WA");
+        city("Chicago", "IL", "chi");
+        city("Boston", "MA");
+        city("Austin", "TX");
+        city("Dallas", "TX");
+        city("Houston", "TX");
+        city("Denver", "CO");
+        city("Atlanta", "GA", "atl");
+        city("Miami", "FL");
+        city("Philadelphia", "PA", "philly");
+        city("Pittsburgh", "PA");
+        city("Phoenix", "AZ");
+        city("Portland", "OR");
+        city("Minneapolis", "MN");
+        city("Detroit", "MI");
+        city("Nashville", "TN");
+        city("Raleigh", "NC");
+        city("Salt Lake City", "UT", "slc");
+        city("Las Vegas", "NV", "vegas");
+        city("St. Louis", "MO", "saint louis", "st louis");
+        // Bare "Washington" is the state, so only the qualified forms name the capital
+        Location washington = new Location("Washington", "DC", false);
+        for (String alias : new String[]{"washington dc", "washington d.c.", "dc"}) {
+            CITIES.put(alias, washington);
+        }
+    }
+
+    private static void city(String name, String state, String... aliases) {
+        Location location = new Location(name, state, false);
+        CITIES.put(name.toLowerCase(Locale.ROOT), location);
+        for (String alias : aliases) {
+            CITIES.put(alias, location);
+        }
+    }
+
+    /**
+     * Structured form of a location. City and state are null when unknown;
+     * state is only set for US states and territories.
+     */
+    public record Location(String city, String state, boolean remote) {
+        public static final Location UNRECOGNIZED = new Location(null, null, false);
+
+        public boolean recognized() {
+            return remote || city != null || state != null;
+        }
+    }
+
+    // Normalize a free-text location; returns Location.UNRECOGNIZED when it cannot be parsed
+    public Location normalize(String raw) {
+        if (raw == null) {
+            return Location.UNRECOGNIZED;
+        }
+        String location = raw.trim();
+        if (location.isEmpty()) {
+            return Location.UNRECOGNIZED;
+        }
+        if (hasIrregularWhitespace(location)) {
+            location = WHITESPACE.matcher(location).replaceAll(" ");
+        }
+        if (REMOTE_FIRST_LETTERS.indexOf(Character.toLowerCase(location.charAt(0))) >= 0) {
+            Matcher remote = REMOTE.matcher(location);
+            if (remote.lookingAt()) {
+                return remoteFrom(location.substring(remote.end()));
+            }
+        }
+        return place(location);
+    }
+
+    // A remote location, keeping a place named after the prefix when it resolves to a US state;
+    // free text such as "US only" or "preferred EST" is not taken for a city
+    private Location remoteFrom(String rest) {
+        Matcher separator = REMOTE_SEPARATOR.matcher(rest);
+        separator.lookingAt();
+        String text = rest.substring(separator.end()).trim();
+        if (text.endsWith(")")) {
+            text = text.substring(0, text.length() - 1).trim();
+        }
+        Location named = text.isEmpty() ? Location.UNRECOGNIZED : place(text);
+        return new Location(named.state() != null ? named.city() : null, named.state(), true);
+    }
+
+    // A city, a state, "City, Region" or "City, Region 12345" without a remote prefix
+    private Location place(String location) {
+        String lower = location.toLowerCase(Locale.ROOT);
+        Location known = CITIES.get(lower);
+        if (known != null) {
+            return known;
+        }
+        String state = STATES.get(lower);
+        if (state != null) {
+            return new Location(null, state, false);
+        }
+
+        // "City, Region" splits on the last comma, with an optional US zip code after the region
+        int comma = location.lastIndexOf(',');
+        if (comma < 0) {
+            return location.length() <= MAX_CITY_LENGTH && CITY.matcher(location).matches()
+                    ? new Location(titleCase(location), null, false) : Location.UNRECOGNIZED;
+        }
+        String city = location.substring(0, comma).trim();
+        String region = location.substring(comma + 1).trim();
+        int space = region.lastIndexOf(' ');
+        if (space > 0 && Character.isDigit(region.charAt(region.length() - 1))
+                && ZIP.matcher(region).region(space + 1, region.length()).matches()) {
+            region = region.substring(0, space).trim();
+        }
+        if (city.isEmpty() || city.length() > MAX_CITY_LENGTH || !CITY.matcher(city).matches()
+                || !REGION.matcher(region).matches()) {
+            return Location.UNRECOGNIZED;
+        }
+        return new Location(titleCase(city), STATES.get(region.toLowerCase(Locale.ROOT)), false);
+    }
+
+    // True when whitespace needs collapsing; most input is already single-spaced, so skip the regex then
+    private static boolean hasIrregularWhitespace(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c) && (c != ' ' || Character.isWhitespace(text.charAt(i + 1)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Title-case words that were typed in a single case; mixed case such as "McAllen" is kept
+    private static String titleCase(String text) {
+        String trimmed = text.trim();
+        boolean hasLower = false;
+        boolean hasUpper = false;
+        for (int i = 0; i < trimmed.length(); i++) {
+            hasLower |= Character.isLowerCase(trimmed.charAt(i));
+            hasUpper |= Character.isUpperCase(trimmed.charAt(i));
+        }
+        if (hasLower && hasUpper) {
+            return trimmed;
+        }
+        StringBuilder out = new StringBuilder(trimmed.length());
+        boolean startOfWord = true;
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            out.append(startOfWord ? Character.toUpperCase(c) : Character.toLowerCase(c));
+            startOfWord = c == ' ' || c == '-' || c == '.';
+        }
+        return out.toString();
+    }
+}
@@ -1,5 +1,6 @@
 package com.jobhunthub.jobhunthub.service;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserRequest;
@@ -44,8 +45,8 @@ public class OAuth2Service {
         return new UserPrincipal(oidcUser, domainUser);
     }
     
-    // Decide if the request is for linking or authenticating
-    private User processOAuth2Request(OAuth2User oauth2User, String provider) {
+    // Decide if the request is for linking or authenticating (outside a request it always authenticates)
+    public User processOAuth2Request(OAuth2User oauth2User, String provider) {
         boolean isLinking = isLinkingRequest();
         Authentication current = SecurityContextHolder.getContext().getAuthentication();
         
@@ -57,7 +58,12 @@ public class OAuth2Service {
                 throw new IllegalStateException("Account linking requested but no authenticated user found.");
             }
         } else {
-            return userService.authenticateUser(oauth2User, provider);
+            try {
+                return userService.authenticateUser(oauth2User, provider);
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent first login for the same account inserted the user first (unique provider id); use it
+                return userService.authenticateUser(oauth2User, provider);
+            }
         }
     }
     
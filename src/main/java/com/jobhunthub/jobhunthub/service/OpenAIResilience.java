@@ -0,0 +1,150 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.ServiceUnavailableException;
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.TooManyRequestsException;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRateLimiterMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Guards calls to the OpenAI API. Each call is checked against a per-user
+ * token bucket once, then every attempt passes a global token bucket, a
+ * circuit breaker and a concurrency bulkhead. 429 and 5xx responses are
+ * retried with jittered exponential backoff. Rejections fail fast as 429/503
+ * instead of waiting on a dependency that is already struggling.
+ */
+@Component
+public class OpenAIResilience {
+    private static final String NAME = "openai";
+
+    private final Bulkhead bulkhead;
+    private final RateLimiter globalRateLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+    private final RateLimiterConfig userRateLimiterConfig;
+    private final Cache<Long, RateLimiter> userRateLimiters;
+
+    public OpenAIResilience(MeterRegistry meterRegistry,
+                            @Value("${openai.resilience.max-concurrent-calls:32}") int maxConcurrentCalls,
+                            @Value("${openai.resilience.global-calls-per-second:20}") int globalCallsPerSecond,
+                            @Value("${openai.resilience.user-calls-per-minute:10}") int userCallsPerMinute,
+                            @Value("${openai.resilience.failure-rate-threshold:50}") float failureRateThreshold,
+                            @Value("${openai.resilience.sliding-window-size:20}") int slidingWindowSize,
+                            @Value("${openai.resilience.open-state-wait:30s}") Duration openStateWait,
+                            @Value("${openai.resilience.half-open-probes:3}") int halfOpenProbes,
+                            @Value("${openai.resilience.max-attempts:3}") int maxAttempts,
+                            @Value("${openai.resilience.initial-backoff:500ms}") Duration initialBackoff) {
+        BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        RateLimiterRegistry rateLimiters = RateLimiterRegistry.of(RateLimiterConfig.custom()
+                .limitForPeriod(globalCallsPerSecond)
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .timeoutDuration(Duration.ZERO)
+                .build());
+        CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(Math.max(1, slidingWindowSize / 2))
+                .waitDurationInOpenState(openStateWait)
+                .permittedNumberOfCallsInHalfOpenState(halfOpenProbes)
+                .recordException(OpenAIResilience::isUpstreamFailure)
+                .build());
+        RetryRegistry retries = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(maxAttempts)
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(initialBackoff, 2.0, 0.5))
+                .retryOnException(OpenAIResilience::isRetryable)
+                .build());
+
+        this.bulkhead = bulkheads.bulkhead(NAME);
+        this.globalRateLimiter = rateLimiters.rateLimiter(NAME);
+        this.circuitBreaker = circuitBreakers.circuitBreaker(NAME);
+        this.retry = retries.retry(NAME);
+
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+        TaggedRateLimiterMetrics.ofRateLimiterRegistry(rateLimiters).bindTo(meterRegistry);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedRetryMetrics.ofRetryRegistry(retries).bindTo(meterRegistry);
+
+        // Per-user buckets are not registered as meters to keep metric cardinality bounded
+        this.userRateLimiterConfig = RateLimiterConfig.custom()
+                .limitForPeriod(userCallsPerMinute)
+                .limitRefreshPeriod(Duration.ofMinutes(1))
+                .timeoutDuration(Duration.ZERO)
+                .build();
+        this.userRateLimiters = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .maximumSize(100_000)
+                .build();
+    }
+
+    // Run an OpenAI call under the guards; userId may be null for calls not made on behalf of a user
+    public <T> T execute(Long userId, Supplier<T> call) {
+        if (userId != null) {
+            RateLimiter userRateLimiter = userRateLimiters.get(userId,
+                    id -> RateLimiter.of(NAME + "-user-" + id, userRateLimiterConfig));
+            if (!userRateLimiter.acquirePermission()) {
+                throw new TooManyRequestsException("You are sending evaluations too quickly, please wait a minute");
+            }
+        }
+
+        Supplier<T> guarded = Bulkhead.decorateSupplier(bulkhead, call);
+        guarded = CircuitBreaker.decorateSupplier(circuitBreaker, guarded);
+        guarded = RateLimiter.decorateSupplier(globalRateLimiter, guarded);
+        guarded = Retry.decorateSupplier(retry, guarded);
+        try {
+            return guarded.get();
+        } catch (CallNotPermittedException e) {
+            throw new ServiceUnavailableException("The evaluation service is temporarily unavailable, please try again shortly");
+        } catch (BulkheadFullException e) {
+            throw new ServiceUnavailableException("Too many evaluations in progress, please try again shortly");
+        } catch (RequestNotPermitted e) {
+            throw new TooManyRequestsException("The evaluation service is busy, please try again shortly");
+        }
+    }
+
+    CircuitBreaker.State circuitState() {
+        return circuitBreaker.getState();
+    }
+
+    // 429 and 5xx responses are worth another attempt after a pause
+    private static boolean isRetryable(Throwable e) {
+        return e instanceof RestClientResponseException response
+                && (response.getStatusCode().value() == 429 || response.getStatusCode().is5xxServerError());
+    }
+
+    // Failures that say OpenAI is unhealthy; other 4xx responses are our own request errors
+    private static boolean isUpstreamFailure(Throwable e) {
+        return isRetryable(e) || e instanceof ResourceAccessException;
+    }
+}
@@ -1,24 +1,41 @@
 package com.jobhunthub.jobhunthub.service;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.ServiceUnavailableException;
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.TooManyRequestsException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 @Service
 public class OpenAIService {
     private static final String DEFAULT_MODEL = "gpt-4.1-mini";
     private static final double DEFAULT_TEMPERATURE = 0.7;
     private static final int DEFAULT_MAX_TOKENS = 1000;
+    private static final String ERROR_RESPONSE =
+            "{\"rating\": 5, \"feedback\": \"I apologize, but I'm having trouble processing your request right now.\"}";
 
     private static final Logger logger = LoggerFactory.getLogger(OpenAIService.class);
 
@@ -30,32 +47,139 @@ public class OpenAIService {
 
     private final RestClient restClient;
     private final ObjectMapper objectMapper;
+    private final OpenAIResilience resilience;
+    private final MeterRegistry meterRegistry;
 
-    public OpenAIService(RestClient restClient, ObjectMapper objectMapper) {
+    public OpenAIService(@Qualifier("openAiRestClient") RestClient restClient, ObjectMapper objectMapper,
+                         OpenAIResilience resilience, MeterRegistry meterRegistry) {
         this.restClient = restClient;
         this.objectMapper = objectMapper;
+        this.resilience = resilience;
+        this.meterRegistry = meterRegistry;
     }
 
     public String getResponse(String userInput, String aiPrompt) {
+        return getResponse(null, userInput, aiPrompt);
+    }
+
+    // Rate limited per user when userId is given; rejections by the resilience layer are rethrown as 429/503
+    public String getResponse(Long userId, String userInput, String aiPrompt) {
         try {
             Map<String, Object> requestBody = createRequestBody(aiPrompt, userInput);
 
-            ResponseEntity<String> response = restClient.post()
+            ResponseEntity<String> response = timed("blocking", () -> resilience.execute(userId, () -> restClient.post()
                     .uri(apiUrl)
                     .contentType(MediaType.APPLICATION_JSON)
                     .headers(h -> h.setBearerAuth(apiKey))
                     .body(requestBody)
                     .retrieve()
-                    .toEntity(String.class);
+                    .toEntity(String.class)));
 
             return processResponse(response.getBody());
+        } catch (ServiceUnavailableException | TooManyRequestsException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error in OpenAI request using RestClient: {}", e.getMessage(), e);
             return createErrorResponse();
         }
     }
 
+    // Streams the completion, passing each content delta to onDelta as it arrives, and returns the full content
+    public String streamResponse(Long userId, String userInput, String aiPrompt, Consumer<String> onDelta) {
+        try {
+            Map<String, Object> requestBody = new HashMap<>(createRequestBody(aiPrompt, userInput));
+            requestBody.put("stream", true);
+            requestBody.put("stream_options", Map.of("include_usage", true));
+
+            String content = timed("stream", () -> resilience.execute(userId, () -> restClient.post()
+                    .uri(apiUrl)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .headers(h -> h.setBearerAuth(apiKey))
+                    .body(requestBody)
+                    .exchange((request, response) -> {
+                        if (response.getStatusCode().isError()) {
+                            // Thrown before any delta is read, so 429/5xx can be retried safely
+                            throw new RestClientResponseException("OpenAI stream failed with status " + response.getStatusCode(),
+                                    response.getStatusCode(), response.getStatusText(), response.getHeaders(), null, null);
+                        }
+                        return readStream(new BufferedReader(
+                                new InputStreamReader(response.getBody(), StandardCharsets.UTF_8)), onDelta);
+                    })));
+
+            return normalizeContent(content);
+        } catch (ServiceUnavailableException | TooManyRequestsException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error in OpenAI streaming request: {}", e.getMessage(), e);
+            return createErrorResponse();
+        }
+    }
+
     // Helper methods for OpenAI API interaction
+
+    // Times an OpenAI call as openai.requests, tagged by mode and outcome (success, error, rejected)
+    private <T> T timed(String mode, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } catch (ServiceUnavailableException | TooManyRequestsException e) {
+            outcome = "rejected";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("openai.requests")
+                    .description("Latency of OpenAI chat completion calls")
+                    .tag("mode", mode)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    // Counts tokens from the completion usage block as openai.tokens, tagged prompt/completion
+    private void recordUsage(JsonNode usage) {
+        if (!usage.isObject()) {
+            return;
+        }
+        countTokens("prompt", usage.path("prompt_tokens").asLong());
+        countTokens("completion", usage.path("completion_tokens").asLong());
+    }
+
+    private void countTokens(String kind, long tokens) {
+        if (tokens > 0) {
+            Counter.builder("openai.tokens")
+                    .description("Tokens billed by OpenAI")
+                    .tag("kind", kind)
+                    .tag("model", DEFAULT_MODEL)
+                    .register(meterRegistry)
+                    .increment(tokens);
+        }
+    }
+    private String readStream(BufferedReader reader, Consumer<String> onDelta) throws IOException {
+        StringBuilder content = new StringBuilder();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.startsWith("data:")) {
+                continue; // blank separators and SSE comments
+            }
+            String data = line.substring(5).trim();
+            if ("[DONE]".equals(data)) {
+                break;
+            }
+            JsonNode chunk = objectMapper.readTree(data);
+            recordUsage(chunk.path("usage")); // only the final chunk carries usage
+            JsonNode delta = chunk.path("choices").path(0).path("delta").path("content");
+            if (delta.isTextual() && !delta.asText().isEmpty()) {
+                content.append(delta.asText());
+                onDelta.accept(delta.asText());
+            }
+        }
+        return content.toString();
+    }
+
     private Map<String, Object> createRequestBody(String aiPrompt, String userInput) {
         return Map.of(
                 "model", DEFAULT_MODEL,
@@ -68,14 +192,21 @@ public class OpenAIService {
         );
     }
 
-    private String processResponse(String responseBody) throws Exception {
+    // Package-private so the JMH parsing benchmark can call it directly
+    String processResponse(String responseBody) throws Exception {
         if (responseBody == null || responseBody.isEmpty()) {
             logger.warn("Received null or empty response body from OpenAI.");
             return createErrorResponse();
         }
         JsonNode jsonResponse = objectMapper.readTree(responseBody);
+        recordUsage(jsonResponse.path("usage"));
         String content = jsonResponse.path("choices").get(0).path("message").path("content").asText();
 
+        return normalizeContent(content);
+    }
+
+    // Falls back to wrapping the content as feedback when the model did not answer with JSON
+    private String normalizeContent(String content) throws Exception {
         if (content == null || content.isEmpty()) {
              logger.warn("Extracted null or empty content from OpenAI response choices.");
              return createErrorResponse();
@@ -98,6 +229,11 @@ public class OpenAIService {
     }
 
     private String createErrorResponse() {
-        return "{\"rating\": 5, \"feedback\": \"I apologize, but I'm having trouble processing your request right now.\"}";
+        return ERROR_RESPONSE;
+    }
+
+    // True for the placeholder returned when OpenAI could not be reached; such results must not be cached
+    public static boolean isErrorResponse(String response) {
+        return ERROR_RESPONSE.equals(response);
     }
 }
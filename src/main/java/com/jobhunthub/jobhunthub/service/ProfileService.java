@@ -1,11 +1,15 @@
 package com.jobhunthub.jobhunthub.service;
 
+import java.util.Optional;
+
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.jobhunthub.jobhunthub.dto.OAuth2UserAttributes;
 import com.jobhunthub.jobhunthub.dto.ProfileDTO;
 import com.jobhunthub.jobhunthub.dto.UpdateProfileRequestDTO;
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler;
 import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.InvalidRequestException;
 import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.ResourceNotFoundException;
 import com.jobhunthub.jobhunthub.model.Profile;
@@ -15,37 +19,33 @@ import com.jobhunthub.jobhunthub.repository.ProfileRepository;
 @Service
 public class ProfileService {
     private final ProfileRepository profileRepository;
+    private final UsernameAvailabilityService usernameAvailability;
 
-    public ProfileService(ProfileRepository profileRepository) {
+    public ProfileService(ProfileRepository profileRepository, UsernameAvailabilityService usernameAvailability) {
         this.profileRepository = profileRepository;
+        this.usernameAvailability = usernameAvailability;
     }
 
-    // Provision a profile for a user when they first sign up
-    public void provisionProfile(User user, OAuth2UserAttributes attrs) {
+    // Provision a profile for a user on first sign-up or first link, with the provider's email already set.
+    // A new (unsaved) user is persisted along with it.
+    public Profile provisionProfile(User user, OAuth2UserAttributes attrs, String provider) {
         Profile p = new Profile();
         p.setUser(user);
         p.setPrimaryEmail(attrs.email());
         p.setAvatarUrl(attrs.avatarUrl());
-        profileRepository.save(p);
+        setProviderEmail(p, attrs.email(), provider);
+        return profileRepository.save(p);
     }
 
-    // Link a provider email to a user's profile when they link their account to a provider
-    public void linkProviderEmail(User user, OAuth2UserAttributes attrs, String provider) {
-        Profile profile = profileRepository
-                .findByUser(user)
-                .orElseThrow(() ->
-                        new IllegalStateException("Profile must already exist before linking a new provider")
-                );
-
-        String email = attrs.email();
-        switch (provider.toLowerCase()) {
-            case "github" -> profile.setGithubEmail(email);
-            case "google" -> profile.setGoogleEmail(email);
-            default -> throw new IllegalArgumentException("Unsupported provider: " + provider);
-        }
-        profileRepository.save(profile);
+    // Link a provider email to a managed profile; the change is written when the transaction flushes
+    public void linkProviderEmail(Profile profile, String email, String provider) {
+        setProviderEmail(profile, email, provider);
     }
 
+    // Find the profile for a user, if one has been provisioned
+    public Optional<Profile> findProfile(User user) {
+        return profileRepository.findByUser(user);
+    }
 
     // Get profile information for a user 
     public ProfileDTO getProfileByUser(User user) {
@@ -70,9 +70,9 @@ public class ProfileService {
         Profile profile = profileRepository.findByUser(user)
                 .orElseThrow(() -> new ResourceNotFoundException("Profile", "user", user.getId()));
         
-        // Check uniqueness before updating
+        // Check uniqueness before updating; most free names are confirmed by the username filter without a query
         if (dto.getUsername() != null && !dto.getUsername().equals(profile.getUsername())) {
-            if (profileRepository.existsByUsername(dto.getUsername())) {
+            if (!usernameAvailability.isAvailable(dto.getUsername(), user)) {
                 throw new InvalidRequestException("Username already exists");
             }
             profile.setUsername(dto.getUsername());
@@ -91,11 +91,22 @@ public class ProfileService {
         
         validateProfile(profile);
         
-        Profile savedProfile = profileRepository.save(profile);
+        // Flush here so a concurrent update that took the same username fails on the unique constraint
+        Profile savedProfile;
+        try {
+            savedProfile = profileRepository.saveAndFlush(profile);
+        } catch (DataIntegrityViolationException e) {
+            throw new GlobalExceptionHandler.DataIntegrityViolationException("Username already exists");
+        }
+        usernameAvailability.record(savedProfile.getUsername());
         return ProfileDTO.fromEntity(savedProfile);
     }
 
-    public boolean profileExists(User user) {
-        return profileRepository.findByUser(user).isPresent();
+    private static void setProviderEmail(Profile profile, String email, String provider) {
+        switch (provider.toLowerCase()) {
+            case "github" -> profile.setGithubEmail(email);
+            case "google" -> profile.setGoogleEmail(email);
+            default -> throw new IllegalArgumentException("Unsupported provider: " + provider);
+        }
     }
 }
@@ -3,36 +3,55 @@ package com.jobhunthub.jobhunthub.service;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobhunthub.jobhunthub.dto.QuestionDTO;
 import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.AuthenticationException;
 import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.InvalidRequestException;
 import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.ResourceNotFoundException;
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.ServiceUnavailableException;
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.TooManyRequestsException;
 import com.jobhunthub.jobhunthub.model.Question;
 import com.jobhunthub.jobhunthub.model.Question.QuestionType;
 import com.jobhunthub.jobhunthub.model.User;
 import com.jobhunthub.jobhunthub.repository.QuestionRepository;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 @Service
 public class QuestionService {
     private static final Logger logger = LoggerFactory.getLogger(QuestionService.class);
 
     private final QuestionRepository repository;
     private final OpenAIService openAIService;
+    private final EvaluationCache evaluationCache;
+    private final MeterRegistry meterRegistry;
     private final ObjectMapper objectMapper;
+    private final SearchService searchService;
     private final ZoneId zoneId;
 
-    public QuestionService(QuestionRepository repository, OpenAIService openAIService, ZoneId zoneId) {
+    public QuestionService(QuestionRepository repository, OpenAIService openAIService, EvaluationCache evaluationCache,
+                           MeterRegistry meterRegistry, SearchService searchService, ZoneId zoneId) {
         this.repository = repository;
+        this.searchService = searchService;
         this.openAIService = openAIService;
+        this.evaluationCache = evaluationCache;
+        this.meterRegistry = meterRegistry;
         this.objectMapper = new ObjectMapper();
         this.zoneId = zoneId;
     }
@@ -40,7 +59,14 @@ public class QuestionService {
     // Get an unanswered question randomly
     public Question getRandomQuestion(User user, QuestionType type) {
         try {
-            Question question = repository.findRandomQuestionForUserAndType(user.getId(), type.toString());
+            Timer.Sample sample = Timer.start(meterRegistry);
+            Question question = findRandomUnanswered(user.getId(), type.toString());
+            sample.stop(Timer.builder("questions.random.selection")
+                    .description("Time to pick a random unanswered question")
+                    .tag("type", type.name())
+                    .tag("result", question != null ? "found" : "exhausted")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
             return question != null ? question : createNoMoreQuestionsResponse();
         } catch (Exception e) {
             logger.error("Error getting random question: ", e);
@@ -48,6 +74,16 @@ public class QuestionService {
         }
     }
 
+    // Probe the random_key index from a random point, wrapping around to the start once on a miss
+    private Question findRandomUnanswered(Long userId, String type) {
+        double start = ThreadLocalRandom.current().nextDouble();
+        Question question = repository.findNextUnansweredByRandomKey(userId, type, start);
+        return question != null ? question : repository.findNextUnansweredByRandomKey(userId, type, 0.0);
+    }
+
+    // Bump when either prompt template changes so cached evaluations from the old prompt are not reused
+    static final int EVALUATION_PROMPT_VERSION = 1;
+
     // GPT prompt templates for different question types
     private static final String TECHNICAL_EVALUATION_PROMPT_TEMPLATE =
             """
@@ -117,30 +153,88 @@ public class QuestionService {
 
     // Send response to GPT-4 for evaluation
     public Question evaluateResponse(String question, String response, User user, QuestionType type) {
-        try {
-            Question questionEntity = repository.findByQuestionAndUserAndType(question, user, type);
-            if (questionEntity == null) {
-                throw new ResourceNotFoundException("Question", "text", question);
-            }
-
-            validateQuestionOwnership(questionEntity, user, type);
+        return evaluateResponse(question, response, user, type, false);
+    }
 
-            String prompt = type == QuestionType.BEHAVIORAL ? 
-                    BEHAVIORAL_EVALUATION_PROMPT_TEMPLATE : 
-                    TECHNICAL_EVALUATION_PROMPT_TEMPLATE;
+    // Send response to GPT-4 for evaluation; reevaluate skips the evaluation cache
+    public Question evaluateResponse(String question, String response, User user, QuestionType type, boolean reevaluate) {
+        return evaluate(() -> findOwnedQuestion(question, user, type), response, user, type, reevaluate);
+    }
 
-            String gptResponse = openAIService.getResponse(response, 
-                    String.format(prompt, question, response));
-            JsonNode jsonResponse = objectMapper.readTree(gptResponse);
+    // Send response to a question identified by id for evaluation; reevaluate skips the evaluation cache
+    public Question evaluateResponse(Long id, String response, User user, QuestionType type, boolean reevaluate) {
+        return evaluate(() -> findOwnedQuestion(id, user, type), response, user, type, reevaluate);
+    }
 
-            updateQuestion(questionEntity, response, jsonResponse);
-            return repository.save(questionEntity);
+    private Question evaluate(Supplier<Question> lookup, String response, User user, QuestionType type, boolean reevaluate) {
+        try {
+            Question questionEntity = lookup.get();
+            String gptResponse = requestEvaluation(user, type, questionEntity.getQuestion(), response, reevaluate);
+            return applyEvaluation(questionEntity, response, gptResponse);
+        } catch (ServiceUnavailableException | TooManyRequestsException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error evaluating response", e);
             throw new InvalidRequestException("Failed to evaluate response: " + e.getMessage());
         }
     }
 
+    // Finds a question by its text and checks that it belongs to the user
+    public Question findOwnedQuestion(String question, User user, QuestionType type) {
+        Question questionEntity = question == null ? null
+                : repository.findByQuestionHashAndUserAndType(Question.contentHash(question), user, type);
+        if (questionEntity == null) {
+            throw new ResourceNotFoundException("Question", "text", question);
+        }
+        validateQuestionOwnership(questionEntity, user, type);
+        return questionEntity;
+    }
+
+    // Finds a question by id and checks that it belongs to the user
+    public Question findOwnedQuestion(Long id, User user, QuestionType type) {
+        Question questionEntity = repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Question", "id", id));
+        validateQuestionOwnership(questionEntity, user, type);
+        return questionEntity;
+    }
+
+    // Gets the GPT evaluation for an answer, served from the evaluation cache unless reevaluate is set
+    public String requestEvaluation(User user, QuestionType type, String question, String response, boolean reevaluate) {
+        return evaluationCache.getOrEvaluate(evaluationCacheKey(type, question, response), reevaluate,
+                () -> openAIService.getResponse(user.getId(), response, buildEvaluationPrompt(type, question, response)));
+    }
+
+    // Cache key for an evaluation under the current prompt templates
+    public String evaluationCacheKey(QuestionType type, String question, String response) {
+        return evaluationCache.key(type, EVALUATION_PROMPT_VERSION, question, response);
+    }
+
+    // Builds the GPT prompt for a question type
+    public String buildEvaluationPrompt(QuestionType type, String question, String response) {
+        String prompt = type == QuestionType.BEHAVIORAL ?
+                BEHAVIORAL_EVALUATION_PROMPT_TEMPLATE :
+                TECHNICAL_EVALUATION_PROMPT_TEMPLATE;
+        return String.format(prompt, question, response);
+    }
+
+    // Stores the rating and feedback from a GPT evaluation on the question
+    public Question applyEvaluation(Question question, String response, String gptResponse) {
+        JsonNode jsonResponse;
+        try {
+            jsonResponse = objectMapper.readTree(gptResponse);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Evaluation response was not valid JSON");
+        }
+        updateQuestion(question, response, jsonResponse);
+        Counter.builder("evaluations.outcomes")
+                .description("Completed evaluations by rating bucket")
+                .tag("type", question.getType() != null ? question.getType().name() : "UNKNOWN")
+                .tag("rating", ratingBucket(question.getRating()))
+                .register(meterRegistry)
+                .increment();
+        return repository.save(question);
+    }
+
     // Gets count of successfully answered questions for today
     public long getTodayCount(User user, QuestionType type) {
         return repository.countByDateAndUserAndType(LocalDate.now(zoneId), user, type);
@@ -159,28 +253,37 @@ public class QuestionService {
 
     // Resets a specific question (marks it as unanswered)
     public void resetQuestionDate(String question, User user, QuestionType type) {
-        Question questionEntity = repository.findByQuestionAndUserAndType(question, user, type);
-        if (questionEntity == null) {
-            throw new ResourceNotFoundException("Question", "text", question);
-        }
-        validateQuestionOwnership(questionEntity, user, type);
-        questionEntity.setUpdatedAt(null);
-        repository.save(questionEntity);
+        resetDate(findOwnedQuestion(question, user, type));
+    }
+
+    // Resets a specific question by id (marks it as unanswered)
+    public void resetQuestionDate(Long id, User user, QuestionType type) {
+        resetDate(findOwnedQuestion(id, user, type));
     }
 
-    // Creates a new question for the user
+    private void resetDate(Question question) {
+        question.setUpdatedAt(null);
+        repository.save(question);
+    }
+
+    // Creates a new question for the user; the duplicate check and the insert are one statement
     public Question addQuestion(Question question, User user, QuestionType type) {
         validateNewQuestion(question);
-        
-        // Check for duplicate question
-        if (repository.findByQuestionAndUserAndType(question.getQuestion(), user, type) != null) {
+        String hash = Question.contentHash(question.getQuestion());
+        boolean inserted;
+        try {
+            inserted = repository.insertIfAbsent(user.getId(), type, question.getQuestion(), hash,
+                    ThreadLocalRandom.current().nextDouble());
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent add of the same question won the unique key
+            inserted = false;
+        }
+        if (!inserted) {
             throw new InvalidRequestException("This question already exists for your account");
         }
-        
-        question.setUpdatedAt(null);
-        question.setUser(user);
-        question.setType(type);
-        return repository.save(question);
+        // The native insert raises no Hibernate events, so the search index is dropped here
+        searchService.invalidate(user.getId());
+        return repository.findByQuestionHashAndUserAndType(hash, user, type);
     }
 
     // Deletes a question after security checks
@@ -224,6 +327,26 @@ public class QuestionService {
         question.setRating(rating);
         question.setFeedback(evaluation.get("feedback").asText());
         question.setUpdatedAt(rating > 6 ? LocalDate.now(zoneId) : null);
+        // Re-key answered questions so gaps between keys (and so pick odds) keep evening out
+        question.setRandomKey(ThreadLocalRandom.current().nextDouble());
+    }
+
+    // Backfill random keys for questions stored before random sampling was indexed
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void assignMissingRandomKeys() {
+        int updated = repository.assignMissingRandomKeys();
+        if (updated > 0) {
+            logger.info("Assigned random keys to {} questions", updated);
+        }
+    }
+
+    // Buckets line up with the pass mark: 7 and above counts as answered
+    private static String ratingBucket(int rating) {
+        if (rating >= 7) {
+            return "7-10";
+        }
+        return rating >= 5 ? "5-6" : "1-4";
     }
 
     // Creates a no more questions response
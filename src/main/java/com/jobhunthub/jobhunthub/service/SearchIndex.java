@@ -0,0 +1,205 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import com.jobhunthub.jobhunthub.dto.SearchResultDTO;
+
+/**
+ * In-memory inverted index over one user's jobs and questions, used by
+ * SearchService on databases without full-text search (H2 in dev and tests).
+ * Text is split and lowercased the way PostgreSQL's 'simple' configuration
+ * does, terms are kept sorted so a query term matches every indexed term it
+ * is a prefix of, and each hit scores its field weight (title, company and
+ * question text 1.0, location 0.4, feedback 0.2, as ts_rank weighs A, B and C).
+ * An index is immutable once built; changes are picked up by building a new one.
+ */
+final class SearchIndex {
+
+    static final String JOB = "JOB";
+    static final String QUESTION = "QUESTION";
+
+    private static final float WEIGHT_A = 1.0f;
+    private static final float WEIGHT_B = 0.4f;
+    private static final float WEIGHT_C = 0.2f;
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final String[] types;
+    private final long[] ids;
+    private final String[] titles;
+    private final String[] details;
+    private final NavigableMap<String, Postings> terms;
+
+    private SearchIndex(Builder builder) {
+        this.types = builder.types.toArray(String[]::new);
+        this.ids = builder.ids.stream().mapToLong(Long::longValue).toArray();
+        this.titles = builder.titles.toArray(String[]::new);
+        this.details = builder.details.toArray(String[]::new);
+        this.terms = new TreeMap<>();
+        builder.postings.forEach((term, postings) -> terms.put(term, postings.trim()));
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    // Lowercased words of the text, in order, duplicates removed
+    static List<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text != null) {
+            for (String token : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+                if (!token.isEmpty()) {
+                    tokens.add(token);
+                }
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    int termCount() {
+        return terms.size();
+    }
+
+    // Documents of the given type (null for both) matching every query term as a prefix, best first,
+    // skipping the first offset; ties go to the higher id, as in the SQL ordering
+    List<SearchResultDTO> search(List<String> queryTerms, String type, int offset, int limit) {
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        float[] scores = new float[ids.length];
+        int[] matchedTerms = new int[ids.length];
+        for (int t = 0; t < queryTerms.size(); t++) {
+            String prefix = queryTerms.get(t);
+            for (Postings postings : terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+                for (int i = 0; i < postings.size; i++) {
+                    int doc = postings.docs[i];
+                    // A document stays in the running only if it matched every earlier term
+                    if (matchedTerms[doc] == t) {
+                        matchedTerms[doc] = t + 1;
+                        scores[doc] += postings.weights[i];
+                    } else if (matchedTerms[doc] == t + 1) {
+                        scores[doc] += postings.weights[i];
+                    }
+                }
+            }
+        }
+
+        // Keep only the best offset + limit matches, worst at the head so it can be dropped.
+        // Reversed, this is the database order: score desc, type asc, id desc
+        Comparator<Integer> ranking = Comparator.<Integer>comparingDouble(doc -> scores[doc])
+                .thenComparing(doc -> types[doc], Comparator.reverseOrder())
+                .thenComparingLong(doc -> ids[doc]);
+        int keep = (int) Math.min(Integer.MAX_VALUE - 1L, (long) offset + limit);
+        PriorityQueue<Integer> best = new PriorityQueue<>(ranking);
+        for (int doc = 0; doc < ids.length; doc++) {
+            if (matchedTerms[doc] == queryTerms.size() && (type == null || type.equals(types[doc]))) {
+                best.add(doc);
+                if (best.size() > keep) {
+                    best.poll();
+                }
+            }
+        }
+
+        Integer[] ranked = best.toArray(Integer[]::new);
+        Arrays.sort(ranked, ranking.reversed());
+        List<SearchResultDTO> results = new ArrayList<>();
+        for (int i = offset; i < ranked.length; i++) {
+            int doc = ranked[i];
+            results.add(new SearchResultDTO(types[doc], ids[doc], titles[doc], details[doc], scores[doc]));
+        }
+        return results;
+    }
+
+    // Matching documents for one indexed term, in the order they were added, with the summed field weight
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        // Documents are added one at a time, so a repeat of the last document is another hit in it
+        void add(int doc, float weight) {
+            if (size > 0 && docs[size - 1] == doc) {
+                weights[size - 1] += weight;
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = doc;
+            weights[size] = weight;
+            size++;
+        }
+
+        Postings trim() {
+            docs = Arrays.copyOf(docs, size);
+            weights = Arrays.copyOf(weights, size);
+            return this;
+        }
+    }
+
+    static final class Builder {
+        private final List<String> types = new ArrayList<>();
+        private final List<Long> ids = new ArrayList<>();
+        private final List<String> titles = new ArrayList<>();
+        private final List<String> details = new ArrayList<>();
+        private final Map<String, Postings> postings = new HashMap<>();
+
+        private Builder() {
+        }
+
+        Builder addJob(long id, String title, String company, String location) {
+            int doc = add(JOB, id, title, company);
+            index(doc, title, WEIGHT_A);
+            index(doc, company, WEIGHT_A);
+            index(doc, location, WEIGHT_B);
+            return this;
+        }
+
+        Builder addQuestion(long id, String question, String questionType, String feedback) {
+            int doc = add(QUESTION, id, question, questionType);
+            index(doc, question, WEIGHT_A);
+            index(doc, feedback, WEIGHT_C);
+            return this;
+        }
+
+        SearchIndex build() {
+            return new SearchIndex(this);
+        }
+
+        private int add(String type, long id, String title, String detail) {
+            types.add(type);
+            ids.add(id);
+            titles.add(title);
+            details.add(detail);
+            return ids.size() - 1;
+        }
+
+        // Every occurrence counts, like repeated positions in a tsvector
+        private void index(int doc, String text, float weight) {
+            if (text == null) {
+                return;
+            }
+            for (String token : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+                if (!token.isEmpty()) {
+                    postings.computeIfAbsent(token, term -> new Postings()).add(doc, weight);
+                }
+            }
+        }
+    }
+}
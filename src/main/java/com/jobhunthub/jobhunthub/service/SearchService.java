@@ -0,0 +1,225 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobhunthub.jobhunthub.dto.SearchPageDTO;
+import com.jobhunthub.jobhunthub.dto.SearchResultDTO;
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.InvalidRequestException;
+import com.jobhunthub.jobhunthub.model.Job;
+import com.jobhunthub.jobhunthub.model.Question;
+import com.jobhunthub.jobhunthub.model.User;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Full-text search over a user's jobs (title, company, location) and
+ * interview questions (question, feedback). Every query word matches as a
+ * prefix, results are ranked by where the words were found and paged with
+ * an offset, since a rank has no stable key to continue from.
+ * - PostgreSQL: the generated search_vector columns and their GIN indexes
+ *   (migration V5) answer the query directly
+ * - Other databases (H2 in dev and tests): a SearchIndex per user is built
+ *   on the first search and kept in a bounded cache; Hibernate post-commit
+ *   events on jobs and questions drop the owner's index so the next search
+ *   rebuilds it
+ */
+@Service
+public class SearchService {
+    private static final Logger logger = LoggerFactory.getLogger(SearchService.class);
+
+    public static final int MAX_PAGE_SIZE = 50;
+    // Longer queries add little and each word is another index probe
+    private static final int MAX_QUERY_TERMS = 8;
+
+    private static final String JOB_BRANCH = "SELECT 'JOB' AS type, id, title, company AS detail, " +
+            "ts_rank(search_vector, query) AS score FROM jobs, to_tsquery('simple', ?) query " +
+            "WHERE user_id = ? AND search_vector @@ query";
+    private static final String QUESTION_BRANCH = "SELECT 'QUESTION' AS type, id, question AS title, type AS detail, " +
+            "ts_rank(search_vector, query) AS score FROM questions, to_tsquery('simple', ?) query " +
+            "WHERE user_id = ? AND search_vector @@ query";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean fullTextDatabase;
+    private final Cache<Long, SearchIndex> indexes;
+
+    public SearchService(JdbcTemplate jdbcTemplate,
+                         EntityManagerFactory entityManagerFactory,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.search.index.max-users:1000}") long maxIndexedUsers,
+                         @Value("${app.search.index.idle-timeout:30m}") Duration idleTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fullTextDatabase = "PostgreSQL".equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maxIndexedUsers)
+                .expireAfterAccess(idleTimeout)
+                .recordStats()
+                .build();
+        if (!fullTextDatabase) {
+            CaffeineCacheMetrics.monitor(meterRegistry, indexes, "search-indexes");
+            EventListenerRegistry listeners = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getServiceRegistry().getService(EventListenerRegistry.class);
+            IndexInvalidator invalidator = new IndexInvalidator();
+            listeners.appendListeners(EventType.POST_COMMIT_INSERT, invalidator);
+            listeners.appendListeners(EventType.POST_COMMIT_UPDATE, invalidator);
+            listeners.appendListeners(EventType.POST_COMMIT_DELETE, invalidator);
+        }
+    }
+
+    // Search the user's jobs and/or questions; type is "all", "jobs" or "questions"
+    public SearchPageDTO search(String query, String type, int page, int size, User user) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new InvalidRequestException("Search query cannot be empty");
+        }
+        if (page < 0) {
+            throw new InvalidRequestException("Page cannot be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        String documentType = documentType(type);
+        List<String> terms = SearchIndex.tokenize(query);
+        if (terms.isEmpty()) {
+            return new SearchPageDTO(List.of(), page, size, false);
+        }
+        terms = terms.subList(0, Math.min(terms.size(), MAX_QUERY_TERMS));
+
+        // One extra row tells whether another page exists
+        int offset = Math.multiplyExact(page, size);
+        List<SearchResultDTO> results = fullTextDatabase
+                ? searchDatabase(terms, documentType, user.getId(), offset, size + 1)
+                : indexFor(user.getId()).search(terms, documentType, offset, size + 1);
+        boolean hasMore = results.size() > size;
+        return new SearchPageDTO(hasMore ? results.subList(0, size) : results, page, size, hasMore);
+    }
+
+    // Drop a user's in-memory index; the next search rebuilds it
+    public void invalidate(Long userId) {
+        indexes.invalidate(userId);
+    }
+
+    private List<SearchResultDTO> searchDatabase(List<String> terms, String documentType, long userId, int offset, int limit) {
+        // Terms only contain letters and digits, so they are safe tsquery operands
+        String tsquery = terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & "));
+        List<String> branches = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        if (documentType == null || documentType.equals(SearchIndex.JOB)) {
+            branches.add(JOB_BRANCH);
+            params.add(tsquery);
+            params.add(userId);
+        }
+        if (documentType == null || documentType.equals(SearchIndex.QUESTION)) {
+            branches.add(QUESTION_BRANCH);
+            params.add(tsquery);
+            params.add(userId);
+        }
+        params.add(limit);
+        params.add(offset);
+        String sql = String.join(" UNION ALL ", branches) + " ORDER BY score DESC, type, id DESC LIMIT ? OFFSET ?";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new SearchResultDTO(rs.getString(1), rs.getLong(2),
+                rs.getString(3), rs.getString(4), rs.getDouble(5)), params.toArray());
+    }
+
+    // Invalidation waits for an in-progress build of the same user, so a build never outlives a later write
+    private SearchIndex indexFor(Long userId) {
+        return indexes.get(userId, id -> {
+            long start = System.nanoTime();
+            SearchIndex.Builder builder = SearchIndex.builder();
+            jdbcTemplate.query("SELECT id, title, company, location FROM jobs WHERE user_id = ?",
+                    rs -> {
+                        builder.addJob(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4));
+                    }, id);
+            jdbcTemplate.query("SELECT id, question, type, feedback FROM questions WHERE user_id = ?",
+                    rs -> {
+                        builder.addQuestion(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4));
+                    }, id);
+            SearchIndex index = builder.build();
+            logger.debug("Built search index for user {}: {} documents, {} terms in {} ms",
+                    id, index.size(), index.termCount(), (System.nanoTime() - start) / 1_000_000);
+            return index;
+        });
+    }
+
+    private static String documentType(String type) {
+        return switch (type == null ? "all" : type.toLowerCase(Locale.ROOT)) {
+            case "all" -> null;
+            case "jobs" -> SearchIndex.JOB;
+            case "questions" -> SearchIndex.QUESTION;
+            default -> throw new InvalidRequestException("Invalid search type: " + type);
+        };
+    }
+
+    // Drops the owner's index after a job or question is committed; rolled-back writes change nothing
+    private final class IndexInvalidator implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+            PostCommitDeleteEventListener {
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            Class<?> entity = persister.getMappedClass();
+            return entity == Job.class || entity == Question.class;
+        }
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            invalidateOwner(event.getEntity());
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            invalidateOwner(event.getEntity());
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            invalidateOwner(event.getEntity());
+        }
+
+        @Override
+        public void onPostInsertCommitFailed(PostInsertEvent event) {
+        }
+
+        @Override
+        public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        }
+
+        @Override
+        public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        }
+
+        private void invalidateOwner(Object entity) {
+            User owner = switch (entity) {
+                case Job job -> job.getUser();
+                case Question question -> question.getUser();
+                default -> null;
+            };
+            if (owner != null && owner.getId() != null) {
+                invalidate(owner.getId());
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.jobhunthub.jobhunthub.dto.AuthenticatedUserDTO;
 import com.jobhunthub.jobhunthub.dto.OAuth2UserAttributes;
 import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.InvalidRequestException;
+import com.jobhunthub.jobhunthub.model.Profile;
 import com.jobhunthub.jobhunthub.model.User;
 import com.jobhunthub.jobhunthub.repository.UserRepository;
 
@@ -49,20 +50,24 @@ public class UserService {
     @Transactional
     public User linkProviderToUser(User user, OAuth2User oauth2User, String provider) {
         var attrs = OAuth2UserAttributes.from(oauth2User, provider);
-        
-        // 1. Link provider ID to user (validates uniqueness)
+
+        // 1. Check the provider ID is not linked elsewhere (unique indexed column)
         validateProviderNotLinked(attrs.providerId(), provider, user.getId());
+
+        // 2. Link provider ID on the managed user: the profile's, or a reference when there is no profile yet
+        Profile profile = profileService.findProfile(user).orElse(null);
+        User managed = profile != null ? profile.getUser() : userRepository.getReferenceById(user.getId());
+        setProviderOnUser(managed, attrs.providerId(), provider);
         setProviderOnUser(user, attrs.providerId(), provider);
-        
-        // 2. Ensure profile exists before linking email
-        if (!profileService.profileExists(user)) {
-            profileService.provisionProfile(user, attrs);
+
+        // 3. Link provider email, provisioning the profile if needed; the updates go out in the commit flush
+        if (profile == null) {
+            profileService.provisionProfile(managed, attrs, provider);
+        } else {
+            profileService.linkProviderEmail(profile, attrs.email(), provider);
         }
-        
-        // 3. Link provider email to profile
-        profileService.linkProviderEmail(user, attrs, provider);
-        
-        return userRepository.save(user);
+
+        return user;
     }
 
     // Get authentication status DTO for a user
@@ -83,13 +88,11 @@ public class UserService {
         };
     }
 
-    // Create a new user
+    // Create a new user; saving its profile cascades to the user, so no separate save or re-read is needed
     private User createNewUser(OAuth2UserAttributes attrs, String provider) {
         User newUser = new User();
         setProviderOnUser(newUser, attrs.providerId(), provider);
-        newUser = userRepository.save(newUser);
-        profileService.provisionProfile(newUser, attrs);
-        profileService.linkProviderEmail(newUser, attrs, provider);
+        profileService.provisionProfile(newUser, attrs, provider);
         return newUser;
     }
 
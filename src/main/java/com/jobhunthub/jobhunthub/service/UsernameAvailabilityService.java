@@ -0,0 +1,156 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jobhunthub.jobhunthub.dto.UsernameAvailabilityDTO;
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.InvalidRequestException;
+import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.repository.ProfileRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Answers "is this username taken?" for live validation and profile updates.
+ * A Bloom filter of every username sits in front of the profiles table: a
+ * name the filter has never seen is free without a query, and only possible
+ * matches (real ones plus about 1% false positives) are checked in the
+ * database. The filter is built by streaming usernames once the application
+ * is ready, updated on writes from this instance, and rebuilt in the
+ * background when older than the refresh interval so names taken on other
+ * instances show up. Names recorded here are also copied into every filter
+ * built after them, so a write that lands while a build is streaming is not
+ * lost when the new filter is swapped in. The unique constraint on
+ * profiles.username stays the final word; until the first build finishes
+ * every check goes to the database.
+ */
+@Service
+public class UsernameAvailabilityService {
+    private static final Logger logger = LoggerFactory.getLogger(UsernameAvailabilityService.class);
+
+    private final ProfileRepository profileRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long expectedUsernames;
+    private final double falsePositiveRate;
+    private final Duration refreshInterval;
+    private final Counter filterAnswers;
+    private final Counter databaseAnswers;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // Names recorded by this instance since the previous build started, with when they were recorded; a name is
+    // recorded before its transaction commits, so the rows a build streams may not include it yet
+    private final Map<String, Instant> recorded = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter filter; // null until the first build completes
+    private volatile Instant builtAt = Instant.MIN;
+
+    public UsernameAvailabilityService(ProfileRepository profileRepository,
+                                       TransactionTemplate transactionTemplate,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${app.profile.username-filter.expected-entries:100000}") long expectedUsernames,
+                                       @Value("${app.profile.username-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                       @Value("${app.profile.username-filter.refresh-interval:15m}") Duration refreshInterval) {
+        this.profileRepository = profileRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.expectedUsernames = expectedUsernames;
+        this.falsePositiveRate = falsePositiveRate;
+        this.refreshInterval = refreshInterval;
+        this.filterAnswers = checks(meterRegistry, "filter");
+        this.databaseAnswers = checks(meterRegistry, "database");
+    }
+
+    // Check a username for the typeahead; the caller's own current username counts as available
+    public UsernameAvailabilityDTO check(String username, User user) {
+        String candidate = validate(username);
+        return new UsernameAvailabilityDTO(candidate, isAvailable(candidate, user));
+    }
+
+    // True if no other user's profile has this username
+    public boolean isAvailable(String username, User user) {
+        refreshIfStale();
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(username)) {
+            filterAnswers.increment();
+            return true;
+        }
+        databaseAnswers.increment();
+        return !profileRepository.existsByUsernameAndUser_IdNot(username, user.getId());
+    }
+
+    // Record a username written by this instance; a rolled-back write only leaves a harmless false positive
+    public void record(String username) {
+        if (username == null) {
+            return;
+        }
+        recorded.put(username, Instant.now()); // before reading filter, so a rebuild swapping it still sees the name
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(username);
+        }
+    }
+
+    // Build a fresh filter from the profiles table and swap it in
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Instant started = Instant.now();
+        long count = profileRepository.countByUsernameIsNotNull();
+        // Leave room to grow before the false positive rate degrades
+        BloomFilter fresh = new BloomFilter(Math.max(expectedUsernames, count * 2), falsePositiveRate);
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<String> usernames = profileRepository.streamUsernames()) {
+                usernames.forEach(fresh::put);
+            }
+        });
+        recorded.keySet().forEach(fresh::put);
+        filter = fresh;
+        // Names recorded into the old filter while it was being replaced
+        recorded.keySet().forEach(fresh::put);
+        Instant previousStart = builtAt;
+        recorded.values().removeIf(at -> at.isBefore(previousStart));
+        builtAt = started;
+        logger.debug("Built username filter from {} usernames ({} bits, {} hashes)", count, fresh.bitCount(), fresh.hashCount());
+    }
+
+    private void refreshIfStale() {
+        if (filter == null || builtAt.plus(refreshInterval).isAfter(Instant.now())) {
+            return;
+        }
+        if (rebuilding.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("username-filter-rebuild").start(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    logger.warn("Username filter rebuild failed; keeping the previous filter", e);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        }
+    }
+
+    private static String validate(String username) {
+        if (username == null || username.trim().isEmpty()) {
+            throw new InvalidRequestException("Username cannot be empty");
+        }
+        return username;
+    }
+
+    private static Counter checks(MeterRegistry meterRegistry, String answeredBy) {
+        return Counter.builder("profile.username.checks")
+                .description("Username availability checks by what answered them")
+                .tag("answered_by", answeredBy)
+                .register(meterRegistry);
+    }
+}
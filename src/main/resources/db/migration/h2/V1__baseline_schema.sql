@@ -0,0 +1,86 @@
+-- Schema as Hibernate generated it for H2 when migrations took over. H2 databases are always created from scratch,
+-- so unlike the PostgreSQL V1 (which existing databases are baselined at) this already includes the later changes
+
+CREATE TABLE users (
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    github_id VARCHAR(255),
+    google_id VARCHAR(255),
+    CONSTRAINT uk_users_github_id UNIQUE (github_id),
+    CONSTRAINT uk_users_google_id UNIQUE (google_id)
+);
+
+CREATE TABLE profiles (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id       BIGINT REFERENCES users (id),
+    primary_email VARCHAR(255),
+    github_email  VARCHAR(255),
+    google_email  VARCHAR(255),
+    username      VARCHAR(255),
+    avatar_url    VARCHAR(255)
+);
+
+CREATE SEQUENCE jobs_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE jobs (
+    id             BIGINT PRIMARY KEY,
+    user_id        BIGINT REFERENCES users (id),
+    title          VARCHAR(255),
+    company        VARCHAR(255),
+    location       VARCHAR(255),
+    location_city  VARCHAR(100),
+    location_state VARCHAR(2),
+    remote         BOOLEAN,
+    status         ENUM('APPLIED', 'INTERVIEWED', 'REJECTED'),
+    created_at     DATE
+);
+
+CREATE INDEX idx_jobs_user_location_state ON jobs (user_id, location_state);
+
+CREATE TABLE questions (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id       BIGINT REFERENCES users (id),
+    type          ENUM('BEHAVIORAL', 'TECHNICAL'),
+    question      VARCHAR(500),
+    updated_at    DATE,
+    response_text VARCHAR(2000),
+    rating        INTEGER,
+    feedback      TEXT,
+    random_key    DOUBLE PRECISION
+);
+
+CREATE INDEX idx_questions_user_type_random_key ON questions (user_id, type, random_key);
+
+CREATE TABLE evaluations (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    question_id   BIGINT REFERENCES questions (id),
+    user_id       BIGINT REFERENCES users (id),
+    response_text VARCHAR(2000),
+    status        ENUM('PENDING', 'COMPLETED', 'FAILED'),
+    rating        INTEGER,
+    feedback      TEXT,
+    created_at    TIMESTAMP(6) WITH TIME ZONE,
+    completed_at  TIMESTAMP(6) WITH TIME ZONE
+);
+
+CREATE TABLE evaluation_cache (
+    cache_key  VARCHAR(64) PRIMARY KEY,
+    evaluation TEXT NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE user_job_stats (
+    user_id        BIGINT PRIMARY KEY,
+    total          BIGINT NOT NULL,
+    distinct_days  BIGINT,
+    best_day_count BIGINT,
+    applied        BIGINT NOT NULL,
+    interviewed    BIGINT NOT NULL,
+    rejected       BIGINT NOT NULL
+);
+
+CREATE TABLE user_job_daily_counts (
+    user_id   BIGINT NOT NULL,
+    job_date  DATE NOT NULL,
+    job_count BIGINT,
+    PRIMARY KEY (job_date, user_id)
+);
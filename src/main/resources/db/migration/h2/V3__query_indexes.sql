@@ -0,0 +1,13 @@
+-- H2 equivalents of the PostgreSQL query indexes; H2 has no partial indexes, so the random question pick
+-- keeps the full (user_id, type, random_key) index
+
+CREATE INDEX idx_jobs_user_created_id ON jobs (user_id, created_at DESC, id DESC);
+CREATE INDEX idx_jobs_user_status_created_id ON jobs (user_id, status, created_at DESC, id DESC);
+
+CREATE INDEX idx_questions_user_type_updated ON questions (user_id, type, updated_at);
+CREATE INDEX idx_questions_user_type_question ON questions (user_id, type, question);
+
+CREATE INDEX idx_user_job_daily_counts_user ON user_job_daily_counts (user_id, job_count);
+
+CREATE INDEX idx_profiles_user ON profiles (user_id);
+CREATE INDEX idx_evaluations_question ON evaluations (question_id);
@@ -0,0 +1,9 @@
+-- Same as the PostgreSQL script: clear duplicate usernames, keeping the oldest, then make them unique
+
+UPDATE profiles p SET username = NULL
+WHERE username IS NOT NULL
+  AND EXISTS (SELECT 1 FROM profiles q WHERE q.username = p.username AND q.id < p.id);
+
+ALTER TABLE profiles ADD CONSTRAINT uk_profiles_username UNIQUE (username);
+
+CREATE INDEX idx_profiles_primary_email ON profiles (primary_email);
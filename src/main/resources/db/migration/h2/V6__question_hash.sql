@@ -0,0 +1,8 @@
+-- Same as the PostgreSQL script: hash column with a unique key per user and type, filled in for existing rows by
+-- QuestionHashMigration (V7), replacing the index on the question text
+
+ALTER TABLE questions ADD COLUMN question_hash VARCHAR(64);
+
+ALTER TABLE questions ADD CONSTRAINT uk_questions_user_type_hash UNIQUE (user_id, type, question_hash);
+
+DROP INDEX IF EXISTS idx_questions_user_type_question;
@@ -0,0 +1,3 @@
+-- Supports EvaluationCache's purge of entries older than app.evaluation.cache.db-ttl
+
+CREATE INDEX IF NOT EXISTS idx_evaluation_cache_created_at ON evaluation_cache (created_at);
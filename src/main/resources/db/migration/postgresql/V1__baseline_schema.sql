@@ -0,0 +1,41 @@
+-- Schema as Hibernate's ddl-auto=update left it before migrations took over; existing databases are baselined
+-- at this version, so it must not contain anything a production database created that way lacks
+
+CREATE TABLE users (
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    github_id VARCHAR(255),
+    google_id VARCHAR(255),
+    CONSTRAINT uk_users_github_id UNIQUE (github_id),
+    CONSTRAINT uk_users_google_id UNIQUE (google_id)
+);
+
+CREATE TABLE profiles (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id       BIGINT REFERENCES users (id),
+    primary_email VARCHAR(255),
+    github_email  VARCHAR(255),
+    google_email  VARCHAR(255),
+    username      VARCHAR(255),
+    avatar_url    VARCHAR(255)
+);
+
+CREATE TABLE jobs (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id    BIGINT REFERENCES users (id),
+    title      VARCHAR(255),
+    company    VARCHAR(255),
+    location   VARCHAR(255),
+    status     VARCHAR(255) CHECK (status IN ('APPLIED', 'INTERVIEWED', 'REJECTED')),
+    created_at DATE
+);
+
+CREATE TABLE questions (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id       BIGINT REFERENCES users (id),
+    type          VARCHAR(255) CHECK (type IN ('BEHAVIORAL', 'TECHNICAL')),
+    question      VARCHAR(500),
+    updated_at    DATE,
+    response_text VARCHAR(2000),
+    rating        INTEGER,
+    feedback      TEXT
+);
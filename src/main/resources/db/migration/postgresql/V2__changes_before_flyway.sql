@@ -0,0 +1,56 @@
+-- Schema changes made while ddl-auto=update still managed the schema. A database baselined at V1 never got
+-- them, and a new database gets them right after V1, so both end up with the same schema.
+
+-- Job ids come from the pooled jobs_seq instead of IDENTITY, so batched imports need one round-trip per 50 ids.
+-- The sequence starts past the highest existing id; Hibernate hands out the 50 ids up to each nextval.
+ALTER TABLE jobs ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS jobs_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('jobs_seq', (SELECT COALESCE(MAX(id), 0) FROM jobs) + 50);
+
+-- Structured location parsed by LocationValidator; existing rows are parsed by JobLocationBackfill at startup
+ALTER TABLE jobs ADD COLUMN location_city VARCHAR(100);
+ALTER TABLE jobs ADD COLUMN location_state VARCHAR(2);
+ALTER TABLE jobs ADD COLUMN remote BOOLEAN;
+CREATE INDEX idx_jobs_user_location_state ON jobs (user_id, location_state);
+
+-- Random question pick; existing rows get a key from QuestionService.assignMissingRandomKeys at startup
+ALTER TABLE questions ADD COLUMN random_key DOUBLE PRECISION;
+CREATE INDEX idx_questions_user_type_random_key ON questions (user_id, type, random_key);
+
+-- Asynchronous evaluations
+CREATE TABLE evaluations (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    question_id   BIGINT REFERENCES questions (id),
+    user_id       BIGINT REFERENCES users (id),
+    response_text VARCHAR(2000),
+    status        VARCHAR(255) CHECK (status IN ('PENDING', 'COMPLETED', 'FAILED')),
+    rating        INTEGER,
+    feedback      TEXT,
+    created_at    TIMESTAMP(6) WITH TIME ZONE,
+    completed_at  TIMESTAMP(6) WITH TIME ZONE
+);
+
+-- Persistent tier of the evaluation cache
+CREATE TABLE evaluation_cache (
+    cache_key  VARCHAR(64) PRIMARY KEY,
+    evaluation TEXT NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+-- Job stats rollup; a user's row is rebuilt from the jobs table on first use
+CREATE TABLE user_job_stats (
+    user_id        BIGINT PRIMARY KEY,
+    total          BIGINT NOT NULL,
+    distinct_days  BIGINT,
+    best_day_count BIGINT,
+    applied        BIGINT NOT NULL,
+    interviewed    BIGINT NOT NULL,
+    rejected       BIGINT NOT NULL
+);
+
+CREATE TABLE user_job_daily_counts (
+    user_id   BIGINT NOT NULL,
+    job_date  DATE NOT NULL,
+    job_count BIGINT,
+    PRIMARY KEY (job_date, user_id)
+);
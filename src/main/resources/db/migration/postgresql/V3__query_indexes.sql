@@ -0,0 +1,25 @@
+-- Composite indexes matching the WHERE and ORDER BY of the hot repository queries
+
+-- JobRepository listings, keyset paging and per-day counts: user_id = ? [AND created_at ...] ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_jobs_user_created_id ON jobs (user_id, created_at DESC, id DESC);
+
+-- Status-filtered listings and per-status counts: user_id = ? AND status = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_jobs_user_status_created_id ON jobs (user_id, status, created_at DESC, id DESC);
+
+-- Random question pick, split by answered state so each probe walks only the rows it can return
+CREATE INDEX IF NOT EXISTS idx_questions_unanswered ON questions (user_id, type, random_key) WHERE updated_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_questions_answered ON questions (user_id, type, random_key) WHERE updated_at IS NOT NULL;
+DROP INDEX IF EXISTS idx_questions_user_type_random_key;
+
+-- Answered-today count: user_id = ? AND type = ? AND updated_at = ?
+CREATE INDEX IF NOT EXISTS idx_questions_user_type_updated ON questions (user_id, type, updated_at) WHERE updated_at IS NOT NULL;
+
+-- Lookup by question text: user_id = ? AND type = ? AND question = ?
+CREATE INDEX IF NOT EXISTS idx_questions_user_type_question ON questions (user_id, type, question);
+
+-- Daily histogram reads and rebuilds by user (the primary key leads with job_date)
+CREATE INDEX IF NOT EXISTS idx_user_job_daily_counts_user ON user_job_daily_counts (user_id, job_count);
+
+-- Foreign keys looked up by user or checked when a question is deleted
+CREATE INDEX IF NOT EXISTS idx_profiles_user ON profiles (user_id);
+CREATE INDEX IF NOT EXISTS idx_evaluations_question ON evaluations (question_id);
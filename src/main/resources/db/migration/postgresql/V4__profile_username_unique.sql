@@ -0,0 +1,11 @@
+-- Usernames are unique, so two concurrent updates cannot both take one. Earlier duplicates (possible while
+-- uniqueness was only checked in the application) keep the name on the oldest profile and are cleared elsewhere.
+UPDATE profiles p SET username = NULL
+WHERE username IS NOT NULL
+  AND EXISTS (SELECT 1 FROM profiles q WHERE q.username = p.username AND q.id < p.id);
+
+ALTER TABLE profiles ADD CONSTRAINT uk_profiles_username UNIQUE (username);
+
+-- Primary emails stay non-unique (separate GitHub and Google sign-ups may share one), but the
+-- uniqueness check on profile updates looks them up
+CREATE INDEX IF NOT EXISTS idx_profiles_primary_email ON profiles (primary_email);
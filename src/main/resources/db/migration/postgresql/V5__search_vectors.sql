@@ -0,0 +1,23 @@
+-- Full-text search over jobs and questions (SearchService). The vectors are generated columns, so every
+-- write path keeps them current without triggers. The 'simple' configuration lowercases without stemming:
+-- company names and job titles are not English prose, and prefix queries (goo:*) match the words as typed.
+-- Weights rank title and company matches (A) above location (B), and question text (A) above feedback (C).
+-- Adding a stored generated column rewrites each table once.
+ALTER TABLE jobs ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(company, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(location, '')), 'B')
+) STORED;
+
+ALTER TABLE questions ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(question, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(feedback, '')), 'C')
+) STORED;
+
+-- Searches are always for one user. btree_gin lets user_id sit in the same GIN index as the vector, so one
+-- index scan intersects the user's rows with the matching words; with separate indexes the planner tends to
+-- read every row of the user and filter, as prefix matches are hard to estimate.
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+CREATE INDEX IF NOT EXISTS idx_jobs_search_vector ON jobs USING GIN (user_id, search_vector);
+CREATE INDEX IF NOT EXISTS idx_questions_search_vector ON questions USING GIN (user_id, search_vector);
@@ -0,0 +1,12 @@
+-- Questions are identified by a SHA-256 of their normalized text (Question.contentHash) instead of the text
+-- itself: the unique key makes a duplicate add a no-op (INSERT ... ON CONFLICT DO NOTHING) rather than a
+-- check-then-insert race, and lookups by text compare 64 characters instead of up to 500.
+-- Normalization (NFKC, case folding) is done in Java, so existing rows get their hash from the Java migration
+-- QuestionHashMigration (V7), before the application serves requests; rows that duplicate an earlier question
+-- keep a NULL hash, which the unique key allows.
+ALTER TABLE questions ADD COLUMN IF NOT EXISTS question_hash VARCHAR(64);
+
+ALTER TABLE questions ADD CONSTRAINT uk_questions_user_type_hash UNIQUE (user_id, type, question_hash);
+
+-- Replaced by the unique key for lookups by text
+DROP INDEX IF EXISTS idx_questions_user_type_question;
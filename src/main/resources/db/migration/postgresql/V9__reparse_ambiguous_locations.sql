@@ -0,0 +1,11 @@
+-- LocationValidator used to read a bare "LA" as Los Angeles and a bare "Washington" as Washington, DC; clear what
+-- it stored for those guesses so JobLocationBackfill parses the rows again at startup
+
+UPDATE jobs SET location_city = NULL, location_state = NULL, remote = NULL
+WHERE location_city = 'Los Angeles' AND LOWER(location) NOT LIKE '%los angeles%';
+
+UPDATE jobs SET location_city = NULL, location_state = NULL, remote = NULL
+WHERE location_city = 'Washington' AND location_state = 'DC'
+    AND LOWER(location) NOT LIKE '%dc%'
+    AND LOWER(location) NOT LIKE '%d.c.%'
+    AND LOWER(location) NOT LIKE '%district of columbia%';
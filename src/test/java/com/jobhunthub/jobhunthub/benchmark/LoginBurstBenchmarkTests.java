@@ -0,0 +1,168 @@
+package com.jobhunthub.jobhunthub.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.service.OAuth2Service;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Measures the OAuth2 login path (provider-id lookup, user and profile
+ * creation) as a cohort signs in at once:
+ * - SQL statements per first and returning login
+ * - p50/p99 latency of first logins, returning logins, and bursts where every
+ *   account signs in from several tabs at the same moment
+ * The provider round trip is not included; OAuth2Service is called with the
+ * user attributes a provider would return.
+ * Run with: mvn test -Dtest=LoginBurstBenchmarkTests -Dbenchmarks=true
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+public class LoginBurstBenchmarkTests {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginBurstBenchmarkTests.class);
+    private static final String PREFIX = "burst-";
+    private static final int ACCOUNTS = 500;
+    private static final int TABS = 4;
+
+    @Autowired
+    private OAuth2Service oAuth2Service;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private String run;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        run = PREFIX + System.nanoTime() + "-";
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM profiles WHERE user_id IN (SELECT id FROM users WHERE github_id LIKE ?)", PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM users WHERE github_id LIKE ?", PREFIX + "%");
+    }
+
+    @Test
+    public void LoginBurst_statementsPerLogin() {
+        long before = statistics.getPrepareStatementCount();
+        User created = oAuth2Service.processOAuth2Request(githubUser(run + "single"), "github");
+        long firstLogin = statistics.getPrepareStatementCount() - before;
+
+        before = statistics.getPrepareStatementCount();
+        User returning = oAuth2Service.processOAuth2Request(githubUser(run + "single"), "github");
+        long returningLogin = statistics.getPrepareStatementCount() - before;
+
+        logger.info("Login statements: first login {}, returning login {}", firstLogin, returningLogin);
+        assertThat(returning.getId()).isEqualTo(created.getId());
+        assertThat(firstLogin).isLessThanOrEqualTo(3); // provider-id lookup, insert user, insert profile
+        assertThat(returningLogin).isLessThanOrEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {16, 64})
+    public void LoginBurst_concurrentSignIns(int concurrency) throws Exception {
+        List<String> accounts = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts.add(run + concurrency + "-" + i);
+        }
+
+        long[] firstLogins = burst(accounts, concurrency);
+        long[] returningLogins = burst(accounts, concurrency);
+
+        List<String> tabs = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS / TABS; i++) {
+            for (int tab = 0; tab < TABS; tab++) {
+                tabs.add(run + concurrency + "-tabs-" + i);
+            }
+        }
+        Map<String, Set<Long>> userIds = new ConcurrentHashMap<>();
+        long[] sameAccountLogins = burst(tabs, concurrency, userIds);
+
+        logger.info("Login burst, {} concurrent: first login p50 {} ms / p99 {} ms, returning p50 {} ms / p99 {} ms, " +
+                        "{} tabs per account p50 {} ms / p99 {} ms",
+                concurrency, millis(firstLogins, 50), millis(firstLogins, 99),
+                millis(returningLogins, 50), millis(returningLogins, 99),
+                TABS, millis(sameAccountLogins, 50), millis(sameAccountLogins, 99));
+
+        // Every tab of an account ends up signed in as the same user
+        assertThat(userIds).hasSize(ACCOUNTS / TABS);
+        assertThat(userIds.values()).allSatisfy(ids -> assertThat(ids).hasSize(1));
+    }
+
+    private long[] burst(List<String> githubIds, int concurrency) throws Exception {
+        return burst(githubIds, concurrency, new ConcurrentHashMap<>());
+    }
+
+    // Starts every login at once on a pool of the given size; returns the sorted latencies in nanoseconds
+    private long[] burst(List<String> githubIds, int concurrency, Map<String, Set<Long>> userIds) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> latencies = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(concurrency)) {
+            for (String githubId : githubIds) {
+                latencies.add(pool.submit(() -> {
+                    start.await();
+                    long begin = System.nanoTime();
+                    User user = oAuth2Service.processOAuth2Request(githubUser(githubId), "github");
+                    long elapsed = System.nanoTime() - begin;
+                    userIds.computeIfAbsent(githubId, id -> ConcurrentHashMap.newKeySet()).add(user.getId());
+                    return elapsed;
+                }));
+            }
+            start.countDown();
+            long[] result = new long[latencies.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = latencies.get(i).get();
+            }
+            Arrays.sort(result);
+            return result;
+        }
+    }
+
+    private static OAuth2User githubUser(String githubId) {
+        return new DefaultOAuth2User(List.of(new SimpleGrantedAuthority("OAUTH2_USER")),
+                Map.of("id", githubId, "email", githubId + "@example.com", "avatar_url", "https://example.com/a.png"), "id");
+    }
+
+    private static String millis(long[] sortedNanos, int percentile) {
+        int index = Math.min(sortedNanos.length - 1, (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1);
+        return String.format("%.2f", sortedNanos[index] / 1_000_000.0);
+    }
+}
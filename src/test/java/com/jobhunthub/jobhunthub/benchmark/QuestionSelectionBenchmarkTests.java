@@ -0,0 +1,131 @@
+package com.jobhunthub.jobhunthub.benchmark;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.repository.QuestionRepository;
+import com.jobhunthub.jobhunthub.repository.UserRepository;
+
+/**
+ * Compares random unanswered-question selection strategies on the embedded database:
+ * - the previous ORDER BY RANDOM() LIMIT 1 query (full sort per pick)
+ * - the random_key index probe used by QuestionService
+ * - a per-user shuffled id queue held in memory
+ * Run with: mvn test -Dtest=QuestionSelectionBenchmarkTests -Dbenchmarks=true
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+public class QuestionSelectionBenchmarkTests {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuestionSelectionBenchmarkTests.class);
+    private static final String TYPE = "TECHNICAL";
+    private static final int PICKS = 200;
+    private static final int WARMUP_PICKS = 20;
+
+    private static final String ORDER_BY_RANDOM_SQL =
+            "SELECT id FROM questions WHERE (updated_at <> CURRENT_DATE OR updated_at IS NULL) " +
+            "AND user_id = ? AND type = ? ORDER BY RANDOM() LIMIT 1";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        user = userRepository.save(User.builder().githubId("benchmark-" + System.nanoTime()).build());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM questions WHERE user_id = ?", user.getId());
+        userRepository.delete(user);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10_000, 100_000})
+    public void QuestionSelection_compareStrategies(int questionCount) {
+        seedQuestions(questionCount);
+
+        double orderByRandomMicros = measure(() ->
+                jdbcTemplate.queryForObject(ORDER_BY_RANDOM_SQL, Long.class, user.getId(), TYPE));
+
+        double randomKeyMicros = measure(() -> {
+            var question = questionRepository.findNextUnansweredByRandomKey(
+                    user.getId(), TYPE, ThreadLocalRandom.current().nextDouble());
+            return question != null ? question.getId()
+                    : questionRepository.findNextUnansweredByRandomKey(user.getId(), TYPE, 0.0).getId();
+        });
+
+        long queueStart = System.nanoTime();
+        Deque<Long> queue = loadShuffledQueue();
+        double queueBuildMillis = (System.nanoTime() - queueStart) / 1_000_000.0;
+        double queueMicros = measure(queue::poll);
+
+        logger.info("Random question selection, {} questions: ORDER BY RANDOM() {} us/pick, " +
+                        "random_key probe {} us/pick, shuffled queue {} us/pick (+{} ms to build)",
+                questionCount,
+                String.format("%.1f", orderByRandomMicros),
+                String.format("%.1f", randomKeyMicros),
+                String.format("%.3f", queueMicros),
+                String.format("%.1f", queueBuildMillis));
+
+        assertThat(randomKeyMicros).isLessThan(orderByRandomMicros);
+    }
+
+    private void seedQuestions(int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{TYPE, "Benchmark question " + i, ThreadLocalRandom.current().nextDouble(), user.getId()});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO questions (type, question, random_key, user_id) VALUES (?, ?, ?, ?)", rows);
+    }
+
+    private Deque<Long> loadShuffledQueue() {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM questions WHERE (updated_at <> CURRENT_DATE OR updated_at IS NULL) " +
+                        "AND user_id = ? AND type = ?", Long.class, user.getId(), TYPE);
+        Collections.shuffle(ids);
+        return new ArrayDeque<>(ids);
+    }
+
+    // Average microseconds per pick after a short warm-up
+    private double measure(Supplier<Long> pick) {
+        for (int i = 0; i < WARMUP_PICKS; i++) {
+            assertThat(pick.get()).isNotNull();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < PICKS; i++) {
+            assertThat(pick.get()).isNotNull();
+        }
+        return (System.nanoTime() - start) / 1_000.0 / PICKS;
+    }
+}
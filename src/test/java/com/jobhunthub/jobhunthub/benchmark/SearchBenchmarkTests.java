@@ -0,0 +1,165 @@
+package com.jobhunthub.jobhunthub.benchmark;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.jobhunthub.jobhunthub.dto.SearchPageDTO;
+import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.repository.UserRepository;
+import com.jobhunthub.jobhunthub.service.SearchService;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * Measures /api/search latency (SearchService, without HTTP) on an embedded
+ * PostgreSQL, for one user with the given number of jobs and the same number
+ * of questions among other users' rows:
+ * - selective queries (a company, two title words, a question topic), answered
+ *   from the (user_id, search_vector) GIN indexes
+ * - a broad prefix matching half of the user's jobs, where every match is
+ *   ranked, and a later page of it
+ * Run with: mvn test -Dtest=SearchBenchmarkTests -Dbenchmarks=true
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+public class SearchBenchmarkTests {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchBenchmarkTests.class);
+    private static final String PREFIX = "search-bench-";
+    private static final int OTHER_USERS = 20;
+    private static final int OTHER_USER_ROWS = 2_000;
+    private static final int SEARCHES = 200;
+    private static final int WARMUP_SEARCHES = 20;
+
+    private static final String[] TITLES = {"Software Engineer", "Senior Software Engineer", "Data Analyst",
+            "Product Manager", "Backend Developer", "Frontend Developer", "DevOps Engineer", "Engineering Manager",
+            "Data Scientist", "QA Engineer"};
+    private static final String[] LOCATIONS = {"Remote", "Austin, TX", "New York, NY", "Seattle, WA",
+            "San Francisco, CA", "Chicago, IL"};
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.start();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        for (int i = 0; i < OTHER_USERS; i++) {
+            jdbcTemplate.update("INSERT INTO users (github_id) VALUES (?)", PREFIX + "other-" + i);
+        }
+        user = userRepository.save(User.builder().githubId(PREFIX + System.nanoTime()).build());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM jobs WHERE user_id IN (SELECT id FROM users WHERE github_id LIKE ?)", PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM questions WHERE user_id IN (SELECT id FROM users WHERE github_id LIKE ?)", PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM users WHERE github_id LIKE ?", PREFIX + "%");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {20_000, 50_000})
+    public void Search_latencyByQuery(int rowsPerType) {
+        seed(rowsPerType);
+
+        Map<String, String[]> queries = new LinkedHashMap<>();
+        queries.put("company", new String[]{"company1999", "all", "0"});
+        queries.put("two words", new String[]{"senior soft", "jobs", "0"});
+        queries.put("question topic", new String[]{"shard", "questions", "0"});
+        queries.put("broad prefix", new String[]{"engin", "all", "0"});
+        queries.put("broad prefix, page 10", new String[]{"engin", "all", "10"});
+
+        StringBuilder report = new StringBuilder();
+        queries.forEach((name, query) -> {
+            SearchPageDTO page = searchService.search(query[0], query[1], Integer.parseInt(query[2]), 20, user);
+            assertThat(page.results()).isNotEmpty();
+            long[] latencies = measure(query[0], query[1], Integer.parseInt(query[2]));
+            report.append(String.format("%n  %-22s p50 %s ms / p99 %s ms", name, millis(latencies, 50), millis(latencies, 99)));
+        });
+        logger.info("Search with {} jobs and {} questions:{}", rowsPerType, rowsPerType, report);
+    }
+
+    private long[] measure(String query, String type, int page) {
+        for (int i = 0; i < WARMUP_SEARCHES; i++) {
+            searchService.search(query, type, page, 20, user);
+        }
+        long[] latencies = new long[SEARCHES];
+        for (int i = 0; i < SEARCHES; i++) {
+            long start = System.nanoTime();
+            searchService.search(query, type, page, 20, user);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    // The measured user gets rowsPerType jobs and questions, every other user OTHER_USER_ROWS of each
+    private void seed(int rowsPerType) {
+        String rows = "CASE WHEN u.id = ? THEN " + rowsPerType + " ELSE " + OTHER_USER_ROWS + " END";
+        jdbcTemplate.update("INSERT INTO jobs (id, user_id, title, company, location, status, created_at) " +
+                "SELECT nextval('jobs_seq'), u.id, (?::text[])[1 + n % 10], 'Company' || (n % 2000), " +
+                "(?::text[])[1 + n % 6], 'APPLIED', CURRENT_DATE - (n % 300) " +
+                "FROM users u CROSS JOIN generate_series(1, " + rows + ") n WHERE u.github_id LIKE ?",
+                TITLES, LOCATIONS, user.getId(), PREFIX + "%");
+        jdbcTemplate.update("INSERT INTO questions (user_id, type, question, feedback, random_key) " +
+                "SELECT u.id, 'TECHNICAL', 'Explain concept ' || n || ' of ' || " +
+                "(ARRAY['hashing', 'caching', 'sharding', 'indexing', 'queues'])[1 + n % 5], " +
+                "CASE WHEN n % 3 = 0 THEN 'Good answer; expand on ' || " +
+                "(ARRAY['latency', 'throughput', 'consistency'])[1 + n % 3] END, random() " +
+                "FROM users u CROSS JOIN generate_series(1, " + rows + ") n WHERE u.github_id LIKE ?",
+                user.getId(), PREFIX + "%");
+        // Merges the GIN pending lists and refreshes statistics, as autovacuum would after a bulk load
+        jdbcTemplate.execute("VACUUM ANALYZE jobs");
+        jdbcTemplate.execute("VACUUM ANALYZE questions");
+    }
+
+    private static String millis(long[] sortedNanos, int percentile) {
+        int index = Math.min(sortedNanos.length - 1, (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1);
+        return String.format("%.2f", sortedNanos[index] / 1_000_000.0);
+    }
+}
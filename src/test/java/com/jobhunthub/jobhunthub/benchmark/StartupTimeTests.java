@@ -0,0 +1,248 @@
+package com.jobhunthub.jobhunthub.benchmark;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * Measures time-to-first-request of the packaged application in the prod
+ * profile, against an embedded PostgreSQL, for each startup mode:
+ * - BASELINE: plain java -jar with every bean created at startup
+ * - LAZY: non-critical beans created on first use (the prod default)
+ * - AOT: lazy, plus the bean definitions generated by Spring AOT
+ * - AOT_CDS: lazy and AOT, plus the class data sharing archive the image builds
+ * Each run is a fresh JVM, timed from process start until the first HTTP
+ * response on the application port. Medians go to target/startup-report.txt.
+ *
+ * Needs the fast-start jar, so package first:
+ *   mvn -Pfast-start package -DskipTests
+ *   mvn test -Dtest=StartupTimeTests -Dbenchmarks=true [-Dstartup.runs=3]
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+public class StartupTimeTests {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimeTests.class);
+    private static final Path WORK_DIR = Path.of("target", "startup");
+    private static final Path REPORT = Path.of("target", "startup-report.txt");
+    private static final String AOT_INITIALIZER =
+            "BOOT-INF/classes/com/jobhunthub/jobhunthub/JobHuntHubApplication__ApplicationContextInitializer.class";
+    private static final Pattern STARTED = Pattern.compile("Started JobHuntHubApplication in ([\\d.]+) seconds");
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(3);
+
+    private static final int RUNS = Integer.getInteger("startup.runs", 3);
+
+    private enum Mode {
+        BASELINE(false, false, false),
+        LAZY(true, false, false),
+        AOT(true, true, false),
+        AOT_CDS(true, true, true);
+
+        private final boolean lazy;
+        private final boolean aot;
+        private final boolean cds;
+
+        Mode(boolean lazy, boolean aot, boolean cds) {
+            this.lazy = lazy;
+            this.aot = aot;
+            this.cds = cds;
+        }
+    }
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+    private final List<String> reports = new ArrayList<>();
+    private EmbeddedPostgres postgres;
+    private Path appJar;
+    private Path archive;
+
+    @BeforeAll
+    public void setUp() throws Exception {
+        Path packaged;
+        try (Stream<Path> files = Files.list(Path.of("target"))) {
+            packaged = files.filter(f -> f.getFileName().toString().matches("JobHuntHub-.*\\.jar"))
+                    .findFirst().orElse(null);
+        }
+        assumeTrue(packaged != null, "No application jar in target/; run mvn -Pfast-start package -DskipTests first");
+        try (JarFile jar = new JarFile(packaged.toFile())) {
+            assumeTrue(jar.getEntry(AOT_INITIALIZER) != null, packaged + " was not built with -Pfast-start");
+        }
+
+        // CDS needs the unpacked layout (application jar plus lib/), the same one the Docker image runs
+        Path extracted = WORK_DIR.resolve("app");
+        deleteRecursively(WORK_DIR);
+        Files.createDirectories(WORK_DIR);
+        run(List.of(java(), "-Djarmode=tools", "-jar", packaged.toString(), "extract", "--destination", extracted.toString()),
+                WORK_DIR.resolve("extract.log"));
+        appJar = extracted.resolve(packaged.getFileName());
+        archive = WORK_DIR.resolve("app.jsa");
+
+        postgres = EmbeddedPostgres.start();
+
+        // The training run also applies the migrations, so timed runs start against an up-to-date schema
+        List<String> training = new ArrayList<>(List.of(java(), "-XX:ArchiveClassesAtExit=" + archive,
+                "-Dspring.aot.enabled=true", "-Dspring.context.exit=onRefresh", "-jar", appJar.toString(),
+                "--spring.profiles.active=prod"));
+        long start = System.nanoTime();
+        run(training, WORK_DIR.resolve("training.log"));
+        logger.info("CDS training run took {} ms, archive is {} MB",
+                (System.nanoTime() - start) / 1_000_000, Files.size(archive) / (1024 * 1024));
+    }
+
+    @AfterAll
+    public void writeReport() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+        if (reports.isEmpty()) {
+            return;
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("Startup in the prod profile, median of %d runs (java %s, %d CPUs)",
+                RUNS, Runtime.version(), Runtime.getRuntime().availableProcessors()));
+        lines.add(String.format("%-10s %22s %22s %16s", "mode", "first request ms", "first request min ms", "started in s"));
+        lines.addAll(reports);
+        Files.writeString(REPORT, String.join(System.lineSeparator(), lines) + System.lineSeparator());
+        logger.info("Startup report written to {}:{}{}", REPORT.toAbsolutePath(), System.lineSeparator(),
+                String.join(System.lineSeparator(), lines));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Mode.class)
+    public void Startup_timeToFirstRequest(Mode mode) throws Exception {
+        long[] firstRequestMillis = new long[RUNS];
+        double[] startedSeconds = new double[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            Path log = WORK_DIR.resolve(mode.name().toLowerCase() + "-" + i + ".log");
+            firstRequestMillis[i] = timeToFirstRequest(mode, log);
+            Matcher started = STARTED.matcher(Files.readString(log));
+            startedSeconds[i] = started.find() ? Double.parseDouble(started.group(1)) : Double.NaN;
+        }
+        Arrays.sort(firstRequestMillis);
+        Arrays.sort(startedSeconds);
+        reports.add(String.format("%-10s %22d %22d %16.2f", mode, firstRequestMillis[RUNS / 2], firstRequestMillis[0],
+                startedSeconds[RUNS / 2]));
+        assertThat(firstRequestMillis[0]).isPositive();
+    }
+
+    // Start one JVM and return the milliseconds until the application port answers its first request
+    private long timeToFirstRequest(Mode mode, Path log) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(List.of(java()));
+        if (mode.cds) {
+            command.add("-XX:SharedArchiveFile=" + archive);
+        }
+        if (mode.aot) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        command.addAll(List.of("-jar", appJar.toString(), "--spring.profiles.active=prod",
+                "--spring.main.lazy-initialization=" + mode.lazy));
+
+        ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile());
+        builder.environment().putAll(environment(port));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/user"))
+                .timeout(Duration.ofSeconds(30)).build();
+
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            while (System.nanoTime() - start < START_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    fail(mode + " exited with " + process.exitValue() + " before serving a request, see " + log);
+                }
+                try {
+                    http.send(request, HttpResponse.BodyHandlers.discarding());
+                    return (System.nanoTime() - start) / 1_000_000;
+                } catch (IOException notListeningYet) {
+                    Thread.sleep(20);
+                }
+            }
+            return fail(mode + " did not serve a request within " + START_TIMEOUT + ", see " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    // The variables application-prod.properties reads; OAuth and OpenAI are never called during startup
+    private Map<String, String> environment(int port) throws IOException {
+        return Map.ofEntries(
+                Map.entry("JDBC_DATABASE_URL", postgres.getJdbcUrl("postgres", "postgres")),
+                Map.entry("JDBC_DATABASE_USERNAME", "postgres"),
+                Map.entry("JDBC_DATABASE_PASSWORD", ""),
+                Map.entry("OPENAI_API_KEY", "startup-test"),
+                Map.entry("OAUTH_GITHUB_CLIENT_ID", "startup-test"),
+                Map.entry("OAUTH_GITHUB_CLIENT_SECRET", "startup-test"),
+                Map.entry("OAUTH_GOOGLE_CLIENT_ID", "startup-test"),
+                Map.entry("OAUTH_GOOGLE_CLIENT_SECRET", "startup-test"),
+                Map.entry("FRONTEND_URL", "http://localhost:3000"),
+                Map.entry("AUTH_TOKEN_SECRET", "startup-test-secret-of-at-least-32-bytes"),
+                Map.entry("PORT", Integer.toString(port)),
+                Map.entry("MANAGEMENT_PORT", Integer.toString(freePort())));
+    }
+
+    private void run(List<String> command, Path log) throws Exception {
+        ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile());
+        if (postgres != null) {
+            builder.environment().putAll(environment(freePort()));
+        }
+        Process process = builder.start();
+        if (!process.waitFor(START_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            fail(command.get(1) + " did not finish within " + START_TIMEOUT + ", see " + log);
+        }
+        assertThat(process.exitValue()).as("exit code of %s, see %s", command, log).isZero();
+    }
+
+    private static String java() {
+        return ProcessHandle.current().info().command().orElse("java");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted((a, b) -> b.getNameCount() - a.getNameCount()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.jobhunthub.jobhunthub.config;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.Cookie;
+
+public class CookieAuthorizationRequestRepositoryTests {
+
+    private static final String SECRET = "unit-test-secret-of-at-least-32-bytes";
+
+    private final CookieAuthorizationRequestRepository repository =
+            new CookieAuthorizationRequestRepository(new SignedCookies(SECRET, true, "None"), new ObjectMapper());
+
+    private final OAuth2AuthorizationRequest authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+            .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+            .clientId("client-id")
+            .redirectUri("https://api.example.com/login/oauth2/code/google")
+            .scopes(Set.of("openid", "email"))
+            .state("state-123")
+            .additionalParameters(Map.of("nonce", "hashed-nonce"))
+            .attributes(Map.of("registration_id", "google", "nonce", "raw-nonce"))
+            .authorizationRequestUri("https://accounts.google.com/o/oauth2/v2/auth?state=state-123")
+            .build();
+
+    @Test
+    public void CookieAuthorizationRequestRepository_save_roundTripsThroughSignedCookie() {
+        Cookie cookie = save();
+        assertThat(cookie.getSecure()).isTrue();
+        assertThat(cookie.isHttpOnly()).isTrue();
+
+        OAuth2AuthorizationRequest loaded = repository.loadAuthorizationRequest(callback(cookie, "state-123"));
+
+        assertThat(loaded).isNotNull();
+        assertThat(loaded.getClientId()).isEqualTo("client-id");
+        assertThat(loaded.getRedirectUri()).isEqualTo("https://api.example.com/login/oauth2/code/google");
+        assertThat(loaded.getScopes()).containsExactlyInAnyOrder("openid", "email");
+        assertThat(loaded.getAdditionalParameters()).containsEntry("nonce", "hashed-nonce");
+        assertThat(loaded.<String>getAttribute("nonce")).isEqualTo("raw-nonce");
+        assertThat(loaded.getAuthorizationRequestUri()).isEqualTo(authorizationRequest.getAuthorizationRequestUri());
+    }
+
+    @Test
+    public void CookieAuthorizationRequestRepository_load_rejectsOtherState() {
+        assertThat(repository.loadAuthorizationRequest(callback(save(), "state-456"))).isNull();
+    }
+
+    @Test
+    public void CookieAuthorizationRequestRepository_load_rejectsTamperedOrForeignCookie() {
+        Cookie cookie = save();
+        String value = cookie.getValue();
+        Cookie tampered = new Cookie(cookie.getName(), "e30" + value.substring(value.indexOf('.')));
+        CookieAuthorizationRequestRepository otherKey = new CookieAuthorizationRequestRepository(
+                new SignedCookies("another-secret-of-at-least-32-bytes!", true, "None"), new ObjectMapper());
+
+        assertThat(repository.loadAuthorizationRequest(callback(tampered, "state-123"))).isNull();
+        assertThat(otherKey.loadAuthorizationRequest(callback(cookie, "state-123"))).isNull();
+    }
+
+    @Test
+    public void CookieAuthorizationRequestRepository_remove_clearsCookie() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        OAuth2AuthorizationRequest removed = repository.removeAuthorizationRequest(callback(save(), "state-123"), response);
+
+        assertThat(removed).isNotNull();
+        assertThat(response.getCookie(CookieAuthorizationRequestRepository.COOKIE).getMaxAge()).isZero();
+    }
+
+    private Cookie save() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        repository.saveAuthorizationRequest(authorizationRequest, new MockHttpServletRequest(), response);
+        return response.getCookie(CookieAuthorizationRequestRepository.COOKIE);
+    }
+
+    private static MockHttpServletRequest callback(Cookie cookie, String state) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/login/oauth2/code/google");
+        request.setParameter("state", state);
+        request.setCookies(cookie);
+        return request;
+    }
+}
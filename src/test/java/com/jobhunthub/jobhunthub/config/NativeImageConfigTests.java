@@ -0,0 +1,77 @@
+package com.jobhunthub.jobhunthub.config;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import com.jobhunthub.jobhunthub.dto.JobImportRowDTO;
+import com.jobhunthub.jobhunthub.dto.WeeklyJobStatsDTO;
+
+import jakarta.persistence.Entity;
+
+// Guards the native hints against new entities, DTOs or migrations that were not added to NativeImageConfig
+public class NativeImageConfigTests {
+
+    private final PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+    private final RuntimeHints hints = new RuntimeHints();
+
+    public NativeImageConfigTests() {
+        new NativeImageConfig.Hints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    public void NativeImageConfig_hints_coverEveryEntity() throws Exception {
+        List<Class<?>> entities = classesIn("model").stream().filter(type -> type.isAnnotationPresent(Entity.class)).toList();
+
+        assertThat(entities).isNotEmpty();
+        for (Class<?> entity : entities) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(entity)
+                    .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                    .as(entity.getName()).accepts(hints);
+        }
+    }
+
+    @Test
+    public void NativeImageConfig_hints_coverEveryDto() throws Exception {
+        for (Class<?> dto : classesIn("dto")) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(dto)).as(dto.getName()).accepts(hints);
+        }
+    }
+
+    @Test
+    public void NativeImageConfig_hints_letJacksonBuildImportRows() throws Exception {
+        assertThat(RuntimeHintsPredicates.reflection().onConstructor(JobImportRowDTO.class.getDeclaredConstructors()[0]))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(WeeklyJobStatsDTO.ChartPoint.class.getMethod("count")))
+                .accepts(hints);
+    }
+
+    @Test
+    public void NativeImageConfig_hints_includeEveryMigration() throws IOException {
+        Resource[] migrations = resolver.getResources("classpath:db/migration/*/*.sql");
+
+        assertThat(migrations).isNotEmpty();
+        for (Resource migration : migrations) {
+            String path = migration.getURL().getPath();
+            String location = path.substring(path.indexOf("db/migration/"));
+            assertThat(RuntimeHintsPredicates.resource().forResource(location)).as(location).accepts(hints);
+        }
+    }
+
+    private List<Class<?>> classesIn(String subPackage) throws IOException, ClassNotFoundException {
+        List<Class<?>> classes = new ArrayList<>();
+        for (Resource resource : resolver.getResources("classpath:com/jobhunthub/jobhunthub/" + subPackage + "/*.class")) {
+            String name = resource.getFilename().replace(".class", "");
+            classes.add(Class.forName("com.jobhunthub.jobhunthub." + subPackage + "." + name));
+        }
+        return classes;
+    }
+}
@@ -1,10 +1,16 @@
 package com.jobhunthub.jobhunthub.controller;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 
 import com.jobhunthub.jobhunthub.model.Profile;
@@ -28,6 +34,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -42,6 +49,8 @@ import com.jobhunthub.jobhunthub.model.Job;
 import com.jobhunthub.jobhunthub.model.User;
 import com.jobhunthub.jobhunthub.repository.JobRepository;
 import com.jobhunthub.jobhunthub.repository.UserRepository;
+import com.jobhunthub.jobhunthub.service.JobColumnarFormat;
+import com.jobhunthub.jobhunthub.service.JobExportService;
 
 /**
  * Integration tests for JobController.
@@ -157,6 +166,78 @@ public class JobControllerIntegrationTests {
                 .andExpect(jsonPath("$[0].title").value(testJobDTO.getTitle()));
     }
 
+    @Test
+    public void JobController_getJobPage_withLimit_returnsPageAndCursor() throws Exception {
+        Job olderJob = new Job();
+        olderJob.setTitle("Backend Engineer");
+        olderJob.setCompany("Older Company");
+        olderJob.setLocation("Remote");
+        olderJob.setStatus(Job.Status.REJECTED);
+        olderJob.setCreatedAt(LocalDate.now(ZoneId.systemDefault()).minusDays(3));
+        olderJob.setUser(testUser);
+        olderJob = jobRepository.save(olderJob);
+
+        String body = mockMvc
+                .perform(get("/api/jobs/page")
+                        .param("limit", "1")
+                        .with(oauth2Login().oauth2User(testPrincipal)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobs", hasSize(1)))
+                .andExpect(jsonPath("$.jobs[0].id").value(testJobDTO.getId()))
+                .andExpect(jsonPath("$.nextCursor").isString())
+                .andReturn().getResponse().getContentAsString();
+
+        String cursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        mockMvc
+                .perform(get("/api/jobs/page")
+                        .param("limit", "1")
+                        .param("cursor", cursor)
+                        .with(oauth2Login().oauth2User(testPrincipal)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobs", hasSize(1)))
+                .andExpect(jsonPath("$.jobs[0].id").value(olderJob.getId()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    public void JobController_getJobPage_withStatusFilter_returnsMatchingJobs() throws Exception {
+        mockMvc
+                .perform(get("/api/jobs/page")
+                        .param("status", "rejected")
+                        .with(oauth2Login().oauth2User(testPrincipal)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobs", hasSize(0)));
+    }
+
+    @Test
+    public void JobController_getJobPage_withInvalidCursor_returnBadRequest() throws Exception {
+        mockMvc
+                .perform(get("/api/jobs/page")
+                        .param("cursor", "not-a-cursor")
+                        .with(oauth2Login().oauth2User(testPrincipal)))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void JobController_streamJobs_returnNdjson() throws Exception {
+        String body = mockMvc
+                .perform(get("/api/jobs/stream")
+                        .with(oauth2Login().oauth2User(testPrincipal)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.strip().split("\n");
+        assertThat(lines).hasSize(1);
+        assertThat(objectMapper.readTree(lines[0]).get("id").asLong()).isEqualTo(testJobDTO.getId());
+    }
+
     @Test
     public void JobController_updateJob_canUpdateStatus_returnUpdatedJobDTO() throws Exception {
         UpdateJobRequestDTO updateDto = new UpdateJobRequestDTO(
@@ -283,5 +364,234 @@ public class JobControllerIntegrationTests {
                 .andExpect(jsonPath("$[0].status").value(testJobDTO.getStatus()))
                 .andExpect(jsonPath("$[0].userId").value(testUser.getId()));
     }
-}
 
+    // Bulk Import
+
+    @Test
+    public void JobController_importJobsCsv_importsValidRowsAndReportsErrors() throws Exception {
+        String csv = "Title,Company,Location,Status,Date Applied\r\n" +
+                "Backend Engineer,\"Acme, Inc.\",\"Austin, TX\",interviewed,2024-03-01\r\n" +
+                ",Missing Title Co,Remote,,\r\n" +
+                "Data Engineer,Data Corp,Remote,ghosted,\r\n" +
+                "\r\n" +
+                "Platform Engineer,Infra LLC,Seattle,,\r\n";
+
+        mockMvc
+                .perform(post("/api/jobs/import")
+                        .with(oauth2Login().oauth2User(testPrincipal))
+                        .contentType("text/csv")
+                        .content(csv))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.errors", hasSize(2)))
+                .andExpect(jsonPath("$.errors[0].row").value(3))
+                .andExpect(jsonPath("$.errors[1].row").value(4));
+
+        List<Job> jobs = jobRepository.findByUser(testUser);
+        assertThat(jobs).hasSize(3);
+        Job imported = jobs.stream().filter(job -> job.getTitle().equals("Backend Engineer")).findFirst().orElseThrow();
+        assertThat(imported.getCompany()).isEqualTo("Acme, Inc.");
+        assertThat(imported.getStatus()).isEqualTo(Job.Status.INTERVIEWED);
+        assertThat(imported.getCreatedAt()).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(imported.getLocationState()).isEqualTo("TX");
+    }
+
+    @Test
+    public void JobController_importJobsJson_importsArrayAndUpdatesStats() throws Exception {
+        String json = "[" +
+                "{\"title\": \"Frontend Engineer\", \"company\": \"Web Co\", \"location\": \"Remote\"}," +
+                "{\"title\": \"QA Engineer\", \"company\": \"Test Co\", \"location\": \"Boston, MA\", \"status\": \"REJECTED\"}," +
+                "{\"title\": \"SRE\", \"company\": \"Ops Co\", \"location\": \"Denver, CO\", \"createdAt\": \"not-a-date\"}" +
+                "]";
+
+        mockMvc
+                .perform(post("/api/jobs/import")
+                        .with(oauth2Login().oauth2User(testPrincipal))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].row").value(3));
+
+        mockMvc
+                .perform(get("/api/progress/jobs/all-time")
+                        .with(oauth2Login().oauth2User(testPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.rejected").value(1));
+    }
+
+    @Test
+    public void JobController_importJobsCsv_withoutRequiredColumns_returnBadRequest() throws Exception {
+        mockMvc
+                .perform(post("/api/jobs/import")
+                        .with(oauth2Login().oauth2User(testPrincipal))
+                        .contentType("text/csv")
+                        .content("Title,Company\nEngineer,Acme\n"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void JobController_exportJobs_defaultsToCsv() throws Exception {
+        saveJob("Backend Engineer", "Acme, Inc.", "Austin, TX", Job.Status.REJECTED);
+
+        String body = mockMvc
+                .perform(get("/api/jobs/export")
+                        .with(oauth2Login().oauth2User(testPrincipal)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"jobs.csv\""))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\r\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("id,title,company,location,status,createdAt");
+        assertThat(lines[1]).startsWith(testJobDTO.getId() + ",Software Engineer,Tech Company,Remote,APPLIED,");
+        assertThat(lines[2]).contains(",Backend Engineer,\"Acme, Inc.\",\"Austin, TX\",REJECTED,");
+    }
+
+    @Test
+    public void JobController_exportJobs_csv_quotesFormulaValuesAsText() throws Exception {
+        saveJob("=HYPERLINK(\"http://evil.example\")", "+Acme", "@Remote", Job.Status.APPLIED);
+
+        String body = mockMvc
+                .perform(get("/api/jobs/export")
+                        .with(oauth2Login().oauth2User(testPrincipal)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).contains(",\"'=HYPERLINK(\"\"http://evil.example\"\")\",\"'+Acme\",\"'@Remote\",APPLIED,");
+    }
+
+    @Test
+    public void JobController_exportJobs_honorsGzipQValue() throws Exception {
+        mockMvc
+                .perform(get("/api/jobs/export")
+                        .with(oauth2Login().oauth2User(testPrincipal))
+                        .header("Accept-Encoding", "gzip;q=0, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"));
+        mockMvc
+                .perform(get("/api/jobs/export")
+                        .with(oauth2Login().oauth2User(testPrincipal))
+                        .header("Accept-Encoding", "br, *;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"));
+    }
+
+    @Test
+    public void JobController_exportJobs_ndjsonWithGzip_appliesFilter() throws Exception {
+        saveJob("Backend Engineer", "Acme", "Austin, TX", Job.Status.REJECTED);
+
+        byte[] body = mockMvc
+                .perform(get("/api/jobs/export")
+                        .with(oauth2Login().oauth2User(testPrincipal))
+                        .param("format", "ndjson")
+                        .param("status", "rejected")
+                        .header("Accept-Encoding", "gzip, deflate"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        String json = new String(new GZIPInputStream(new ByteArrayInputStream(body)).readAllBytes(), StandardCharsets.UTF_8);
+        String[] lines = json.strip().split("\n");
+        assertThat(lines).hasSize(1);
+        assertThat(objectMapper.readTree(lines[0]).get("company").asText()).isEqualTo("Acme");
+    }
+
+    @Test
+    public void JobController_exportJobs_columnar_roundTrips() throws Exception {
+        saveJob("Backend Engineer", "Acme", "Austin, TX", Job.Status.INTERVIEWED);
+
+        byte[] body = mockMvc
+                .perform(get("/api/jobs/export")
+                        .with(oauth2Login().oauth2User(testPrincipal))
+                        .param("format", "columnar"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/vnd.jobhunthub.jobs+columnar"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<JobExportService.Row> rows = new ArrayList<>();
+        JobColumnarFormat.read(new ByteArrayInputStream(body), rows::add);
+        assertThat(rows).extracting(JobExportService.Row::title).containsExactly("Software Engineer", "Backend Engineer");
+        assertThat(rows.get(1).status()).isEqualTo("INTERVIEWED");
+        assertThat(rows.get(0).createdAt()).isEqualTo(testJobDTO.getCreatedAt());
+    }
+
+    @Test
+    public void JobController_exportJobs_withInvalidFormat_returnBadRequest() throws Exception {
+        mockMvc
+                .perform(get("/api/jobs/export")
+                        .with(oauth2Login().oauth2User(testPrincipal))
+                        .param("format", "xlsx")
+                        .header("Accept-Encoding", "gzip"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist("Content-Encoding"));
+    }
+
+    @Test
+    public void JobController_updateJobStatuses_updatesOwnedJobsAndStats() throws Exception {
+        saveJob("Backend Engineer", "Acme", "Austin, TX", Job.Status.APPLIED);
+        Long otherJobId = jobRepository.findByUser(testUser).stream()
+                .filter(job -> job.getCompany().equals("Acme")).findFirst().orElseThrow().getId();
+
+        User otherUser = new User();
+        otherUser.setGithubId("67890");
+        otherUser = userRepository.save(otherUser);
+        Job foreign = new Job();
+        foreign.setTitle("Engineer");
+        foreign.setCompany("Elsewhere");
+        foreign.setLocation("Remote");
+        foreign.setStatus(Job.Status.APPLIED);
+        foreign.setCreatedAt(LocalDate.now(ZoneId.systemDefault()));
+        foreign.setUser(otherUser);
+        foreign = jobRepository.saveAndFlush(foreign);
+
+        // Populate the rollup first so the batch adjusts it rather than rebuilding
+        mockMvc.perform(get("/api/progress/jobs/all-time").with(oauth2Login().oauth2User(testPrincipal)))
+                .andExpect(status().isOk());
+
+        String request = objectMapper.writeValueAsString(Map.of(
+                "ids", List.of(testJobDTO.getId(), otherJobId, foreign.getId()),
+                "status", "REJECTED"));
+        mockMvc
+                .perform(put("/api/jobs/status")
+                        .with(oauth2Login().oauth2User(testPrincipal))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("REJECTED")))
+                .andExpect(jsonPath("$.updated", hasSize(2)))
+                .andExpect(jsonPath("$.notFound[0]", is(foreign.getId().intValue())));
+
+        assertThat(jobRepository.findById(foreign.getId()).orElseThrow().getStatus()).isEqualTo(Job.Status.APPLIED);
+        assertThat(jobRepository.countByUserAndStatus(testUser, Job.Status.REJECTED)).isEqualTo(2);
+        mockMvc.perform(get("/api/progress/jobs/all-time").with(oauth2Login().oauth2User(testPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rejected", is(2)))
+                .andExpect(jsonPath("$.applied", is(0)));
+    }
+
+    // The export reads through JDBC, so flush pending inserts first
+    private void saveJob(String title, String company, String location, Job.Status status) {
+        Job job = new Job();
+        job.setTitle(title);
+        job.setCompany(company);
+        job.setLocation(location);
+        job.setStatus(status);
+        job.setCreatedAt(LocalDate.now(ZoneId.systemDefault()));
+        job.setUser(testUser);
+        jobRepository.saveAndFlush(job);
+    }
+}
@@ -0,0 +1,51 @@
+package com.jobhunthub.jobhunthub.controller;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for the Prometheus scrape endpoint when the actuator runs
+ * on its own port, as in prod. Verifies scrapes need no login there while the
+ * application port still does not serve metrics.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+@AutoConfigureObservability
+@ActiveProfiles("test")
+public class ManagementPortIntegrationTests {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int serverPort;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Test
+    public void prometheusEndpoint_onManagementPort_unauthenticated_returnsMeters() throws Exception {
+        HttpResponse<String> response = get(managementPort);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("evaluation_cache_requests_total");
+    }
+
+    @Test
+    public void prometheusEndpoint_onApplicationPort_isNotServed() throws Exception {
+        assertThat(get(serverPort).statusCode()).isNotEqualTo(200);
+    }
+
+    private HttpResponse<String> get(int port) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/prometheus")).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
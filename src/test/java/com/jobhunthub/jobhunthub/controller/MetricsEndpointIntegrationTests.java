@@ -0,0 +1,46 @@
+package com.jobhunthub.jobhunthub.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.oauth2Login;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the Prometheus scrape endpoint on the application port.
+ * Verifies it needs a login there and includes application meters.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+public class MetricsEndpointIntegrationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void prometheusEndpoint_unauthenticated_isNotServed() throws Exception {
+        mockMvc
+                .perform(get("/actuator/prometheus"))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    @Test
+    public void prometheusEndpoint_authenticated_returnsApplicationMeters() throws Exception {
+        mockMvc
+                .perform(get("/actuator/prometheus").with(oauth2Login()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("evaluation_cache_requests_total")))
+                .andExpect(content().string(containsString("resilience4j_circuitbreaker_state")))
+                .andExpect(content().string(containsString("httpcomponents_httpclient_pool_total_max")));
+    }
+}
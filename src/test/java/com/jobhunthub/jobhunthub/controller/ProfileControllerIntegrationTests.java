@@ -28,6 +28,7 @@ import com.jobhunthub.jobhunthub.model.Profile;
 import com.jobhunthub.jobhunthub.model.User;
 import com.jobhunthub.jobhunthub.repository.ProfileRepository;
 import com.jobhunthub.jobhunthub.repository.UserRepository;
+import com.jobhunthub.jobhunthub.service.UsernameAvailabilityService;
 
 /**
  * Integration tests for ProfileController.
@@ -36,6 +37,7 @@ import com.jobhunthub.jobhunthub.repository.UserRepository;
  * - Update profile information
  * - Validation and error handling
  * - Authentication requirements
+ * - Username availability checks
  */
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -55,6 +57,9 @@ public class ProfileControllerIntegrationTests {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private UsernameAvailabilityService usernameAvailability;
+
     private UserPrincipal userWithCompletePrincipal;
     private UserPrincipal userWithMinimalPrincipal;
     private UserPrincipal userWithBothProvidersPrincipal;
@@ -308,6 +313,72 @@ public class ProfileControllerIntegrationTests {
                 .andExpect(jsonPath("$.avatarUrl").value("https://github.com/completeuser.png")); // Unchanged
     }
 
+    // === USERNAME AVAILABILITY TESTS ===
+
+    @Test
+    public void checkUsernameAvailability_reportsTakenAndFreeNames() throws Exception {
+        usernameAvailability.rebuild(); // pick up the usernames seeded in setUp
+
+        mockMvc
+                .perform(get("/api/profile/username-availability").param("username", "bothuser")
+                        .with(oauth2Login().oauth2User(userWithCompletePrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("bothuser"))
+                .andExpect(jsonPath("$.available").value(false));
+
+        mockMvc
+                .perform(get("/api/profile/username-availability").param("username", "nobodyhasthis")
+                        .with(oauth2Login().oauth2User(userWithCompletePrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.available").value(true));
+    }
+
+    @Test
+    public void checkUsernameAvailability_treatsOwnUsernameAsAvailable() throws Exception {
+        usernameAvailability.rebuild();
+
+        mockMvc
+                .perform(get("/api/profile/username-availability").param("username", "completeuser")
+                        .with(oauth2Login().oauth2User(userWithCompletePrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.available").value(true));
+    }
+
+    @Test
+    public void checkUsernameAvailability_seesUsernamesTakenThroughUpdates() throws Exception {
+        usernameAvailability.rebuild();
+        UpdateProfileRequestDTO updateRequest = new UpdateProfileRequestDTO();
+        updateRequest.setUsername("justtaken");
+
+        mockMvc
+                .perform(put("/api/profile/user")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest))
+                        .with(oauth2Login().oauth2User(userWithMinimalPrincipal)))
+                .andExpect(status().isOk());
+
+        mockMvc
+                .perform(get("/api/profile/username-availability").param("username", "justtaken")
+                        .with(oauth2Login().oauth2User(userWithCompletePrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.available").value(false));
+    }
+
+    @Test
+    public void checkUsernameAvailability_returnsBadRequest_whenUsernameIsBlank() throws Exception {
+        mockMvc
+                .perform(get("/api/profile/username-availability").param("username", "  ")
+                        .with(oauth2Login().oauth2User(userWithCompletePrincipal)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void checkUsernameAvailability_requiresAuthentication_whenNotLoggedIn() throws Exception {
+        mockMvc
+                .perform(get("/api/profile/username-availability").param("username", "bothuser"))
+                .andExpect(status().isFound()); // 302 redirect to login
+    }
+
     // === ERROR HANDLING TESTS ===
 
     @Test
@@ -324,6 +395,22 @@ public class ProfileControllerIntegrationTests {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    public void updateCurrentUserProfile_returnsBadRequest_whenUsernameTakenSinceFilterWasBuilt() throws Exception {
+        // The seeded "bothuser" bypassed the username filter, like a write on another instance;
+        // the unique constraint still rejects the duplicate
+        UpdateProfileRequestDTO updateRequest = new UpdateProfileRequestDTO();
+        updateRequest.setUsername("bothuser");
+
+        mockMvc
+                .perform(put("/api/profile/user")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest))
+                        .with(oauth2Login().oauth2User(userWithCompletePrincipal)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Username already exists"));
+    }
+
     @Test
     public void updateCurrentUserProfile_returnsBadRequest_whenEmailAlreadyExists() throws Exception {
         UpdateProfileRequestDTO updateRequest = new UpdateProfileRequestDTO();
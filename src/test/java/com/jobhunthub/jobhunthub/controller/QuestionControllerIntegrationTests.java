@@ -23,11 +23,14 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import org.springframework.transaction.annotation.Transactional;
 
+import com.jayway.jsonpath.JsonPath;
+
 import com.jobhunthub.jobhunthub.config.UserPrincipal;
 import com.jobhunthub.jobhunthub.model.Question;
 import com.jobhunthub.jobhunthub.model.User;
@@ -146,6 +149,23 @@ public class QuestionControllerIntegrationTests {
                 .andExpect(status().isNoContent());
     }
 
+    @Test
+    public void QuestionController_addQuestion_differingOnlyInCaseAndSpacing_returnBadRequest() throws Exception {
+        String questionJson = """
+                {
+                    "question": "  tell me about a time you handled a   DIFFICULT situation. "
+                }
+                """;
+
+        mockMvc
+                .perform(post("/api/questions/behavioral/add")
+                        .with(oauth2Login().oauth2User(testPrincipal))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(questionJson))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
     // Question Evaluation
 
     @Test
@@ -168,6 +188,74 @@ public class QuestionControllerIntegrationTests {
                 .andExpect(jsonPath("$.responseText").exists());
     }
 
+    @Test
+    public void QuestionController_evaluateResponseById_returnEvaluatedQuestion() throws Exception {
+        String evaluateJson = """
+                {
+                    "response": "In my previous role, I faced a challenging deadline..."
+                }
+                """;
+
+        mockMvc
+                .perform(post("/api/questions/behavioral/" + testQuestion.getId() + "/evaluate")
+                        .with(oauth2Login().oauth2User(testPrincipal))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(evaluateJson))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(testQuestion.getId()))
+                .andExpect(jsonPath("$.responseText").exists())
+                .andExpect(jsonPath("$.questionHash").doesNotExist());
+    }
+
+    @Test
+    public void QuestionController_evaluateResponseById_withoutResponse_returnBadRequest() throws Exception {
+        mockMvc
+                .perform(post("/api/questions/behavioral/" + testQuestion.getId() + "/evaluate")
+                        .with(oauth2Login().oauth2User(testPrincipal))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"response\": \" \"}"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void QuestionController_evaluateResponseAsync_returnAcceptedWithEvaluationId() throws Exception {
+        String evaluateJson = """
+                {
+                    "question": "%s",
+                    "response": "In my previous role, I faced a challenging deadline..."
+                }
+                """.formatted(testQuestion.getQuestion());
+
+        String body = mockMvc
+                .perform(post("/api/questions/behavioral/evaluate/async")
+                        .with(oauth2Login().oauth2User(testPrincipal))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(evaluateJson))
+                .andDo(print())
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.id").exists())
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andReturn().getResponse().getContentAsString();
+
+        Number id = JsonPath.read(body, "$.id");
+        mockMvc
+                .perform(get("/api/questions/evaluations/" + id)
+                        .with(oauth2Login().oauth2User(testPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.questionId").value(testQuestion.getId()));
+    }
+
+    @Test
+    public void QuestionController_getEvaluation_returnNotFound() throws Exception {
+        mockMvc
+                .perform(get("/api/questions/evaluations/999999")
+                        .with(oauth2Login().oauth2User(testPrincipal)))
+                .andExpect(status().isNotFound());
+    }
+
     // Statistics Endpoints
 
     @Test
@@ -209,6 +297,24 @@ public class QuestionControllerIntegrationTests {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    public void QuestionController_resetQuestionDateById_returnSuccess() throws Exception {
+        mockMvc
+                .perform(post("/api/questions/behavioral/" + testQuestion.getId() + "/reset-date")
+                        .with(oauth2Login().oauth2User(testPrincipal)))
+                .andDo(print())
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void QuestionController_resetQuestionDateById_returnNotFound() throws Exception {
+        mockMvc
+                .perform(post("/api/questions/behavioral/999999/reset-date")
+                        .with(oauth2Login().oauth2User(testPrincipal)))
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+
     // Error Handling & Validation
 
     @Test
@@ -0,0 +1,174 @@
+package com.jobhunthub.jobhunthub.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.hasSize;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.oauth2Login;
+
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jobhunthub.jobhunthub.config.UserPrincipal;
+import com.jobhunthub.jobhunthub.model.Job;
+import com.jobhunthub.jobhunthub.model.Profile;
+import com.jobhunthub.jobhunthub.model.Question;
+import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.repository.JobRepository;
+import com.jobhunthub.jobhunthub.repository.ProfileRepository;
+import com.jobhunthub.jobhunthub.repository.QuestionRepository;
+
+/**
+ * Integration tests for SearchController on H2, where searches are answered
+ * by the in-memory index. Verifies ranking, prefix matching, type filtering,
+ * pagination, validation and that users only find their own rows.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class SearchControllerIntegrationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    private User testUser;
+    private UserPrincipal testPrincipal;
+
+    @BeforeEach
+    public void setUp() {
+        testUser = createUser("search-gh", "searcher");
+        testPrincipal = principal(testUser);
+
+        saveJob(testUser, "Software Engineer", "Google", "Mountain View, CA");
+        saveJob(testUser, "Data Analyst", "Goodyear", "Akron, OH");
+        Question question = new Question();
+        question.setType(Question.QuestionType.TECHNICAL);
+        question.setQuestion("How would you design a URL shortener?");
+        question.setFeedback("Good answer; mention how Google handles hot keys");
+        question.setUser(testUser);
+        questionRepository.save(question);
+
+        User otherUser = createUser("search-other-gh", "other-searcher");
+        saveJob(otherUser, "Engineer", "Google", "Remote");
+    }
+
+    @Test
+    public void SearchController_search_returnsRankedPrefixMatchesAcrossJobsAndQuestions() throws Exception {
+        mockMvc.perform(get("/api/search").param("q", "goo")
+                        .with(oauth2Login().oauth2User(testPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results", hasSize(3)))
+                .andExpect(jsonPath("$.results[0].type").value("JOB"))
+                .andExpect(jsonPath("$.results[2].type").value("QUESTION"))
+                .andExpect(jsonPath("$.results[2].detail").value("TECHNICAL"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    public void SearchController_search_requiresEveryWord() throws Exception {
+        mockMvc.perform(get("/api/search").param("q", "software goo")
+                        .with(oauth2Login().oauth2User(testPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results", hasSize(1)))
+                .andExpect(jsonPath("$.results[0].title").value("Software Engineer"))
+                .andExpect(jsonPath("$.results[0].detail").value("Google"));
+    }
+
+    @Test
+    public void SearchController_search_filtersByType() throws Exception {
+        mockMvc.perform(get("/api/search").param("q", "google").param("type", "questions")
+                        .with(oauth2Login().oauth2User(testPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results", hasSize(1)))
+                .andExpect(jsonPath("$.results[0].title").value("How would you design a URL shortener?"));
+    }
+
+    @Test
+    public void SearchController_search_pagesResults() throws Exception {
+        mockMvc.perform(get("/api/search").param("q", "goo").param("size", "2")
+                        .with(oauth2Login().oauth2User(testPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results", hasSize(2)))
+                .andExpect(jsonPath("$.hasMore").value(true));
+
+        mockMvc.perform(get("/api/search").param("q", "goo").param("size", "2").param("page", "1")
+                        .with(oauth2Login().oauth2User(testPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results", hasSize(1)))
+                .andExpect(jsonPath("$.page").value(1))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    public void SearchController_search_onlyReturnsTheCallersRows() throws Exception {
+        mockMvc.perform(get("/api/search").param("q", "remote")
+                        .with(oauth2Login().oauth2User(testPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results", hasSize(0)));
+    }
+
+    @Test
+    public void SearchController_search_rejectsInvalidParameters() throws Exception {
+        mockMvc.perform(get("/api/search").param("q", " ")
+                        .with(oauth2Login().oauth2User(testPrincipal)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/search").param("q", "goo").param("type", "profiles")
+                        .with(oauth2Login().oauth2User(testPrincipal)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/search").param("q", "goo").param("size", "500")
+                        .with(oauth2Login().oauth2User(testPrincipal)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void SearchController_search_requiresAuthentication() throws Exception {
+        mockMvc.perform(get("/api/search").param("q", "goo"))
+                .andExpect(status().isFound()); // 302 redirect to login
+    }
+
+    private User createUser(String githubId, String username) {
+        User user = new User();
+        user.setGithubId(githubId);
+        Profile profile = new Profile();
+        profile.setUser(user);
+        profile.setUsername(username);
+        return profileRepository.save(profile).getUser();
+    }
+
+    private void saveJob(User user, String title, String company, String location) {
+        jobRepository.save(Job.builder().title(title).company(company).location(location)
+                .status(Job.Status.APPLIED).createdAt(LocalDate.now()).user(user).build());
+    }
+
+    private static UserPrincipal principal(User user) {
+        var delegate = new DefaultOAuth2User(List.of(new SimpleGrantedAuthority("OAUTH2_USER")),
+                Map.of("id", user.getGithubId()), "id");
+        return new UserPrincipal(delegate, user);
+    }
+}
@@ -0,0 +1,66 @@
+package com.jobhunthub.jobhunthub.controller;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jobhunthub.jobhunthub.config.SessionTokens;
+import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.repository.UserRepository;
+
+import jakarta.servlet.http.Cookie;
+
+/**
+ * Integration tests for the session profile, the server-side HttpSession fallback:
+ * - Token cookies are not accepted
+ * - The pending OAuth2 authorization request is kept in the HttpSession
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "session"})
+@Transactional
+public class ServerSessionModeIntegrationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SessionTokens sessionTokens;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    public void sessionMode_tokenCookie_isIgnored() throws Exception {
+        User user = userRepository.save(User.builder().githubId("session-gh").build());
+        Cookie token = new Cookie(SessionTokens.COOKIE,
+                sessionTokens.encode(user, "github", Instant.now().plus(Duration.ofHours(1))));
+
+        assertThat(sessionTokens.enabled()).isFalse();
+        mockMvc.perform(get("/api/auth/user").cookie(token))
+                .andExpect(jsonPath("$.authenticated").value(false));
+    }
+
+    @Test
+    public void sessionMode_authorizationRedirect_usesHttpSession() throws Exception {
+        MvcResult result = mockMvc.perform(get("/oauth2/authorization/github"))
+                .andExpect(status().isFound())
+                .andExpect(cookie().doesNotExist("JHH_OAUTH2_REQUEST"))
+                .andReturn();
+
+        assertThat(result.getRequest().getSession(false)).isNotNull();
+    }
+}
@@ -0,0 +1,162 @@
+package com.jobhunthub.jobhunthub.controller;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jobhunthub.jobhunthub.config.CustomAuthenticationSuccessHandler;
+import com.jobhunthub.jobhunthub.config.SessionTokens;
+import com.jobhunthub.jobhunthub.config.UserPrincipal;
+import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.repository.UserRepository;
+
+import jakarta.servlet.http.Cookie;
+
+/**
+ * Integration tests for token session mode (the default):
+ * - A valid token cookie authenticates API calls without an HttpSession
+ * - Tampered and expired tokens are ignored
+ * - Tokens past half their lifetime are renewed, and logout clears them
+ * - Login issues the token and keeps the pending authorization request in a cookie
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class SessionTokenIntegrationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SessionTokens sessionTokens;
+
+    @Autowired
+    private CustomAuthenticationSuccessHandler successHandler;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        user = userRepository.save(User.builder().githubId("token-gh").googleId("token-google").build());
+    }
+
+    @Test
+    public void sessionToken_validCookie_authenticatesWithoutSession() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/auth/user").cookie(token(Instant.now().plus(Duration.ofHours(11)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.authenticated").value(true))
+                .andExpect(jsonPath("$.id").value(user.getId()))
+                .andExpect(jsonPath("$.githubLinked").value(true))
+                .andExpect(jsonPath("$.googleLinked").value(true))
+                .andExpect(cookie().doesNotExist(SessionTokens.COOKIE))
+                .andReturn();
+
+        assertThat(result.getRequest().getSession(false)).isNull();
+    }
+
+    @Test
+    public void sessionToken_validCookie_readsAndWritesAsTokenUser() throws Exception {
+        Cookie token = token(Instant.now().plus(Duration.ofHours(11)));
+
+        mockMvc.perform(post("/api/jobs").cookie(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Engineer\",\"company\":\"Acme\",\"location\":\"Remote\"}"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/jobs").cookie(token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].company").value("Acme"));
+    }
+
+    @Test
+    public void sessionToken_tamperedOrExpiredCookie_isIgnored() throws Exception {
+        Cookie valid = token(Instant.now().plus(Duration.ofHours(11)));
+        User other = User.builder().id(user.getId() + 1).githubId("token-gh").build();
+        String forged = sessionTokens.encode(other, "github", Instant.now().plus(Duration.ofHours(11)));
+        Cookie tampered = new Cookie(SessionTokens.COOKIE,
+                forged.substring(0, forged.indexOf('.')) + valid.getValue().substring(valid.getValue().indexOf('.')));
+
+        for (Cookie cookie : new Cookie[]{tampered, token(Instant.now().minusSeconds(1))}) {
+            mockMvc.perform(get("/api/auth/user").cookie(cookie))
+                    .andExpect(jsonPath("$.authenticated").value(false));
+            mockMvc.perform(get("/api/jobs").cookie(cookie))
+                    .andExpect(status().isFound()); // 302 redirect to login
+        }
+    }
+
+    @Test
+    public void sessionToken_pastHalfLife_isRenewed() throws Exception {
+        mockMvc.perform(get("/api/auth/user").cookie(token(Instant.now().plus(Duration.ofMinutes(5)))))
+                .andExpect(jsonPath("$.authenticated").value(true))
+                .andExpect(cookie().exists(SessionTokens.COOKIE))
+                .andExpect(cookie().httpOnly(SessionTokens.COOKIE, true));
+    }
+
+    @Test
+    public void sessionToken_logout_clearsCookie() throws Exception {
+        mockMvc.perform(post("/api/auth/logout").cookie(token(Instant.now().plus(Duration.ofHours(11)))))
+                .andExpect(status().isOk())
+                .andExpect(cookie().maxAge(SessionTokens.COOKIE, 0));
+    }
+
+    @Test
+    public void sessionToken_loginSuccess_issuesCookieThenRedirects() throws Exception {
+        var delegate = new DefaultOAuth2User(List.of(new SimpleGrantedAuthority("OAUTH2_USER")), Map.of("id", "token-gh"), "id");
+        UserPrincipal principal = new UserPrincipal(delegate, user);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        successHandler.onAuthenticationSuccess(new MockHttpServletRequest(), response,
+                new OAuth2AuthenticationToken(principal, principal.getAuthorities(), "github"));
+
+        assertThat(response.getRedirectedUrl()).endsWith("/dashboard");
+        MockHttpServletRequest next = new MockHttpServletRequest();
+        next.setCookies(response.getCookie(SessionTokens.COOKIE));
+        SessionTokens.SessionToken token = sessionTokens.read(next).orElseThrow();
+        assertThat(token.user().getId()).isEqualTo(user.getId());
+        assertThat(token.user().getGoogleId()).isEqualTo("token-google");
+        assertThat(token.registrationId()).isEqualTo("github");
+    }
+
+    @Test
+    public void sessionToken_authorizationRedirect_keepsRequestInCookie() throws Exception {
+        MvcResult result = mockMvc.perform(get("/oauth2/authorization/github"))
+                .andExpect(status().isFound())
+                .andExpect(cookie().exists("JHH_OAUTH2_REQUEST"))
+                .andReturn();
+
+        assertThat(result.getRequest().getSession(false)).isNull();
+    }
+
+    private Cookie token(Instant expiresAt) {
+        return new Cookie(SessionTokens.COOKIE, sessionTokens.encode(user, "github", expiresAt));
+    }
+}
@@ -0,0 +1,455 @@
+package com.jobhunthub.jobhunthub.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.jobhunthub.jobhunthub.model.Job;
+import com.jobhunthub.jobhunthub.model.Question;
+import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.repository.UserRepository;
+import com.jobhunthub.jobhunthub.service.JobStatsService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * Drives mixed HTTP traffic against a fully started application seeded with a
+ * synthetic user population. OAuth is bypassed by LoadTestSecurityConfig and
+ * OpenAI is replaced by StubCompletionServer, so results reflect this service
+ * and its database rather than GitHub or the model.
+ *
+ * Reports throughput, p50/p99 latency per operation and Hikari pool saturation
+ * for each scenario, in the log and in target/loadtest-report.txt.
+ *
+ * Run with: mvn test -Dtest=LoadTestHarnessTests -Dloadtest=true
+ * Knobs (system properties, defaults in brackets):
+ *   loadtest.users [50], loadtest.jobs-per-user [200], loadtest.questions-per-user [40],
+ *   loadtest.concurrency [32], loadtest.warmup [5s], loadtest.duration [20s],
+ *   loadtest.llm.latency [800ms], loadtest.llm.error-rate [0.02],
+ *   loadtest.jdbc-url / loadtest.jdbc-username / loadtest.jdbc-password to run against Postgres instead of H2
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.jobhunthub=INFO",
+        "openai.resilience.max-concurrent-calls=256",
+        "openai.resilience.global-calls-per-second=1000",
+        "openai.resilience.user-calls-per-minute=10000",
+        "openai.resilience.initial-backoff=50ms",
+        "app.evaluation.max-concurrency=64",
+        "app.evaluation.queue-capacity=1024"
+})
+@ActiveProfiles({"test", "loadtest"})
+@Import(LoadTestSecurityConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+public class LoadTestHarnessTests {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestHarnessTests.class);
+    private static final Path REPORT = Path.of("target", "loadtest-report.txt");
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 50);
+    private static final int JOBS_PER_USER = Integer.getInteger("loadtest.jobs-per-user", 200);
+    private static final int QUESTIONS_PER_USER = Integer.getInteger("loadtest.questions-per-user", 40);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 32);
+    private static final Duration WARMUP = Duration.parse("PT" + System.getProperty("loadtest.warmup", "5s"));
+    private static final Duration DURATION = Duration.parse("PT" + System.getProperty("loadtest.duration", "20s"));
+    private static final Duration LLM_LATENCY = Duration.ofMillis(Long.getLong("loadtest.llm.latency", 800));
+    private static final double LLM_ERROR_RATE = Double.parseDouble(System.getProperty("loadtest.llm.error-rate", "0.02"));
+
+    private static final String INSERT_JOB_SQL =
+            "INSERT INTO jobs (id, title, company, location, status, created_at, user_id) VALUES (%s, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_QUESTION_SQL =
+            "INSERT INTO questions (type, question, question_hash, updated_at, response_text, rating, feedback, random_key, user_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String[] LOCATIONS = {"Remote", "Chicago, IL", "Austin, TX", "New York, NY", "Seattle"};
+    private static final String[] TYPES = {"technical", "behavioral"};
+
+    private static StubCompletionServer llm;
+
+    // Operations a simulated user can perform
+    enum Operation {
+        JOB_PAGE, JOB_LIST, JOB_DASHBOARD, JOB_CREATE, PROGRESS_WEEKLY, PROGRESS_ALL_TIME,
+        QUESTION_NEXT, QUESTION_COUNT, EVALUATE, EVALUATE_ASYNC
+    }
+
+    // Weighted operation mixes; weights are relative frequencies
+    enum Scenario {
+        BROWSE_JOBS(Map.of(Operation.JOB_PAGE, 6, Operation.JOB_LIST, 1, Operation.JOB_DASHBOARD, 3)),
+        WRITE_JOBS(Map.of(Operation.JOB_CREATE, 7, Operation.JOB_PAGE, 3)),
+        PROGRESS(Map.of(Operation.PROGRESS_WEEKLY, 7, Operation.PROGRESS_ALL_TIME, 3)),
+        QUESTIONS(Map.of(Operation.QUESTION_NEXT, 5, Operation.QUESTION_COUNT, 2, Operation.EVALUATE, 2, Operation.EVALUATE_ASYNC, 1)),
+        MIXED(Map.of(Operation.JOB_PAGE, 25, Operation.JOB_DASHBOARD, 10, Operation.JOB_CREATE, 10,
+                Operation.PROGRESS_WEEKLY, 20, Operation.PROGRESS_ALL_TIME, 5, Operation.QUESTION_NEXT, 15,
+                Operation.QUESTION_COUNT, 5, Operation.EVALUATE, 7, Operation.EVALUATE_ASYNC, 3));
+
+        private final Operation[] table;
+
+        Scenario(Map<Operation, Integer> weights) {
+            List<Operation> expanded = new ArrayList<>();
+            new TreeMap<>(weights).forEach((operation, weight) -> {
+                for (int i = 0; i < weight; i++) {
+                    expanded.add(operation);
+                }
+            });
+            this.table = expanded.toArray(Operation[]::new);
+        }
+
+        Operation pick() {
+            return table[ThreadLocalRandom.current().nextInt(table.length)];
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobStatsService jobStatsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ZoneId zoneId;
+
+    private HttpClient client;
+    private List<String> githubIds;
+    private final List<String> reports = new ArrayList<>();
+
+    @DynamicPropertySource
+    static void loadTestProperties(DynamicPropertyRegistry registry) throws IOException {
+        llm = new StubCompletionServer(LLM_LATENCY, LLM_ERROR_RATE);
+        registry.add("openai.api.url", llm::url);
+        registry.add("openai.api.key", () -> "load-test");
+
+        String jdbcUrl = System.getProperty("loadtest.jdbc-url");
+        if (jdbcUrl != null) {
+            registry.add("spring.datasource.url", () -> jdbcUrl);
+            registry.add("spring.datasource.driverClassName", () -> "org.postgresql.Driver");
+            registry.add("spring.datasource.username", () -> System.getProperty("loadtest.jdbc-username", "postgres"));
+            registry.add("spring.datasource.password", () -> System.getProperty("loadtest.jdbc-password", ""));
+        }
+    }
+
+    @BeforeAll
+    public void seed() {
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        long start = System.nanoTime();
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        LocalDate today = LocalDate.now(zoneId);
+        Job.Status[] statuses = Job.Status.values();
+        String insertJobSql = INSERT_JOB_SQL.formatted(
+                System.getProperty("loadtest.jdbc-url") != null ? "nextval('jobs_seq')" : "NEXT VALUE FOR jobs_seq");
+        githubIds = new ArrayList<>(USERS);
+        for (int u = 0; u < USERS; u++) {
+            User user = new User();
+            user.setGithubId("load-" + run + "-" + u);
+            user = userRepository.save(user);
+            long userId = user.getId();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            // Job histories skew recent, as real users apply in bursts while actively searching
+            List<Object[]> jobs = new ArrayList<>(JOBS_PER_USER);
+            for (int j = 0; j < JOBS_PER_USER; j++) {
+                int daysAgo = (int) Math.min(364, Math.abs(random.nextGaussian()) * 45);
+                jobs.add(new Object[]{"Engineer " + j, "Company " + random.nextInt(500), LOCATIONS[random.nextInt(LOCATIONS.length)],
+                        statuses[random.nextInt(statuses.length)].name(), today.minusDays(daysAgo), userId});
+            }
+            jdbcTemplate.batchUpdate(insertJobSql, jobs);
+
+            // About a third of questions were answered on earlier days
+            List<Object[]> questions = new ArrayList<>(QUESTIONS_PER_USER);
+            for (int q = 0; q < QUESTIONS_PER_USER; q++) {
+                boolean answered = random.nextInt(3) == 0;
+                // Seeded after the migrations ran, so rows carry their hash as addQuestion would store it
+                questions.add(new Object[]{TYPES[q % TYPES.length].toUpperCase(), questionText(q), Question.contentHash(questionText(q)),
+                        answered ? today.minusDays(1 + random.nextInt(30)) : null,
+                        answered ? "An earlier answer" : null,
+                        answered ? 1 + random.nextInt(10) : null,
+                        answered ? "Earlier feedback" : null,
+                        random.nextDouble(), userId});
+            }
+            jdbcTemplate.batchUpdate(INSERT_QUESTION_SQL, questions);
+
+            jobStatsService.rebuild(user);
+            githubIds.add(user.getGithubId());
+        }
+        logger.info("Seeded {} users with {} jobs and {} questions each in {} ms",
+                USERS, JOBS_PER_USER, QUESTIONS_PER_USER, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @AfterAll
+    public void writeReport() throws IOException {
+        if (llm != null) {
+            llm.close();
+        }
+        Files.createDirectories(REPORT.getParent());
+        Files.writeString(REPORT, String.join(System.lineSeparator(), reports));
+        logger.info("Load test report written to {}", REPORT.toAbsolutePath());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Scenario.class)
+    public void LoadTest_runScenario(Scenario scenario) throws Exception {
+        run(scenario, WARMUP, new ConcurrentHashMap<>(), null);
+
+        Map<Operation, Recorder> recorders = new ConcurrentHashMap<>();
+        PoolSampler pool = new PoolSampler(dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean());
+        long llmCallsBefore = llm.requests();
+        long elapsedNanos = run(scenario, DURATION, recorders, pool);
+
+        String report = report(scenario, recorders, pool, elapsedNanos, llm.requests() - llmCallsBefore);
+        logger.info("{}", report);
+        reports.add(report);
+
+        long completed = recorders.values().stream().mapToLong(Recorder::count).sum();
+        assertThat(completed).isPositive();
+        // Only the LLM-backed operations may fail, and only with the 503/429 the stub's errors turn into
+        recorders.forEach((operation, recorder) -> {
+            if (operation == Operation.EVALUATE || operation == Operation.EVALUATE_ASYNC) {
+                assertThat(recorder.failures.sum() - recorder.llmFailures.sum()).as("%s non-LLM failures", operation).isZero();
+                assertThat(recorder.failures.sum()).as("%s failures", operation).isLessThan(recorder.count());
+            } else {
+                assertThat(recorder.failures.sum()).as("%s failures", operation).isZero();
+            }
+        });
+    }
+
+    // Closed loop: each virtual user sends its next request as soon as the previous one returns
+    private long run(Scenario scenario, Duration duration, Map<Operation, Recorder> recorders, PoolSampler pool)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        if (pool != null) {
+            sampler.scheduleAtFixedRate(pool::sample, 0, 100, TimeUnit.MILLISECONDS);
+        }
+        long start = System.nanoTime();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                users.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = scenario.pick();
+                        String githubId = githubIds.get(ThreadLocalRandom.current().nextInt(githubIds.size()));
+                        long sent = System.nanoTime();
+                        int status = send(operation, githubId);
+                        recorders.computeIfAbsent(operation, key -> new Recorder())
+                                .record(System.nanoTime() - sent, status);
+                    }
+                });
+            }
+        } finally {
+            sampler.shutdownNow();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private int send(Operation operation, String githubId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String type = TYPES[random.nextInt(TYPES.length)];
+        HttpRequest request = switch (operation) {
+            case JOB_PAGE -> get(githubId, "/api/jobs/page?limit=20");
+            case JOB_LIST -> get(githubId, "/api/jobs");
+            case JOB_DASHBOARD -> get(githubId, "/api/jobs/dashboard-stats");
+            case JOB_CREATE -> post(githubId, "/api/jobs", "{\"title\":\"Engineer\",\"company\":\"Company " + random.nextInt(500) +
+                    "\",\"location\":\"" + LOCATIONS[random.nextInt(LOCATIONS.length)] + "\"}");
+            case PROGRESS_WEEKLY -> get(githubId, "/api/progress/jobs");
+            case PROGRESS_ALL_TIME -> get(githubId, "/api/progress/jobs/all-time");
+            case QUESTION_NEXT -> get(githubId, "/api/questions/" + type + "/question");
+            case QUESTION_COUNT -> get(githubId, "/api/questions/" + type + "/count");
+            // Answers are unique so evaluations miss the cache and reach the stub
+            case EVALUATE, EVALUATE_ASYNC -> {
+                int q = random.nextInt(QUESTIONS_PER_USER);
+                String path = "/api/questions/" + TYPES[q % TYPES.length] + "/evaluate" + (operation == Operation.EVALUATE_ASYNC ? "/async" : "");
+                yield post(githubId, path, "{\"question\":\"" + questionText(q) + "\",\"response\":\"Answer " + random.nextLong() + "\"}");
+            }
+        };
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private HttpRequest get(String githubId, String path) {
+        return request(githubId, path).GET().build();
+    }
+
+    private HttpRequest post(String githubId, String path, String json) {
+        return request(githubId, path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String githubId, String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header(LoadTestSecurityConfig.USER_HEADER, githubId);
+    }
+
+    private static String questionText(int index) {
+        return "Seeded question " + index;
+    }
+
+    private static String report(Scenario scenario, Map<Operation, Recorder> recorders, PoolSampler pool,
+                                 long elapsedNanos, long llmCalls) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%n=== %s: %d virtual users for %.1f s, %d users seeded ===%n",
+                scenario, CONCURRENCY, seconds, USERS));
+        out.append(String.format("%-18s %8s %9s %9s %9s %9s %8s%n", "operation", "requests", "req/s", "p50 ms", "p99 ms", "max ms", "errors"));
+        long total = 0;
+        for (Operation operation : Operation.values()) {
+            Recorder recorder = recorders.get(operation);
+            if (recorder == null) {
+                continue;
+            }
+            long[] sorted = recorder.sorted();
+            total += sorted.length;
+            out.append(String.format("%-18s %8d %9.1f %9.2f %9.2f %9.2f %8d%n", operation, sorted.length, sorted.length / seconds,
+                    millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)), millis(sorted[sorted.length - 1]),
+                    recorder.failures.sum()));
+        }
+        out.append(String.format("%-18s %8d %9.1f%n", "total", total, total / seconds));
+        out.append(String.format("db pool: size %d, active avg %.1f max %d, threads awaiting avg %.1f max %d (%.0f%% of samples saturated)%n",
+                pool.maxTotal.get(), pool.averageActive(), pool.maxActive.get(), pool.averageWaiting(), pool.maxWaiting.get(),
+                pool.saturatedPercent()));
+        out.append(String.format("llm stub: %d calls, %s latency, %.0f%% error rate%n", llmCalls, LLM_LATENCY, LLM_ERROR_RATE * 100));
+        return out.toString();
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    // Latencies and failure count for one operation; 4xx/5xx and I/O errors count as failures, and
+    // 503 (circuit open, retries exhausted) and 429 (rate limited) also count as LLM failures
+    static class Recorder {
+        private final List<Long> latencies = new ArrayList<>();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder llmFailures = new LongAdder();
+
+        synchronized void record(long nanos, int status) {
+            latencies.add(nanos);
+            if (status < 200 || status >= 400) {
+                failures.increment();
+            }
+            if (status == 503 || status == 429) {
+                llmFailures.increment();
+            }
+        }
+
+        synchronized long count() {
+            return latencies.size();
+        }
+
+        synchronized long[] sorted() {
+            long[] values = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(values);
+            return values;
+        }
+    }
+
+    // Periodic snapshots of the Hikari pool: busy connections and threads queued for one
+    static class PoolSampler {
+        private final HikariPoolMXBean pool;
+        private final AtomicInteger samples = new AtomicInteger();
+        private final AtomicInteger saturatedSamples = new AtomicInteger();
+        private final AtomicLong activeSum = new AtomicLong();
+        private final AtomicLong waitingSum = new AtomicLong();
+        private final AtomicInteger maxActive = new AtomicInteger();
+        private final AtomicInteger maxWaiting = new AtomicInteger();
+        private final AtomicInteger maxTotal = new AtomicInteger();
+
+        PoolSampler(HikariPoolMXBean pool) {
+            this.pool = pool;
+        }
+
+        void sample() {
+            int active = pool.getActiveConnections();
+            int waiting = pool.getThreadsAwaitingConnection();
+            int total = pool.getTotalConnections();
+            samples.incrementAndGet();
+            activeSum.addAndGet(active);
+            waitingSum.addAndGet(waiting);
+            maxActive.accumulateAndGet(active, Math::max);
+            maxWaiting.accumulateAndGet(waiting, Math::max);
+            maxTotal.accumulateAndGet(total, Math::max);
+            if (waiting > 0) {
+                saturatedSamples.incrementAndGet();
+            }
+        }
+
+        double averageActive() {
+            return samples.get() == 0 ? 0 : (double) activeSum.get() / samples.get();
+        }
+
+        double averageWaiting() {
+            return samples.get() == 0 ? 0 : (double) waitingSum.get() / samples.get();
+        }
+
+        double saturatedPercent() {
+            return samples.get() == 0 ? 0 : 100.0 * saturatedSamples.get() / samples.get();
+        }
+    }
+}
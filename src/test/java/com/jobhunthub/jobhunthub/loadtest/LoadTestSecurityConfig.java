@@ -0,0 +1,79 @@
+package com.jobhunthub.jobhunthub.loadtest;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.jobhunthub.jobhunthub.config.UserPrincipal;
+import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.repository.UserRepository;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Test-only authentication for the load test: requests carrying an X-Load-User
+ * header (a seeded user's GitHub id) are authenticated as that user without
+ * going through OAuth2. Requests without the header fall through to the real
+ * security chain.
+ */
+@TestConfiguration
+@Profile("loadtest")
+public class LoadTestSecurityConfig {
+
+    static final String USER_HEADER = "X-Load-User";
+
+    @Bean
+    @Order(0)
+    public SecurityFilterChain loadTestFilterChain(HttpSecurity http, UserRepository userRepository) throws Exception {
+        return http
+                .securityMatcher(request -> request.getHeader(USER_HEADER) != null)
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth.anyRequest().authenticated())
+                .addFilterBefore(new HeaderAuthenticationFilter(userRepository), AnonymousAuthenticationFilter.class)
+                .build();
+    }
+
+    static class HeaderAuthenticationFilter extends OncePerRequestFilter {
+        private final UserRepository userRepository;
+        private final Map<String, User> users = new ConcurrentHashMap<>();
+
+        HeaderAuthenticationFilter(UserRepository userRepository) {
+            this.userRepository = userRepository;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            String githubId = request.getHeader(USER_HEADER);
+            User user = users.computeIfAbsent(githubId, id -> userRepository.findByGithubId(id).orElse(null));
+            if (user != null) {
+                var delegate = new DefaultOAuth2User(List.of(new SimpleGrantedAuthority("OAUTH2_USER")),
+                        Map.of("id", githubId), "id");
+                UserPrincipal principal = new UserPrincipal(delegate, user);
+                SecurityContextHolder.getContext().setAuthentication(
+                        new OAuth2AuthenticationToken(principal, principal.getAuthorities(), "github"));
+            }
+            chain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.jobhunthub.jobhunthub.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local stand-in for the OpenAI chat completions endpoint. Every request waits
+ * for the configured latency (with +/-25% jitter), then either fails with a
+ * 500 or 429 at the configured error rate or answers with a canned evaluation,
+ * as a single JSON body or as an SSE stream when the request asks for one.
+ */
+public class StubCompletionServer implements AutoCloseable {
+    private static final String EVALUATION = "{\"rating\": 7, \"feedback\": \"Clear structure, add a concrete example of the impact.\"}";
+
+    private final HttpServer server;
+    private final Duration latency;
+    private final double errorRate;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    public StubCompletionServer(Duration latency, double errorRate) throws IOException {
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/v1/chat/completions", this::handle);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.start();
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions";
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    public long errors() {
+        return errors.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            requests.incrementAndGet();
+            sleep(jittered(latency));
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (random.nextDouble() < errorRate) {
+                errors.incrementAndGet();
+                int status = random.nextBoolean() ? 500 : 429;
+                send(exchange, status, "application/json", "{\"error\": {\"message\": \"stubbed failure\"}}");
+                return;
+            }
+            if (body.contains("\"stream\":true")) {
+                stream(exchange);
+            } else {
+                send(exchange, 200, "application/json", completion());
+            }
+        }
+    }
+
+    // Sends the evaluation in a few content deltas followed by a usage chunk and [DONE]
+    private void stream(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+        int step = Math.max(1, EVALUATION.length() / 4);
+        for (int i = 0; i < EVALUATION.length(); i += step) {
+            String delta = EVALUATION.substring(i, Math.min(EVALUATION.length(), i + step));
+            write(out, "{\"choices\":[{\"delta\":{\"content\":" + quote(delta) + "}}]}");
+        }
+        write(out, "{\"choices\":[],\"usage\":{\"prompt_tokens\":120,\"completion_tokens\":30}}");
+        out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static String completion() {
+        return "{\"model\":\"stub\",\"choices\":[{\"message\":{\"role\":\"assistant\",\"content\":" + quote(EVALUATION) + "}}]," +
+                "\"usage\":{\"prompt_tokens\":120,\"completion_tokens\":30}}";
+    }
+
+    private static void write(OutputStream out, String data) throws IOException {
+        out.write(("data: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static String quote(String text) {
+        return "\"" + text.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static Duration jittered(Duration base) {
+        long millis = base.toMillis();
+        return millis == 0 ? base : Duration.ofMillis(ThreadLocalRandom.current().nextLong(millis * 3 / 4, millis * 5 / 4 + 1));
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
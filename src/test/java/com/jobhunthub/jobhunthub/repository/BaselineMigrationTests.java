@@ -0,0 +1,130 @@
+package com.jobhunthub.jobhunthub.repository;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.jobhunthub.jobhunthub.model.Job;
+import com.jobhunthub.jobhunthub.model.User;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * Upgrades a PostgreSQL database shaped like production before Flyway (the
+ * schema ddl-auto=update created from the original entities, with data) the
+ * way application-prod.properties does: baseline at V1, migrate, then let
+ * Hibernate validate the entities. The context only starts if validation
+ * passes; the tests check the data the migrations and startup backfills
+ * carry over.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class BaselineMigrationTests {
+
+    // What Hibernate 6 generated for the entities before this schema was managed by migrations
+    private static final String DDL_AUTO_SCHEMA = """
+            create table users (id bigint generated by default as identity, github_id varchar(255), google_id varchar(255), primary key (id));
+            alter table if exists users add constraint UKgithubid unique (github_id);
+            alter table if exists users add constraint UKgoogleid unique (google_id);
+            create table profiles (id bigint generated by default as identity, user_id bigint, avatar_url varchar(255), github_email varchar(255), google_email varchar(255), primary_email varchar(255), username varchar(255), primary key (id));
+            create table jobs (created_at date, id bigint generated by default as identity, user_id bigint, company varchar(255), location varchar(255), status varchar(255) check (status in ('APPLIED','REJECTED','INTERVIEWED')), title varchar(255), primary key (id));
+            create table questions (rating integer, updated_at date, id bigint generated by default as identity, user_id bigint, question varchar(500), response_text varchar(2000), feedback TEXT, type varchar(255) check (type in ('BEHAVIORAL','TECHNICAL')), primary key (id));
+            alter table if exists profiles add constraint FKprofilesuser foreign key (user_id) references users;
+            alter table if exists jobs add constraint FKjobsuser foreign key (user_id) references users;
+            alter table if exists questions add constraint FKquestionsuser foreign key (user_id) references users;
+            """;
+
+    private static final String EXISTING_DATA = """
+            insert into users (github_id) values ('baseline-gh-1'), ('baseline-gh-2');
+            insert into profiles (user_id, username) select id, 'same-name' from users;
+            insert into jobs (user_id, title, company, location, status, created_at)
+                select u.id, 'Engineer', 'Acme', 'Chicago, IL', 'APPLIED', current_date - n
+                from users u cross join generate_series(1, 60) n;
+            insert into questions (user_id, type, question)
+                select id, 'BEHAVIORAL', 'Why this company?' from users;
+            insert into questions (user_id, type, question)
+                select id, 'BEHAVIORAL', 'why  this company?' from users;
+            """;
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) throws IOException, SQLException {
+        postgres = EmbeddedPostgres.start();
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(DDL_AUTO_SCHEMA);
+            statement.execute(EXISTING_DATA);
+        }
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.flyway.baseline-on-migrate", () -> "true");
+        registry.add("spring.flyway.baseline-version", () -> "1");
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @Test
+    public void Migration_baselinesAtV1AndAppliesEveryLaterVersion() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success ORDER BY installed_rank", String.class);
+
+        assertThat(versions).first().isEqualTo("1");
+        assertThat(versions).contains("2").hasSizeGreaterThan(2);
+    }
+
+    @Test
+    public void Migration_keepsJobIdsUniqueAfterMovingToSequence() {
+        long highestExisting = jdbcTemplate.queryForObject("SELECT MAX(id) FROM jobs", Long.class);
+        User user = userRepository.findByGithubId("baseline-gh-1").orElseThrow();
+
+        Job job = jobRepository.save(Job.builder().title("Engineer").company("Acme").location("Remote")
+                .status(Job.Status.APPLIED).createdAt(LocalDate.now()).user(user).build());
+
+        assertThat(job.getId()).isGreaterThan(highestExisting);
+        jobRepository.delete(job);
+    }
+
+    @Test
+    public void Migration_backfillsExistingRowsAtStartup() {
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM questions WHERE random_key IS NULL", Long.class))
+                .isZero();
+        // One question per user keeps its text lookup; the case-and-spacing duplicate is left without a hash
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM questions WHERE question_hash IS NOT NULL", Long.class))
+                .isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT username) FROM profiles", Long.class))
+                .isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM jobs WHERE location_state = 'IL'", Long.class))
+                .isEqualTo(120);
+    }
+}
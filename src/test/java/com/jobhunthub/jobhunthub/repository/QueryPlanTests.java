@@ -0,0 +1,289 @@
+package com.jobhunthub.jobhunthub.repository;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jobhunthub.jobhunthub.dto.SearchPageDTO;
+import com.jobhunthub.jobhunthub.dto.SearchResultDTO;
+import com.jobhunthub.jobhunthub.model.Question;
+import com.jobhunthub.jobhunthub.model.Question.QuestionType;
+import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.service.SearchService;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * Runs the Flyway migrations against an embedded PostgreSQL, lets Hibernate
+ * validate the entities against the result, and checks with EXPLAIN that the
+ * hot repository queries are answered from their indexes without a sort.
+ * On tables this small the planner prefers sequential or bitmap scans plus a
+ * sort whatever indexes exist, so those are discouraged per test: a plan that
+ * still scans the table or sorts means no index serves the query.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class QueryPlanTests {
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private UserJobStatsRepository userJobStatsRepository;
+
+    private long userId;
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.start();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        for (int i = 0; i < 20; i++) {
+            jdbcTemplate.update("INSERT INTO users (github_id) VALUES (?)", "plan-" + i);
+        }
+        userId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+        jdbcTemplate.update("INSERT INTO jobs (id, user_id, title, company, location, status, created_at) " +
+                "SELECT nextval('jobs_seq'), u.id, 'Engineer', 'Company ' || (n % 40), 'Remote', " +
+                "(ARRAY['APPLIED', 'INTERVIEWED', 'REJECTED'])[1 + n % 3], CURRENT_DATE - (n % 90) " +
+                "FROM users u CROSS JOIN generate_series(1, 100) n");
+        jdbcTemplate.update("INSERT INTO questions (user_id, type, question, question_hash, updated_at, random_key) " +
+                "SELECT u.id, (ARRAY['BEHAVIORAL', 'TECHNICAL'])[1 + n % 2], 'Question ' || n, md5('Question ' || n), " +
+                "CASE WHEN n % 4 = 0 THEN CURRENT_DATE - (n % 3) END, random() " +
+                "FROM users u CROSS JOIN generate_series(1, 100) n");
+        jdbcTemplate.update("INSERT INTO user_job_daily_counts (user_id, job_date, job_count) " +
+                "SELECT user_id, created_at, COUNT(*) FROM jobs GROUP BY user_id, created_at");
+        jdbcTemplate.execute("ANALYZE");
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        jdbcTemplate.execute("SET LOCAL enable_bitmapscan = off");
+        jdbcTemplate.execute("SET LOCAL enable_sort = off");
+    }
+
+    @Test
+    public void QueryPlan_jobPage_readsUserCreatedIndexInOrder() {
+        String plan = explain("SELECT id FROM jobs WHERE user_id = :userId " +
+                        "AND (:status IS NULL OR status = :status) " +
+                        "AND (:cursorDate IS NULL OR created_at < :cursorDate " +
+                        "OR (created_at = :cursorDate AND id < :cursorId)) " +
+                        "ORDER BY created_at DESC, id DESC LIMIT 51",
+                Map.of("userId", userId,
+                        "status", new SqlParameterValue(Types.VARCHAR, null),
+                        "cursorDate", LocalDate.now().minusDays(30),
+                        "cursorId", 1_000_000L));
+
+        assertThat(plan).contains("idx_jobs_user_created_id").doesNotContain("Sort");
+    }
+
+    @Test
+    public void QueryPlan_jobPageByStatus_readsUserStatusIndexInOrder() {
+        String plan = explain("SELECT id FROM jobs WHERE user_id = :userId AND status = :status " +
+                        "ORDER BY created_at DESC, id DESC LIMIT 51",
+                Map.of("userId", userId, "status", "REJECTED"));
+
+        assertThat(plan).contains("idx_jobs_user_status_created_id").doesNotContain("Sort");
+    }
+
+    @Test
+    public void QueryPlan_countByUserAndStatus_usesUserStatusIndex() {
+        String plan = explain("SELECT COUNT(id) FROM jobs WHERE user_id = :userId AND status = :status",
+                Map.of("userId", userId, "status", "APPLIED"));
+
+        assertThat(plan).contains("idx_jobs_user_status_created_id");
+    }
+
+    @Test
+    public void QueryPlan_answeredTodayCount_usesPartialUpdatedIndex() {
+        String plan = explain("SELECT COUNT(DISTINCT question) FROM questions " +
+                        "WHERE updated_at = :date AND user_id = :userId AND type = :type",
+                Map.of("date", LocalDate.now(), "userId", userId, "type", "TECHNICAL"));
+
+        assertThat(plan).contains("idx_questions_user_type_updated");
+    }
+
+    @Test
+    public void QueryPlan_findByQuestionHash_usesUniqueHashIndex() {
+        String plan = explain("SELECT id FROM questions WHERE question_hash = :hash AND user_id = :userId AND type = :type",
+                Map.of("hash", Question.contentHash("Question 7"), "userId", userId, "type", "BEHAVIORAL"));
+
+        assertThat(plan).contains("uk_questions_user_type_hash");
+    }
+
+    @Test
+    public void QuestionInsert_onPostgres_skipsDuplicateHash() {
+        String hash = Question.contentHash("Tell me about a conflict");
+
+        assertThat(questionRepository.insertIfAbsent(userId, QuestionType.BEHAVIORAL, "Tell me about a conflict", hash, 0.5)).isTrue();
+        assertThat(questionRepository.insertIfAbsent(userId, QuestionType.BEHAVIORAL, "tell me about a  conflict", hash, 0.5)).isFalse();
+        assertThat(questionRepository.insertIfAbsent(userId, QuestionType.TECHNICAL, "Tell me about a conflict", hash, 0.5)).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM questions WHERE question_hash = ?", Long.class, hash))
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void UserJobStatsInsert_onPostgres_skipsExistingRow() {
+        assertThat(userJobStatsRepository.insertIfAbsent(userId)).isTrue();
+        jdbcTemplate.update("UPDATE user_job_stats SET total = 7 WHERE user_id = ?", userId);
+
+        assertThat(userJobStatsRepository.insertIfAbsent(userId)).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT total FROM user_job_stats WHERE user_id = ?", Long.class, userId))
+                .isEqualTo(7);
+    }
+
+    @Test
+    public void QueryPlan_nextUnansweredQuestion_probesBothPartialIndexes() throws NoSuchMethodException {
+        String sql = QuestionRepository.class
+                .getMethod("findNextUnansweredByRandomKey", Long.class, String.class, double.class)
+                .getAnnotation(Query.class).value();
+
+        String plan = explain(sql, Map.of("userId", userId, "type", "TECHNICAL", "start", 0.5));
+
+        assertThat(plan).contains("idx_questions_unanswered").contains("idx_questions_answered");
+        assertThat(plan).doesNotContain("idx_questions_user_type_random_key");
+    }
+
+    @Test
+    public void QueryPlan_maxDailyCount_usesUserIndex() {
+        String plan = explain("SELECT MAX(job_count) FROM user_job_daily_counts WHERE user_id = :userId",
+                Map.of("userId", userId));
+
+        assertThat(plan).contains("idx_user_job_daily_counts_user");
+    }
+
+    @Test
+    public void QueryPlan_evaluationCachePurge_usesCreatedAtIndex() {
+        jdbcTemplate.update("INSERT INTO evaluation_cache (cache_key, evaluation, created_at) " +
+                "SELECT md5(n::text), '{}', now() - n * interval '1 hour' FROM generate_series(1, 2000) n");
+        jdbcTemplate.execute("ANALYZE evaluation_cache");
+
+        String plan = explain("DELETE FROM evaluation_cache WHERE created_at < :cutoff",
+                Map.of("cutoff", Timestamp.from(Instant.now().minus(Duration.ofDays(30)))));
+
+        assertThat(plan).contains("idx_evaluation_cache_created_at");
+    }
+
+    @Test
+    public void QueryPlan_searchJobs_usesSearchVectorIndex() {
+        seedSearchRows();
+
+        String plan = explain("SELECT id FROM jobs, to_tsquery('simple', :query) query " +
+                        "WHERE user_id = :userId AND search_vector @@ query",
+                Map.of("query", "kotl:*", "userId", userId));
+
+        assertThat(plan).contains("idx_jobs_search_vector");
+    }
+
+    @Test
+    public void QueryPlan_searchQuestions_usesSearchVectorIndex() {
+        seedSearchRows();
+
+        String plan = explain("SELECT id FROM questions, to_tsquery('simple', :query) query " +
+                        "WHERE user_id = :userId AND search_vector @@ query",
+                Map.of("query", "hashm:*", "userId", userId));
+
+        assertThat(plan).contains("idx_questions_search_vector");
+    }
+
+    @Test
+    public void Search_onPostgres_ranksPrefixMatchesFromSearchVectors() {
+        seedSearchRows();
+        User user = userRepository.findById(userId).orElseThrow();
+
+        SearchPageDTO all = searchService.search("kotl", "all", 0, 20, user);
+        SearchPageDTO questions = searchService.search("HashM", "questions", 0, 20, user);
+
+        // Title matches (weight A) outrank the feedback match (weight C)
+        assertThat(all.results()).extracting(SearchResultDTO::type).containsExactly("JOB", "JOB", "JOB", "QUESTION");
+        assertThat(all.results().get(0).detail()).isEqualTo("Kotlin Labs");
+        assertThat(questions.results()).extracting(SearchResultDTO::title).containsExactly("Explain how a HashMap works");
+        assertThat(searchService.search("kotl", "jobs", 1, 2, user).results()).hasSize(1);
+    }
+
+    @Test
+    public void Search_onPostgres_breaksEqualRanksOnTypeBeforeId() {
+        jdbcTemplate.update("INSERT INTO jobs (id, user_id, title, company, location, status, created_at) " +
+                "VALUES (900001, ?, 'Zebra', 'Acme', 'Remote', 'APPLIED', CURRENT_DATE)", userId);
+        jdbcTemplate.update("INSERT INTO questions (id, user_id, type, question, random_key) VALUES " +
+                "(900001, ?, 'TECHNICAL', 'Zebra', 0.5), (900002, ?, 'TECHNICAL', 'Zebra', 0.5)", userId, userId);
+        User user = userRepository.findById(userId).orElseThrow();
+
+        // Equal ranks, and the job shares an id with a question
+        assertThat(searchService.search("zebra", "all", 0, 20, user).results())
+                .extracting(SearchResultDTO::type, SearchResultDTO::id)
+                .containsExactly(tuple("JOB", 900001L), tuple("QUESTION", 900002L), tuple("QUESTION", 900001L));
+    }
+
+    // A user with thousands of rows (for a user with a hundred, reading them all through the user index is
+    // cheaper than GIN) and a few rows with words the generated data does not contain
+    private void seedSearchRows() {
+        jdbcTemplate.update("INSERT INTO jobs (id, user_id, title, company, location, status, created_at) " +
+                "SELECT nextval('jobs_seq'), ?, 'Engineer', 'Company' || (n % 2000), 'Remote', 'APPLIED', " +
+                "CURRENT_DATE FROM generate_series(1, 5000) n", userId);
+        jdbcTemplate.update("INSERT INTO questions (user_id, type, question, random_key) " +
+                "SELECT ?, 'TECHNICAL', 'Question ' || n, random() FROM generate_series(1, 5000) n", userId);
+        jdbcTemplate.update("INSERT INTO jobs (id, user_id, title, company, location, status, created_at) " +
+                "SELECT nextval('jobs_seq'), ?, 'Kotlin Developer', 'Kotlin Labs', 'Remote', 'APPLIED', CURRENT_DATE " +
+                "FROM generate_series(1, 3)", userId);
+        jdbcTemplate.update("INSERT INTO questions (user_id, type, question, feedback, random_key) VALUES " +
+                "(?, 'TECHNICAL', 'Explain how a HashMap works', NULL, 0.5), " +
+                "(?, 'BEHAVIORAL', 'Tell me about a migration', 'Mention the Kotlin rewrite', 0.5)", userId, userId);
+        // Fresh GIN entries wait in a pending list, costed as a scan of every pending page, until autovacuum
+        // merges them; merge now, as VACUUM cannot run inside the test transaction
+        jdbcTemplate.queryForObject("SELECT gin_clean_pending_list('idx_jobs_search_vector')", Long.class);
+        jdbcTemplate.queryForObject("SELECT gin_clean_pending_list('idx_questions_search_vector')", Long.class);
+        jdbcTemplate.execute("ANALYZE");
+        // GIN indexes are only read through bitmap scans
+        jdbcTemplate.execute("SET LOCAL enable_bitmapscan = on");
+    }
+
+    private String explain(String sql, Map<String, ?> params) {
+        return String.join("\n", namedJdbcTemplate.queryForList("EXPLAIN " + sql, params, String.class));
+    }
+}
@@ -0,0 +1,60 @@
+package com.jobhunthub.jobhunthub.repository;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jobhunthub.jobhunthub.model.Profile;
+import com.jobhunthub.jobhunthub.model.Question;
+import com.jobhunthub.jobhunthub.model.User;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class QuestionHashMigrationTests {
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    public void hashExisting_hashesOldestRowAndLeavesDuplicatesWithoutHash() throws SQLException {
+        User user = profileRepository.save(Profile.builder().user(User.builder().githubId("hash-migration-gh").build())
+                .username("hash-migration-user").build()).getUser();
+        // Rows as they were before migration V6: no hash, and duplicates up to case and spacing
+        for (String text : new String[]{"Why this company?", "why this  company?", "What motivates you?"}) {
+            jdbcTemplate.update("INSERT INTO questions (user_id, type, question, random_key) VALUES (?, 'BEHAVIORAL', ?, 0.5)",
+                    user.getId(), text);
+        }
+        jdbcTemplate.update("INSERT INTO questions (user_id, type, question, random_key) VALUES (?, 'TECHNICAL', ?, 0.5)",
+                user.getId(), "WHY THIS COMPANY?");
+
+        long[] counts = QuestionHashMigration.hashExisting(DataSourceUtils.getConnection(dataSource));
+
+        assertThat(counts).containsExactly(4, 1);
+        assertThat(hashOf(user, "BEHAVIORAL", "Why this company?")).isEqualTo(Question.contentHash("Why this company?"));
+        assertThat(hashOf(user, "BEHAVIORAL", "why this  company?")).isNull();
+        assertThat(hashOf(user, "BEHAVIORAL", "What motivates you?")).isEqualTo(Question.contentHash("What motivates you?"));
+        // Another type is a separate question
+        assertThat(hashOf(user, "TECHNICAL", "WHY THIS COMPANY?")).isEqualTo(Question.contentHash("Why this company?"));
+    }
+
+    private String hashOf(User user, String type, String question) {
+        return jdbcTemplate.queryForObject("SELECT question_hash FROM questions WHERE user_id = ? AND type = ? AND question = ?",
+                String.class, user.getId(), type, question);
+    }
+}
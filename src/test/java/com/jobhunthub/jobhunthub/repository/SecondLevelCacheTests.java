@@ -0,0 +1,161 @@
+package com.jobhunthub.jobhunthub.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jobhunthub.jobhunthub.config.CacheConfig;
+import com.jobhunthub.jobhunthub.model.Job;
+import com.jobhunthub.jobhunthub.model.Profile;
+import com.jobhunthub.jobhunthub.model.User;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Checks the second-level and query cache through Hibernate statistics.
+ * Cache entries are only written on commit, so each step runs in its own
+ * transaction (as separate requests would) and the test cleans up after itself.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class SecondLevelCacheTests {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private User user;
+    private Job job;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = profileRepository.save(Profile.builder().user(User.builder().githubId("cache-gh").build())
+                .username("cache-user").build()).getUser();
+        job = jobRepository.save(Job.builder().title("Engineer").company("Acme").location("Remote")
+                .status(Job.Status.APPLIED).createdAt(LocalDate.now()).user(user).build());
+        statistics.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jobRepository.deleteAll(jobRepository.findByUser(user));
+            profileRepository.findByUser(user).ifPresent(profileRepository::delete);
+            userRepository.deleteById(user.getId());
+        });
+    }
+
+    @Test
+    public void SecondLevelCache_findById_servesRepeatReadsFromJobsRegion() {
+        inTransaction(() -> jobRepository.findById(job.getId()).orElseThrow());
+        long statements = statistics.getPrepareStatementCount();
+
+        Job cached = inTransaction(() -> jobRepository.findById(job.getId()).orElseThrow());
+
+        assertThat(cached.getCompany()).isEqualTo("Acme");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getDomainDataRegionStatistics(CacheConfig.JOBS).getHitCount()).isPositive();
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tag("region", CacheConfig.JOBS).tag("result", "hit").functionCounter()).isNotNull();
+    }
+
+    @Test
+    public void SecondLevelCache_updateThroughEntity_isVisibleOnNextRead() {
+        inTransaction(() -> jobRepository.findById(job.getId()).orElseThrow());
+
+        transactionTemplate.executeWithoutResult(status ->
+                jobRepository.findById(job.getId()).orElseThrow().setCompany("Globex"));
+
+        assertThat(inTransaction(() -> jobRepository.findById(job.getId()).orElseThrow()).getCompany())
+                .isEqualTo("Globex");
+    }
+
+    @Test
+    public void SecondLevelCache_bulkStatusUpdate_evictsCachedJobsAndCounts() {
+        inTransaction(() -> jobRepository.findById(job.getId()).orElseThrow());
+        assertThat(inTransaction(() -> jobRepository.countByUserAndStatus(user, Job.Status.APPLIED))).isEqualTo(1);
+
+        inTransaction(() -> jobRepository.updateStatusByUserAndIdIn(user, List.of(job.getId()), Job.Status.REJECTED));
+
+        assertThat(inTransaction(() -> jobRepository.findById(job.getId()).orElseThrow()).getStatus())
+                .isEqualTo(Job.Status.REJECTED);
+        assertThat(inTransaction(() -> jobRepository.countByUserAndStatus(user, Job.Status.APPLIED))).isZero();
+        assertThat(inTransaction(() -> jobRepository.countByUserAndStatus(user, Job.Status.REJECTED))).isEqualTo(1);
+    }
+
+    @Test
+    public void SecondLevelCache_countQuery_isCachedUntilJobsChange() {
+        assertThat(inTransaction(() -> jobRepository.countByUser(user))).isEqualTo(1);
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(inTransaction(() -> jobRepository.countByUser(user))).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getQueryRegionStatistics(CacheConfig.JOB_COUNTS).getHitCount()).isEqualTo(1);
+
+        jobRepository.save(Job.builder().title("Analyst").company("Initech").location("Austin, TX")
+                .status(Job.Status.APPLIED).createdAt(LocalDate.now()).user(user).build());
+
+        assertThat(inTransaction(() -> jobRepository.countByUser(user))).isEqualTo(2);
+    }
+
+    @Test
+    public void SecondLevelCache_providerIdLookup_isCachedAndSeesLinkedAccounts() {
+        inTransaction(() -> userRepository.findByGithubId("cache-gh").orElseThrow());
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(inTransaction(() -> userRepository.findByGithubId("cache-gh")).orElseThrow().getId())
+                .isEqualTo(user.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(inTransaction(() -> userRepository.findByGoogleId("cache-google"))).isEmpty();
+
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(user.getId()).orElseThrow().setGoogleId("cache-google"));
+
+        assertThat(inTransaction(() -> userRepository.findByGoogleId("cache-google")).orElseThrow().getId())
+                .isEqualTo(user.getId());
+    }
+
+    @Test
+    public void SecondLevelCache_profileByUser_isServedFromCache() {
+        inTransaction(() -> profileRepository.findByUser(user).orElseThrow());
+        long statements = statistics.getPrepareStatementCount();
+
+        Profile cached = inTransaction(() -> profileRepository.findByUser(user).orElseThrow());
+
+        assertThat(cached.getUsername()).isEqualTo("cache-user");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getQueryRegionStatistics(CacheConfig.PROFILES_BY_USER).getHitCount()).isEqualTo(1);
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return transactionTemplate.execute(status -> work.get());
+    }
+}
@@ -0,0 +1,51 @@
+package com.jobhunthub.jobhunthub.service;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BloomFilterTests {
+
+    @Test
+    public void BloomFilter_mightContain_isTrueForEveryValuePut() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            Assertions.assertThat(filter.mightContain("user" + i)).isTrue();
+        }
+    }
+
+    @Test
+    public void BloomFilter_mightContain_staysNearConfiguredFalsePositiveRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+
+        Assertions.assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    public void BloomFilter_sizing_followsExpectedInsertionsAndRate() {
+        BloomFilter filter = new BloomFilter(100_000, 0.01);
+
+        // About 9.6 bits and 7 hashes per entry at 1%
+        Assertions.assertThat(filter.bitCount()).isBetween(958_000L, 959_000L);
+        Assertions.assertThat(filter.hashCount()).isEqualTo(7);
+    }
+
+    @Test
+    public void BloomFilter_rejectsInvalidFalsePositiveRate() {
+        Assertions.assertThatThrownBy(() -> new BloomFilter(100, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,56 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.InvalidRequestException;
+
+public class CsvRecordReaderTests {
+
+    @Test
+    public void CsvRecordReader_next_handlesQuotesEscapesAndLineBreaks() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(
+                "\uFEFFtitle,company\r\n\"Engineer, II\",\"Says \"\"hi\"\"\"\n\"Multi\nline\",Acme"));
+
+        assertThat(reader.next()).containsExactly("title", "company");
+        assertThat(reader.next()).containsExactly("Engineer, II", "Says \"hi\"");
+        assertThat(reader.recordLine()).isEqualTo(2);
+        assertThat(reader.next()).containsExactly("Multi\nline", "Acme");
+        assertThat(reader.recordLine()).isEqualTo(3);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    public void CsvRecordReader_next_keepsEmptyFields() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,,c,\n"));
+
+        assertThat(reader.next()).containsExactly("a", "", "c", "");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    public void CsvRecordReader_next_rejectsUnterminatedQuote() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("title\n\"never closed\n"));
+        reader.next();
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("line 2");
+    }
+
+    @Test
+    public void CsvRecordReader_next_rejectsRecordLongerThanLimit() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(
+                "title\n\"" + "x".repeat(CsvRecordReader.MAX_RECORD_LENGTH) + "\nnever closed"));
+        reader.next();
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("line 2")
+                .hasMessageContaining("longer than " + CsvRecordReader.MAX_RECORD_LENGTH);
+    }
+}
@@ -0,0 +1,125 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.MockitoAnnotations;
+
+import com.jobhunthub.jobhunthub.model.EvaluationCacheEntry;
+import com.jobhunthub.jobhunthub.model.Question.QuestionType;
+import com.jobhunthub.jobhunthub.repository.EvaluationCacheRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class EvaluationCacheTests {
+
+    private static final String EVALUATION = "{\"rating\": 8, \"feedback\": \"Good\"}";
+
+    @Mock
+    private EvaluationCacheRepository repository;
+
+    @Mock
+    private Supplier<String> evaluator;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EvaluationCache evaluationCache;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        evaluationCache = new EvaluationCache(repository, meterRegistry, 100, Duration.ofMinutes(5), Duration.ofDays(1),
+                Duration.ofHours(1));
+        when(repository.findByCacheKeyAndCreatedAtAfter(anyString(), any(Instant.class))).thenReturn(Optional.empty());
+        when(evaluator.get()).thenReturn(EVALUATION);
+    }
+
+    @Test
+    public void EvaluationCache_key_ignoresWhitespaceAndCase() {
+        String key = evaluationCache.key(QuestionType.TECHNICAL, 1, "What is 2x4?", "The answer is 8");
+
+        assertThat(evaluationCache.key(QuestionType.TECHNICAL, 1, "  what is 2x4? ", "The  answer\nis 8"))
+                .isEqualTo(key);
+        assertThat(evaluationCache.key(QuestionType.BEHAVIORAL, 1, "What is 2x4?", "The answer is 8"))
+                .isNotEqualTo(key);
+        assertThat(evaluationCache.key(QuestionType.TECHNICAL, 2, "What is 2x4?", "The answer is 8"))
+                .isNotEqualTo(key);
+    }
+
+    @Test
+    public void EvaluationCache_getOrEvaluate_servesRepeatsFromMemory() {
+        assertThat(evaluationCache.getOrEvaluate("key", false, evaluator)).isEqualTo(EVALUATION);
+        assertThat(evaluationCache.getOrEvaluate("key", false, evaluator)).isEqualTo(EVALUATION);
+
+        verify(evaluator, times(1)).get();
+        verify(repository).save(any(EvaluationCacheEntry.class));
+        assertThat(count("miss", "none")).isEqualTo(1.0);
+        assertThat(count("hit", "memory")).isEqualTo(1.0);
+    }
+
+    @Test
+    public void EvaluationCache_getOrEvaluate_fallsBackToDatabase() {
+        EvaluationCacheEntry entry = EvaluationCacheEntry.builder()
+                .cacheKey("key")
+                .evaluation(EVALUATION)
+                .createdAt(Instant.now())
+                .build();
+        when(repository.findByCacheKeyAndCreatedAtAfter(anyString(), any(Instant.class))).thenReturn(Optional.of(entry));
+
+        assertThat(evaluationCache.getOrEvaluate("key", false, evaluator)).isEqualTo(EVALUATION);
+
+        verify(evaluator, never()).get();
+        assertThat(count("hit", "db")).isEqualTo(1.0);
+    }
+
+    @Test
+    public void EvaluationCache_getOrEvaluate_bypassesCacheOnReevaluate() {
+        evaluationCache.getOrEvaluate("key", false, evaluator);
+        evaluationCache.getOrEvaluate("key", true, evaluator);
+
+        verify(evaluator, times(2)).get();
+        assertThat(count("bypass", "none")).isEqualTo(1.0);
+    }
+
+    @Test
+    public void EvaluationCache_put_skipsErrorResponses() {
+        when(evaluator.get()).thenReturn("{\"rating\": 5, \"feedback\": \"I apologize, but I'm having trouble processing your request right now.\"}");
+
+        evaluationCache.getOrEvaluate("key", false, evaluator);
+        evaluationCache.getOrEvaluate("key", false, evaluator);
+
+        verify(evaluator, times(2)).get();
+        verify(repository, never()).save(any(EvaluationCacheEntry.class));
+    }
+
+    private double count(String result, String tier) {
+        return meterRegistry.get("evaluation.cache.requests").tag("result", result).tag("tier", tier).counter().count();
+    }
+
+    @Test
+    public void EvaluationCache_put_purgesExpiredRowsOncePerInterval() {
+        Instant before = Instant.now();
+
+        evaluationCache.put("key", EVALUATION);
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(repository, timeout(1000)).deleteByCreatedAtBefore(cutoff.capture());
+        evaluationCache.put("other", EVALUATION);
+
+        assertThat(cutoff.getValue()).isBetween(before.minus(Duration.ofDays(1)), Instant.now().minus(Duration.ofDays(1)));
+        verify(repository, times(1)).deleteByCreatedAtBefore(any(Instant.class));
+    }
+}
@@ -0,0 +1,259 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.jobhunthub.jobhunthub.dto.EvaluationDTO;
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.AuthenticationException;
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.ServiceUnavailableException;
+import com.jobhunthub.jobhunthub.model.Evaluation;
+import com.jobhunthub.jobhunthub.model.Question;
+import com.jobhunthub.jobhunthub.model.Question.QuestionType;
+import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.repository.EvaluationRepository;
+
+public class EvaluationServiceTests {
+
+    @Mock
+    private EvaluationRepository evaluationRepository;
+
+    @Mock
+    private QuestionService questionService;
+
+    @Mock
+    private OpenAIService openAIService;
+
+    @Mock
+    private EvaluationCache evaluationCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ExecutorService executor;
+
+    private EvaluationService evaluationService;
+
+    private User user;
+    private Question question;
+    private Evaluation evaluation;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        evaluationService = new EvaluationService(evaluationRepository, questionService, openAIService, evaluationCache,
+                new TransactionTemplate(transactionManager), executor, Duration.ofMinutes(15));
+
+        user = User.builder().id(1L).githubId("123").build();
+        question = Question.builder()
+                .id(10L)
+                .type(QuestionType.TECHNICAL)
+                .question("What is 2x4?")
+                .user(user)
+                .build();
+        evaluation = Evaluation.builder()
+                .id(100L)
+                .question(question)
+                .user(user)
+                .responseText("8")
+                .status(Evaluation.Status.PENDING)
+                .createdAt(Instant.now())
+                .build();
+
+        when(questionService.findOwnedQuestion("What is 2x4?", user, QuestionType.TECHNICAL)).thenReturn(question);
+        when(questionService.buildEvaluationPrompt(any(), anyString(), anyString())).thenReturn("prompt");
+        when(evaluationRepository.save(any(Evaluation.class))).thenAnswer(invocation -> {
+            Evaluation saved = invocation.getArgument(0);
+            if (saved.getId() == null) {
+                saved.setId(100L);
+            }
+            return saved;
+        });
+        when(evaluationRepository.findById(100L)).thenReturn(Optional.of(evaluation));
+    }
+
+    @Test
+    public void EvaluationService_submit_returnsPendingAndQueuesWork() {
+        // Act
+        EvaluationDTO result = evaluationService.submit("What is 2x4?", "8", user, QuestionType.TECHNICAL, false);
+
+        // Assert
+        assertThat(result.id()).isEqualTo(100L);
+        assertThat(result.status()).isEqualTo("PENDING");
+        verify(executor).execute(any(Runnable.class));
+        verify(questionService, never()).requestEvaluation(any(), any(), anyString(), anyString(), anyBoolean());
+    }
+
+    @Test
+    public void EvaluationService_submit_completesEvaluationOnExecutor() {
+        // Arrange
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        when(questionService.requestEvaluation(user, QuestionType.TECHNICAL, "What is 2x4?", "8", false))
+                .thenReturn("{\"rating\": 9, \"feedback\": \"Great\"}");
+        when(questionService.applyEvaluation(question, "8", "{\"rating\": 9, \"feedback\": \"Great\"}"))
+                .thenAnswer(invocation -> {
+                    question.setRating(9);
+                    question.setFeedback("Great");
+                    return question;
+                });
+
+        // Act
+        evaluationService.submit("What is 2x4?", "8", user, QuestionType.TECHNICAL, false);
+
+        // Assert
+        assertThat(evaluation.getStatus()).isEqualTo(Evaluation.Status.COMPLETED);
+        assertThat(evaluation.getRating()).isEqualTo(9);
+        assertThat(evaluation.getFeedback()).isEqualTo("Great");
+        assertThat(evaluation.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    public void EvaluationService_runEvaluation_marksFailedOnError() {
+        // Arrange
+        when(questionService.requestEvaluation(user, QuestionType.TECHNICAL, "What is 2x4?", "8", false)).thenReturn("not json");
+        when(questionService.applyEvaluation(question, "8", "not json")).thenThrow(new RuntimeException("bad json"));
+
+        // Act
+        evaluationService.runEvaluation(100L, user, QuestionType.TECHNICAL, "What is 2x4?", "8", false);
+
+        // Assert
+        assertThat(evaluation.getStatus()).isEqualTo(Evaluation.Status.FAILED);
+        assertThat(evaluation.getRating()).isNull();
+        assertThat(evaluation.getFeedback()).isEqualTo(EvaluationService.FAILED_FEEDBACK).doesNotContain("bad json");
+    }
+
+    @Test
+    public void EvaluationService_getEvaluation_failsEvaluationPendingPastStaleAfter() {
+        // Arrange
+        evaluation.setCreatedAt(Instant.now().minus(Duration.ofMinutes(20)));
+
+        // Act
+        EvaluationDTO result = evaluationService.getEvaluation(100L, user);
+
+        // Assert
+        assertThat(result.status()).isEqualTo("FAILED");
+        assertThat(result.feedback()).isEqualTo(EvaluationService.FAILED_FEEDBACK);
+        assertThat(evaluation.getStatus()).isEqualTo(Evaluation.Status.FAILED);
+    }
+
+    @Test
+    public void EvaluationService_getEvaluation_keepsRecentEvaluationPending() {
+        // Arrange
+        evaluation.setCreatedAt(Instant.now().minus(Duration.ofMinutes(1)));
+
+        // Act
+        EvaluationDTO result = evaluationService.getEvaluation(100L, user);
+
+        // Assert
+        assertThat(result.status()).isEqualTo("PENDING");
+    }
+
+    @Test
+    public void EvaluationService_failStaleEvaluations_failsRowsPendingBeforeCutoff() {
+        // Act
+        Instant before = Instant.now();
+        evaluationService.failStaleEvaluations();
+
+        // Assert
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(evaluationRepository).failPendingCreatedBefore(cutoff.capture(), eq(EvaluationService.FAILED_FEEDBACK), any(Instant.class));
+        assertThat(cutoff.getValue()).isBetween(before.minus(Duration.ofMinutes(15)), Instant.now().minus(Duration.ofMinutes(15)));
+    }
+
+    @Test
+    public void EvaluationService_submit_throwsServiceUnavailableWhenQueueFull() {
+        // Arrange
+        doThrow(new RejectedExecutionException("full")).when(executor).execute(any(Runnable.class));
+
+        // Act & Assert
+        assertThatThrownBy(() -> evaluationService.submit("What is 2x4?", "8", user, QuestionType.TECHNICAL, false))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(evaluation.getStatus()).isEqualTo(Evaluation.Status.FAILED);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void EvaluationService_stream_savesEvaluationAfterStreaming() {
+        // Arrange
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        String content = "{\"rating\": 9, \"feedback\": \"Great\"}";
+        when(openAIService.streamResponse(eq(1L), eq("8"), eq("prompt"), any(Consumer.class))).thenAnswer(invocation -> {
+            Consumer<String> onDelta = invocation.getArgument(3);
+            onDelta.accept(content.substring(0, 20));
+            onDelta.accept(content.substring(20));
+            return content;
+        });
+        when(questionService.applyEvaluation(question, "8", content)).thenReturn(question);
+        when(questionService.evaluationCacheKey(QuestionType.TECHNICAL, "What is 2x4?", "8")).thenReturn("key");
+        when(evaluationCache.get("key", false)).thenReturn(Optional.empty());
+
+        // Act
+        SseEmitter emitter = evaluationService.stream("What is 2x4?", "8", user, QuestionType.TECHNICAL, false);
+
+        // Assert
+        assertThat(emitter).isNotNull();
+        verify(questionService).applyEvaluation(question, "8", content);
+        verify(evaluationCache).put("key", content);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void EvaluationService_stream_servesCachedEvaluationWithoutCallingOpenAI() {
+        // Arrange
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        String content = "{\"rating\": 9, \"feedback\": \"Great\"}";
+        when(questionService.evaluationCacheKey(QuestionType.TECHNICAL, "What is 2x4?", "8")).thenReturn("key");
+        when(evaluationCache.get("key", false)).thenReturn(Optional.of(content));
+        when(questionService.applyEvaluation(question, "8", content)).thenReturn(question);
+
+        // Act
+        evaluationService.stream("What is 2x4?", "8", user, QuestionType.TECHNICAL, false);
+
+        // Assert
+        verify(openAIService, never()).streamResponse(any(), anyString(), anyString(), any(Consumer.class));
+        verify(questionService).applyEvaluation(question, "8", content);
+    }
+
+    @Test
+    public void EvaluationService_getEvaluation_rejectsOtherUsers() {
+        // Arrange
+        User otherUser = User.builder().id(2L).githubId("456").build();
+
+        // Act & Assert
+        assertThatThrownBy(() -> evaluationService.getEvaluation(100L, otherUser))
+                .isInstanceOf(AuthenticationException.class);
+    }
+}
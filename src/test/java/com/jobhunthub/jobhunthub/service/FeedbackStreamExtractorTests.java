@@ -0,0 +1,46 @@
+package com.jobhunthub.jobhunthub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+public class FeedbackStreamExtractorTests {
+
+    @Test
+    public void FeedbackStreamExtractor_accept_returnsFeedbackAcrossChunks() {
+        FeedbackStreamExtractor extractor = new FeedbackStreamExtractor();
+        StringBuilder feedback = new StringBuilder();
+
+        for (String chunk : new String[]{"{\"rat", "ing\": 8, \"feed", "back\"", ": \"Gre", "at ans", "wer!\"}"}) {
+            feedback.append(extractor.accept(chunk));
+        }
+
+        assertThat(feedback.toString()).isEqualTo("Great answer!");
+    }
+
+    @Test
+    public void FeedbackStreamExtractor_accept_decodesEscapesSplitAcrossChunks() {
+        FeedbackStreamExtractor extractor = new FeedbackStreamExtractor();
+        StringBuilder feedback = new StringBuilder();
+
+        for (String chunk : new String[]{"{\"feedback\": \"Line one\\", "nLine \\\"two\\\" \\u00", "e9\", \"rating\": 7}"}) {
+            feedback.append(extractor.accept(chunk));
+        }
+
+        assertThat(feedback.toString()).isEqualTo("Line one\nLine \"two\" é");
+    }
+
+    @Test
+    public void FeedbackStreamExtractor_accept_ignoresTextAfterFeedback() {
+        FeedbackStreamExtractor extractor = new FeedbackStreamExtractor();
+
+        assertThat(extractor.accept("{\"feedback\": \"Done\", \"other\": \"\\\"feedback\\\": \\\"x\\\"\"}")).isEqualTo("Done");
+        assertThat(extractor.accept("\"feedback\": \"more\"")).isEmpty();
+    }
+
+    @Test
+    public void FeedbackStreamExtractor_accept_returnsNothingForNonJsonContent() {
+        FeedbackStreamExtractor extractor = new FeedbackStreamExtractor();
+
+        assertThat(extractor.accept("This is plain text feedback")).isEmpty();
+    }
+}
@@ -0,0 +1,54 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+
+public class JobColumnarFormatTests {
+
+    @Test
+    public void JobColumnarFormat_read_roundTripsAcrossRowGroups() throws IOException {
+        List<JobExportService.Row> written = new ArrayList<>();
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < JobColumnarFormat.ROW_GROUP_SIZE * 2 + 17; i++) {
+            written.add(new JobExportService.Row(1000L + i * 3L, "Engineer " + (i % 7), "Company " + (i % 50),
+                    i % 5 == 0 ? null : "Austin, TX", i % 2 == 0 ? "APPLIED" : "REJECTED", start.plusDays(i % 400)));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JobColumnarFormat.Writer writer = new JobColumnarFormat.Writer(out);
+        for (JobExportService.Row row : written) {
+            writer.write(row);
+        }
+        writer.finish();
+
+        List<JobExportService.Row> read = new ArrayList<>();
+        JobColumnarFormat.read(new ByteArrayInputStream(out.toByteArray()), read::add);
+
+        assertThat(read).isEqualTo(written);
+        assertThat(out.size()).isLessThan(written.size() * 8); // dictionaries and deltas keep rows to a few bytes
+    }
+
+    @Test
+    public void JobColumnarFormat_read_emptyArchive() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new JobColumnarFormat.Writer(out).finish();
+
+        List<JobExportService.Row> read = new ArrayList<>();
+        JobColumnarFormat.read(new ByteArrayInputStream(out.toByteArray()), read::add);
+
+        assertThat(read).isEmpty();
+    }
+
+    @Test
+    public void JobColumnarFormat_read_rejectsOtherFormats() {
+        assertThatThrownBy(() -> JobColumnarFormat.read(new ByteArrayInputStream("id,title\r\n".getBytes()), row -> { }))
+                .isInstanceOf(IOException.class);
+    }
+}
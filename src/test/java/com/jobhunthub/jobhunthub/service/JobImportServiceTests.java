@@ -0,0 +1,75 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobhunthub.jobhunthub.model.Job;
+import com.jobhunthub.jobhunthub.model.User;
+
+import jakarta.persistence.EntityManager;
+
+public class JobImportServiceTests {
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private JobStatsService jobStatsService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private JobImportService jobImportService;
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(entityManager.unwrap(Session.class)).thenReturn(mock(Session.class));
+        jobImportService = new JobImportService(jobService, jobStatsService, entityManager,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new ObjectMapper(),
+                ZoneId.of("America/Chicago"), 100_000);
+        user = User.builder().id(1L).githubId("123").build();
+    }
+
+    @Test
+    public void JobImportService_importCsv_abortedAfterCommittedBatch_stillRebuildsStats() {
+        StringBuilder csv = new StringBuilder("title,company,location\n");
+        for (int i = 0; i < JobImportService.BATCH_SIZE + 10; i++) {
+            csv.append("Engineer ").append(i).append(",Acme,Remote\n");
+        }
+        InputStream aborted = new SequenceInputStream(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)),
+                new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("Connection reset by peer");
+                    }
+                });
+
+        assertThatThrownBy(() -> jobImportService.importCsv(aborted, user))
+                .isInstanceOf(IOException.class);
+
+        verify(entityManager, times(JobImportService.BATCH_SIZE)).persist(any(Job.class));
+        verify(jobStatsService).rebuild(user);
+    }
+}
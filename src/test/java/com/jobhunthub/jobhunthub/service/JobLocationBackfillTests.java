@@ -0,0 +1,55 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jobhunthub.jobhunthub.model.Profile;
+import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.repository.ProfileRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class JobLocationBackfillTests {
+
+    @Autowired
+    private JobLocationBackfill backfill;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void parseMissingLocations_fillsRowsSavedBeforeLocationsWereParsed() {
+        User user = profileRepository.save(Profile.builder().user(User.builder().githubId("location-backfill-gh").build())
+                .username("location-backfill-user").build()).getUser();
+        // Rows as they were before the structured columns existed
+        for (String location : new String[]{"Chicago, IL", "Remote - Austin, TX", "Somewhere #5"}) {
+            jdbcTemplate.update("INSERT INTO jobs (id, user_id, title, company, location, status, created_at) " +
+                    "VALUES (NEXT VALUE FOR jobs_seq, ?, 'Engineer', 'Acme', ?, 'APPLIED', CURRENT_DATE)", user.getId(), location);
+        }
+
+        backfill.parseMissingLocations();
+
+        assertThat(parsed(user, "Chicago, IL")).containsEntry("LOCATION_CITY", "Chicago")
+                .containsEntry("LOCATION_STATE", "IL").containsEntry("REMOTE", false);
+        assertThat(parsed(user, "Remote - Austin, TX")).containsEntry("LOCATION_CITY", "Austin")
+                .containsEntry("LOCATION_STATE", "TX").containsEntry("REMOTE", true);
+        // Unrecognized, but marked as parsed so the next start skips it
+        assertThat(parsed(user, "Somewhere #5")).containsEntry("LOCATION_STATE", null).containsEntry("REMOTE", false);
+    }
+
+    private Map<String, Object> parsed(User user, String location) {
+        return jdbcTemplate.queryForMap("SELECT location_city, location_state, remote FROM jobs WHERE user_id = ? AND location = ?",
+                user.getId(), location);
+    }
+}
@@ -9,6 +9,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.doNothing;
@@ -16,12 +19,19 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 
 
+import com.jobhunthub.jobhunthub.dto.AllTimeJobStatsDTO;
 import com.jobhunthub.jobhunthub.dto.CreateJobRequestDTO;
 
 import com.jobhunthub.jobhunthub.dto.JobDTO;
+import com.jobhunthub.jobhunthub.dto.JobFilterDTO;
+import com.jobhunthub.jobhunthub.dto.JobPageDTO;
+import com.jobhunthub.jobhunthub.dto.JobStatusBatchRequestDTO;
+import com.jobhunthub.jobhunthub.dto.JobStatusBatchResultDTO;
 import com.jobhunthub.jobhunthub.dto.UpdateJobRequestDTO;
+import com.jobhunthub.jobhunthub.dto.WeeklyJobStatsDTO;
 
 import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler;
 import com.jobhunthub.jobhunthub.model.Job;
@@ -33,6 +43,9 @@ public class JobServiceTests {
     @Mock
     private JobRepository jobRepository;
 
+    @Mock
+    private JobStatsService jobStatsService;
+
     @InjectMocks
     private JobService jobService;
 
@@ -80,7 +93,7 @@ public class JobServiceTests {
                 .build();
 
         // Set the zoneId in the JobService
-        jobService = new JobService(jobRepository, ZoneId.systemDefault());
+        jobService = new JobService(jobRepository, jobStatsService, new LocationValidator(), ZoneId.systemDefault());
     }
 
     @Test
@@ -103,6 +116,7 @@ public class JobServiceTests {
         JobDTO createdJobDTO = jobService.createJob(createDto, user);
 
         verify(jobRepository, times(1)).save(any(Job.class));
+        verify(jobStatsService, times(1)).recordJobAdded(user, LocalDate.now(ZoneId.systemDefault()), Job.Status.APPLIED);
         Assertions.assertThat(createdJobDTO).isNotNull();
         Assertions.assertThat(createdJobDTO.getTitle()).isEqualTo(createDto.getTitle());
         Assertions.assertThat(createdJobDTO.getCompany()).isEqualTo(createDto.getCompany());
@@ -113,6 +127,19 @@ public class JobServiceTests {
         Assertions.assertThat(createdJobDTO.getCreatedAt()).isEqualTo(LocalDate.now(ZoneId.systemDefault()));
     }
 
+    @Test
+    public void JobService_createJob_storesNormalizedLocation() {
+        CreateJobRequestDTO createDto = new CreateJobRequestDTO("Engineer", "Acme", "seattle, washington");
+        when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        jobService.createJob(createDto, user);
+
+        verify(jobRepository).save(argThat(job ->
+                "Seattle".equals(job.getLocationCity()) && "WA".equals(job.getLocationState())
+                        && Boolean.FALSE.equals(job.getRemote())
+                        && "seattle, washington".equals(job.getLocation())));
+    }
+
     @Test
     public void JobService_getJobById_returnsJobDTO() {
         when(jobRepository.findById(jobEntity.getId())).thenReturn(Optional.of(jobEntity));
@@ -158,6 +185,7 @@ public class JobServiceTests {
 
         JobDTO updatedJobDTO = jobService.updateJob(jobEntity.getId(), updateDto, user);
 
+        verify(jobStatsService, times(1)).recordStatusChange(user, Job.Status.APPLIED, Job.Status.INTERVIEWED);
         Assertions.assertThat(updatedJobDTO).isNotNull();
         Assertions.assertThat(updatedJobDTO.getTitle()).isEqualTo("Software Engineer II");
         Assertions.assertThat(updatedJobDTO.getStatus()).isEqualTo(Job.Status.INTERVIEWED.name());
@@ -217,6 +245,34 @@ public class JobServiceTests {
         Assertions.assertThat(updatedJobDTO.getStatus()).isEqualTo(Job.Status.INTERVIEWED.name());
     }
 
+    @Test
+    public void JobService_updateStatuses_updatesOwnedJobsAndAdjustsRollup() {
+        List<Object[]> current = List.of(
+                new Object[]{1L, Job.Status.APPLIED},
+                new Object[]{2L, Job.Status.INTERVIEWED},
+                new Object[]{3L, Job.Status.REJECTED});
+        when(jobRepository.findStatusesByUserAndIdIn(eq(user), any())).thenReturn(current);
+
+        JobStatusBatchResultDTO result = jobService.updateStatuses(
+                new JobStatusBatchRequestDTO(List.of(1L, 2L, 3L, 99L, 1L), "rejected"), user);
+
+        Assertions.assertThat(result.status()).isEqualTo("REJECTED");
+        Assertions.assertThat(result.updated()).containsExactly(1L, 2L);
+        Assertions.assertThat(result.unchanged()).containsExactly(3L);
+        Assertions.assertThat(result.notFound()).containsExactly(99L);
+        verify(jobStatsService).lockRollup(user);
+        verify(jobRepository).updateStatusByUserAndIdIn(user, List.of(1L, 2L), Job.Status.REJECTED);
+        verify(jobStatsService).recordStatusChanges(user,
+                Map.of(Job.Status.APPLIED, 1L, Job.Status.INTERVIEWED, 1L), Job.Status.REJECTED);
+    }
+
+    @Test
+    public void JobService_updateStatuses_withoutStatus_throwsException() {
+        assertThrows(GlobalExceptionHandler.InvalidRequestException.class,
+                () -> jobService.updateStatuses(new JobStatusBatchRequestDTO(List.of(1L), " "), user));
+        verify(jobRepository, times(0)).updateStatusByUserAndIdIn(any(), any(), any());
+    }
+
     @Test
     public void JobService_deleteJob_callsRepositoryDelete() {
         when(jobRepository.findById(jobEntity.getId())).thenReturn(Optional.of(jobEntity));
@@ -226,6 +282,7 @@ public class JobServiceTests {
 
         verify(jobRepository, times(1)).findById(jobEntity.getId());
         verify(jobRepository, times(1)).delete(jobEntity);
+        verify(jobStatsService, times(1)).recordJobRemoved(user, jobEntity.getCreatedAt(), jobEntity.getStatus());
     }
 
     @Test
@@ -242,6 +299,37 @@ public class JobServiceTests {
         Assertions.assertThat(resultDTOs.get(0).getTitle()).isEqualTo(jobEntity.getTitle());
     }
 
+    @Test
+    public void JobService_getJobPage_withMoreRows_returnsCursor() {
+        List<JobDTO> rows = List.of(JobDTO.fromEntity(jobEntity), JobDTO.fromEntity(jobEntity2), JobDTO.fromEntity(jobEntity3));
+        when(jobRepository.findPageByUser(eq(user), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq(Limit.of(3))))
+                .thenReturn(rows);
+
+        JobPageDTO page = jobService.getJobPage(user, JobFilterDTO.none(), null, 2);
+
+        Assertions.assertThat(page.jobs()).hasSize(2);
+        Assertions.assertThat(page.nextCursor()).isNotNull();
+    }
+
+    @Test
+    public void JobService_getJobPage_withCursorAndStatus_passesKeysetToRepository() {
+        when(jobRepository.findPageByUser(any(), any(), any(), any(), any(), any(), any(), any())).thenReturn(List.of());
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString("2025-03-21:2".getBytes());
+
+        JobPageDTO page = jobService.getJobPage(user, new JobFilterDTO("interviewed", null, null, null), cursor, null);
+
+        verify(jobRepository).findPageByUser(user, Job.Status.INTERVIEWED, null, null, null,
+                LocalDate.parse("2025-03-21"), 2L, Limit.of(51));
+        Assertions.assertThat(page.jobs()).isEmpty();
+        Assertions.assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    public void JobService_getJobPage_withLimitOutOfRange_throwsException() {
+        assertThrows(GlobalExceptionHandler.InvalidRequestException.class,
+                () -> jobService.getJobPage(user, JobFilterDTO.none(), null, 1000));
+    }
+
     @Test
     public void JobService_getJobCountByUser_returnsCount() {
         // Arrange
@@ -255,32 +343,43 @@ public class JobServiceTests {
     }
 
     @Test
-    public void JobService_getWeeklyJobStats_returnsStatsMap() {
+    public void JobService_getWeeklyJobStats_returnsStatsFromSingleQuery() {
         // Arrange
-        LocalDate startDate = LocalDate.now(ZoneId.systemDefault()).minusDays(7);
         LocalDate endDate = LocalDate.now(ZoneId.systemDefault());
-        when(jobRepository.countByUser(user)).thenReturn(3L);
+        LocalDate startDate = endDate.minusDays(6);
+        List<Object[]> rows = List.of(
+                new Object[]{endDate, Job.Status.APPLIED, 2L},
+                new Object[]{startDate, Job.Status.INTERVIEWED, 1L},
+                new Object[]{null, Job.Status.REJECTED, 4L}
+        );
+        when(jobRepository.getDailyStatusCounts(user, startDate, endDate, endDate)).thenReturn(rows);
 
         // Act
-        Map<String, Object> stats = jobService.getWeeklyJobStats(user, startDate, endDate);
+        WeeklyJobStatsDTO stats = jobService.getWeeklyJobStats(user, startDate, endDate);
 
         // Assert
-        Assertions.assertThat(stats).containsKey("total");
-        Assertions.assertThat(stats.get("total")).isEqualTo(3L);
+        verify(jobRepository, times(1)).getDailyStatusCounts(user, startDate, endDate, endDate);
+        Assertions.assertThat(stats.total()).isEqualTo(7L);
+        Assertions.assertThat(stats.todayCount()).isEqualTo(2L);
+        Assertions.assertThat(stats.applied()).isEqualTo(2L);
+        Assertions.assertThat(stats.interviewed()).isEqualTo(1L);
+        Assertions.assertThat(stats.rejected()).isEqualTo(4L);
+        Assertions.assertThat(stats.chartData()).hasSize(7);
+        Assertions.assertThat(stats.chartData().get(0)).isEqualTo(new WeeklyJobStatsDTO.ChartPoint(startDate.toString(), 1L));
+        Assertions.assertThat(stats.chartData().get(6)).isEqualTo(new WeeklyJobStatsDTO.ChartPoint(endDate.toString(), 2L));
     }
 
     @Test
-    public void JobService_getAllTimeJobStats_returnsStatsMap() {
+    public void JobService_getAllTimeJobStats_returnsRollupStats() {
         // Arrange
-        when(jobRepository.countByUser(user)).thenReturn(10L);
-        when(jobRepository.countDistinctDates(user)).thenReturn(5L);
-        when(jobRepository.findBestDayCount(user)).thenReturn(3);
+        AllTimeJobStatsDTO rollup = new AllTimeJobStatsDTO(10L, "2.0", 3L, 6L, 3L, 1L);
+        when(jobStatsService.getAllTimeStats(user)).thenReturn(rollup);
 
         // Act
-        Map<String, Object> stats = jobService.getAllTimeJobStats(user);
+        AllTimeJobStatsDTO stats = jobService.getAllTimeJobStats(user);
 
         // Assert
-        Assertions.assertThat(stats).containsKey("total");
-        Assertions.assertThat(stats.get("total")).isEqualTo(10L);
+        Assertions.assertThat(stats.total()).isEqualTo(10L);
+        Assertions.assertThat(stats.bestDay()).isEqualTo(3L);
     }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.jobhunthub.jobhunthub.dto.UpdateJobRequestDTO;
+import com.jobhunthub.jobhunthub.model.Job;
+import com.jobhunthub.jobhunthub.model.Profile;
+import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.model.UserJobStats;
+import com.jobhunthub.jobhunthub.repository.JobRepository;
+import com.jobhunthub.jobhunthub.repository.ProfileRepository;
+import com.jobhunthub.jobhunthub.repository.UserJobStatsRepository;
+
+/**
+ * Runs job writes for one user from two threads at once, each in its own
+ * transaction, and checks the stats rollup still matches the jobs table.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class JobStatsConcurrencyTests {
+
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private UserJobStatsRepository statsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Job job;
+
+    @BeforeEach
+    public void setUp() {
+        user = profileRepository.save(Profile.builder().user(User.builder().githubId("stats-concurrency-gh").build())
+                .username("stats-concurrency-user").build()).getUser();
+        job = jobRepository.save(Job.builder().title("Engineer").company("Acme").location("Remote")
+                .status(Job.Status.APPLIED).createdAt(LocalDate.now()).user(user).build());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM user_job_daily_counts WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM user_job_stats WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM jobs WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM profiles WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId());
+    }
+
+    @Test
+    public void JobService_updateJob_concurrentStatusChangesOfOneJob_keepRollupInStep() throws Exception {
+        try (ExecutorService pool = Executors.newFixedThreadPool(2)) {
+            for (int round = 0; round < ROUNDS; round++) {
+                update(null, "APPLIED");
+                CyclicBarrier start = new CyclicBarrier(2);
+
+                CompletableFuture<?> interviewed = CompletableFuture.runAsync(() -> update(start, "INTERVIEWED"), pool);
+                CompletableFuture<?> rejected = CompletableFuture.runAsync(() -> update(start, "REJECTED"), pool);
+                CompletableFuture.allOf(interviewed, rejected).get();
+
+                UserJobStats stats = statsRepository.findById(user.getId()).orElseThrow();
+                String status = jdbcTemplate.queryForObject("SELECT status FROM jobs WHERE id = ?", String.class, job.getId());
+                assertThat(stats.getApplied()).as("round %d", round).isZero();
+                assertThat(stats.getInterviewed()).as("round %d", round).isEqualTo(status.equals("INTERVIEWED") ? 1 : 0);
+                assertThat(stats.getRejected()).as("round %d", round).isEqualTo(status.equals("REJECTED") ? 1 : 0);
+            }
+        }
+    }
+
+    private void update(CyclicBarrier start, String status) {
+        try {
+            if (start != null) {
+                start.await();
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        jobService.updateJob(job.getId(), new UpdateJobRequestDTO("Engineer", "Acme", "Remote", status), user);
+    }
+}
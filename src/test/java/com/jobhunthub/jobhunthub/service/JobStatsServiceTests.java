@@ -0,0 +1,198 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.MockitoAnnotations;
+
+import com.jobhunthub.jobhunthub.dto.AllTimeJobStatsDTO;
+import com.jobhunthub.jobhunthub.model.Job;
+import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.model.UserJobDailyCount;
+import com.jobhunthub.jobhunthub.model.UserJobStats;
+import com.jobhunthub.jobhunthub.repository.JobRepository;
+import com.jobhunthub.jobhunthub.repository.UserJobDailyCountRepository;
+import com.jobhunthub.jobhunthub.repository.UserJobStatsRepository;
+
+public class JobStatsServiceTests {
+
+    @Mock
+    private UserJobStatsRepository statsRepository;
+
+    @Mock
+    private UserJobDailyCountRepository dailyCountRepository;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    private JobStatsService jobStatsService;
+
+    private User user;
+    private UserJobStats stats;
+    private final LocalDate today = LocalDate.parse("2025-03-21");
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        jobStatsService = new JobStatsService(statsRepository, dailyCountRepository, jobRepository);
+
+        user = User.builder().id(1L).githubId("123").build();
+        stats = UserJobStats.builder()
+                .userId(1L)
+                .total(4)
+                .distinctDays(2)
+                .bestDayCount(3)
+                .applied(3)
+                .interviewed(1)
+                .build();
+
+        when(statsRepository.save(any(UserJobStats.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    public void JobStatsService_getAllTimeStats_usesRollupRow() {
+        when(statsRepository.findById(1L)).thenReturn(Optional.of(stats));
+
+        AllTimeJobStatsDTO result = jobStatsService.getAllTimeStats(user);
+
+        Assertions.assertThat(result.total()).isEqualTo(4L);
+        Assertions.assertThat(result.average()).isEqualTo(String.format("%.1f", 2.0));
+        Assertions.assertThat(result.bestDay()).isEqualTo(3L);
+        Assertions.assertThat(result.applied()).isEqualTo(3L);
+        verify(jobRepository, never()).getCountsByDateAndStatus(any());
+    }
+
+    @Test
+    public void JobStatsService_getAllTimeStats_withoutRollupRow_countsJobsWithoutWriting() {
+        when(statsRepository.findById(1L)).thenReturn(Optional.empty());
+        when(jobRepository.getCountsByDateAndStatus(user)).thenReturn(List.of(
+                new Object[]{today, Job.Status.APPLIED, 2L},
+                new Object[]{today.minusDays(1), Job.Status.REJECTED, 1L}
+        ));
+
+        AllTimeJobStatsDTO result = jobStatsService.getAllTimeStats(user);
+
+        Assertions.assertThat(result.total()).isEqualTo(3L);
+        Assertions.assertThat(result.bestDay()).isEqualTo(2L);
+        Assertions.assertThat(result.rejected()).isEqualTo(1L);
+        verify(statsRepository, never()).insertIfAbsent(any());
+        verify(statsRepository, never()).save(any(UserJobStats.class));
+        verify(dailyCountRepository, never()).deleteByUserId(any());
+    }
+
+    @Test
+    public void JobStatsService_recordJobAdded_onNewDay_incrementsTotalsAndDistinctDays() {
+        when(statsRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(stats));
+        when(dailyCountRepository.findByUserIdAndJobDate(1L, today)).thenReturn(Optional.empty());
+
+        jobStatsService.recordJobAdded(user, today, Job.Status.APPLIED);
+
+        Assertions.assertThat(stats.getTotal()).isEqualTo(5L);
+        Assertions.assertThat(stats.getApplied()).isEqualTo(4L);
+        Assertions.assertThat(stats.getDistinctDays()).isEqualTo(3L);
+        Assertions.assertThat(stats.getBestDayCount()).isEqualTo(3L);
+        verify(dailyCountRepository, times(1)).save(any(UserJobDailyCount.class));
+    }
+
+    @Test
+    public void JobStatsService_recordJobAdded_onBestDay_raisesBestDayCount() {
+        when(statsRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(stats));
+        when(dailyCountRepository.findByUserIdAndJobDate(1L, today))
+                .thenReturn(Optional.of(new UserJobDailyCount(1L, today, 3)));
+
+        jobStatsService.recordJobAdded(user, today, Job.Status.APPLIED);
+
+        Assertions.assertThat(stats.getDistinctDays()).isEqualTo(2L);
+        Assertions.assertThat(stats.getBestDayCount()).isEqualTo(4L);
+    }
+
+    @Test
+    public void JobStatsService_recordJobRemoved_fromBestDay_recomputesBestDay() {
+        UserJobDailyCount bestDay = new UserJobDailyCount(1L, today, 3);
+        when(statsRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(stats));
+        when(dailyCountRepository.findByUserIdAndJobDate(1L, today)).thenReturn(Optional.of(bestDay));
+        when(dailyCountRepository.findMaxJobCount(1L)).thenReturn(2L);
+
+        jobStatsService.recordJobRemoved(user, today, Job.Status.APPLIED);
+
+        Assertions.assertThat(bestDay.getJobCount()).isEqualTo(2L);
+        Assertions.assertThat(stats.getTotal()).isEqualTo(3L);
+        Assertions.assertThat(stats.getApplied()).isEqualTo(2L);
+        Assertions.assertThat(stats.getBestDayCount()).isEqualTo(2L);
+    }
+
+    @Test
+    public void JobStatsService_recordJobRemoved_lastJobOfDay_deletesHistogramRow() {
+        UserJobDailyCount single = new UserJobDailyCount(1L, today, 1);
+        when(statsRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(stats));
+        when(dailyCountRepository.findByUserIdAndJobDate(1L, today)).thenReturn(Optional.of(single));
+
+        jobStatsService.recordJobRemoved(user, today, Job.Status.INTERVIEWED);
+
+        verify(dailyCountRepository, times(1)).delete(single);
+        Assertions.assertThat(stats.getDistinctDays()).isEqualTo(1L);
+        Assertions.assertThat(stats.getInterviewed()).isEqualTo(0L);
+    }
+
+    @Test
+    public void JobStatsService_recordStatusChange_movesCounter() {
+        when(statsRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(stats));
+
+        jobStatsService.recordStatusChange(user, Job.Status.APPLIED, Job.Status.REJECTED);
+
+        Assertions.assertThat(stats.getApplied()).isEqualTo(2L);
+        Assertions.assertThat(stats.getRejected()).isEqualTo(1L);
+        Assertions.assertThat(stats.getTotal()).isEqualTo(4L);
+    }
+
+    @Test
+    public void JobStatsService_rebuild_recomputesFromJobs() {
+        when(statsRepository.insertIfAbsent(1L)).thenReturn(true);
+        when(statsRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(UserJobStats.builder().userId(1L).build()));
+        when(jobRepository.getCountsByDateAndStatus(user)).thenReturn(List.of(
+                new Object[]{today, Job.Status.APPLIED, 2L},
+                new Object[]{today, Job.Status.REJECTED, 1L},
+                new Object[]{today.minusDays(1), Job.Status.INTERVIEWED, 1L}
+        ));
+
+        UserJobStats rebuilt = jobStatsService.rebuild(user);
+
+        verify(dailyCountRepository, times(1)).deleteByUserId(1L);
+        Assertions.assertThat(rebuilt.getTotal()).isEqualTo(4L);
+        Assertions.assertThat(rebuilt.getDistinctDays()).isEqualTo(2L);
+        Assertions.assertThat(rebuilt.getBestDayCount()).isEqualTo(3L);
+        Assertions.assertThat(rebuilt.getApplied()).isEqualTo(2L);
+        Assertions.assertThat(rebuilt.getInterviewed()).isEqualTo(1L);
+        Assertions.assertThat(rebuilt.getRejected()).isEqualTo(1L);
+    }
+
+    @Test
+    public void JobStatsService_recordJobAdded_withoutRollupRow_createsRowBeforeLockingIt() {
+        when(statsRepository.findByIdForUpdate(1L))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(UserJobStats.builder().userId(1L).build()));
+        when(jobRepository.getCountsByDateAndStatus(user)).thenReturn(List.<Object[]>of(
+                new Object[]{today, Job.Status.APPLIED, 1L}
+        ));
+
+        jobStatsService.recordJobAdded(user, today, Job.Status.APPLIED);
+
+        InOrder order = inOrder(statsRepository);
+        order.verify(statsRepository).findByIdForUpdate(1L);
+        order.verify(statsRepository).insertIfAbsent(1L);
+        order.verify(statsRepository).findByIdForUpdate(1L);
+        order.verify(statsRepository).save(any(UserJobStats.class));
+    }
+}
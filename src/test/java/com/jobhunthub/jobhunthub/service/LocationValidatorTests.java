@@ -0,0 +1,75 @@
+package com.jobhunthub.jobhunthub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+import com.jobhunthub.jobhunthub.service.LocationValidator.Location;
+
+public class LocationValidatorTests {
+
+    private final LocationValidator validator = new LocationValidator();
+
+    @Test
+    public void LocationValidator_normalize_parsesCityAndStateCode() {
+        assertThat(validator.normalize("San Francisco, CA")).isEqualTo(new Location("San Francisco", "CA", false));
+        assertThat(validator.normalize("  austin ,  tx 78701 ")).isEqualTo(new Location("Austin", "TX", false));
+    }
+
+    @Test
+    public void LocationValidator_normalize_resolvesStateNames() {
+        assertThat(validator.normalize("Portland, Maine")).isEqualTo(new Location("Portland", "ME", false));
+        assertThat(validator.normalize("Washington, D.C.")).isEqualTo(new Location("Washington", "DC", false));
+    }
+
+    @Test
+    public void LocationValidator_normalize_resolvesCityAliases() {
+        assertThat(validator.normalize("NYC")).isEqualTo(new Location("New York", "NY", false));
+        assertThat(validator.normalize("Philly")).isEqualTo(new Location("Philadelphia", "PA", false));
+        assertThat(validator.normalize("chicago")).isEqualTo(new Location("Chicago", "IL", false));
+    }
+
+    @Test
+    public void LocationValidator_normalize_readsAmbiguousNamesAsStates() {
+        assertThat(validator.normalize("Baton Rouge, LA")).isEqualTo(new Location("Baton Rouge", "LA", false));
+        assertThat(validator.normalize("Seattle, Washington")).isEqualTo(new Location("Seattle", "WA", false));
+        assertThat(validator.normalize("LA")).isEqualTo(new Location(null, "LA", false));
+        assertThat(validator.normalize("Washington")).isEqualTo(new Location(null, "WA", false));
+        assertThat(validator.normalize("Remote - Washington")).isEqualTo(new Location(null, "WA", true));
+        assertThat(validator.normalize("Washington DC")).isEqualTo(new Location("Washington", "DC", false));
+        assertThat(validator.normalize("Texas").recognized()).isTrue();
+    }
+
+    @Test
+    public void LocationValidator_normalize_detectsRemote() {
+        assertThat(validator.normalize("Remote").remote()).isTrue();
+        assertThat(validator.normalize("remote - US only").remote()).isTrue();
+        assertThat(validator.normalize("Work from home").remote()).isTrue();
+        assertThat(validator.normalize("Remote").recognized()).isTrue();
+    }
+
+    @Test
+    public void LocationValidator_normalize_keepsPlaceAfterRemotePrefix() {
+        assertThat(validator.normalize("Remote - Chicago, IL")).isEqualTo(new Location("Chicago", "IL", true));
+        assertThat(validator.normalize("Remote (NYC)")).isEqualTo(new Location("New York", "NY", true));
+        assertThat(validator.normalize("remote in austin, tx")).isEqualTo(new Location("Austin", "TX", true));
+        assertThat(validator.normalize("remote - US only")).isEqualTo(new Location(null, null, true));
+    }
+
+    @Test
+    public void LocationValidator_normalize_keepsUnknownCitiesWithoutState() {
+        Location location = validator.normalize("toronto, ontario");
+
+        assertThat(location.city()).isEqualTo("Toronto");
+        assertThat(location.state()).isNull();
+        assertThat(location.recognized()).isTrue();
+    }
+
+    @Test
+    public void LocationValidator_normalize_rejectsUnparseableInput() {
+        assertThat(validator.normalize("Zürich, Switzerland 8001").recognized()).isFalse();
+        assertThat(validator.normalize("123 Main St #4").recognized()).isFalse();
+        assertThat(validator.normalize("   ")).isEqualTo(Location.UNRECOGNIZED);
+        assertThat(validator.normalize("a".repeat(101) + ", IL")).isEqualTo(Location.UNRECOGNIZED);
+        assertThat(validator.normalize(null)).isEqualTo(Location.UNRECOGNIZED);
+    }
+}
@@ -0,0 +1,87 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.ServiceUnavailableException;
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.TooManyRequestsException;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class OpenAIResilienceTests {
+
+    private AtomicInteger attempts;
+
+    @BeforeEach
+    public void setUp() {
+        attempts = new AtomicInteger();
+    }
+
+    // 2 calls per user per minute, circuit opens at 50% failures over the window, 1ms backoff between attempts
+    private OpenAIResilience resilience(int slidingWindowSize, int maxAttempts) {
+        return new OpenAIResilience(new SimpleMeterRegistry(), 4, 100, 2, 50, slidingWindowSize,
+                Duration.ofMinutes(1), 1, maxAttempts, Duration.ofMillis(1));
+    }
+
+    @Test
+    public void OpenAIResilience_execute_retriesServerErrorsThenSucceeds() {
+        OpenAIResilience resilience = resilience(20, 3);
+        String result = resilience.execute(1L, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "unavailable", null, null, null);
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void OpenAIResilience_execute_doesNotRetryClientErrors() {
+        OpenAIResilience resilience = resilience(20, 3);
+        assertThatThrownBy(() -> resilience.execute(1L, () -> {
+            attempts.incrementAndGet();
+            throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "bad", null, null, null);
+        })).isInstanceOf(HttpClientErrorException.class);
+
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void OpenAIResilience_execute_rateLimitsPerUser() {
+        OpenAIResilience resilience = resilience(20, 3);
+        resilience.execute(1L, () -> "one");
+        resilience.execute(1L, () -> "two");
+
+        assertThatThrownBy(() -> resilience.execute(1L, () -> "three"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(resilience.execute(2L, () -> "other user")).isEqualTo("other user");
+    }
+
+    @Test
+    public void OpenAIResilience_execute_failsFastWhenCircuitOpen() {
+        OpenAIResilience resilience = resilience(4, 1);
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> resilience.execute(null, () -> {
+                throw HttpServerErrorException.create(HttpStatus.BAD_GATEWAY, "down", null, null, null);
+            })).isInstanceOf(HttpServerErrorException.class);
+        }
+        assertThat(resilience.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> resilience.execute(null, () -> {
+            attempts.incrementAndGet();
+            return "never";
+        })).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(attempts.get()).isZero();
+    }
+}
@@ -1,24 +1,38 @@
 package com.jobhunthub.jobhunthub.service;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClient.RequestHeadersSpec.ConvertibleClientHttpResponse;
+import org.springframework.web.client.RestClient.RequestHeadersSpec.ExchangeFunction;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 public class OpenAIServiceTests {
 
     @Mock
@@ -36,12 +50,17 @@ public class OpenAIServiceTests {
     @Mock
     private RestClient.ResponseSpec responseSpec;
 
-    @InjectMocks
     private OpenAIService openAIService;
 
+    private SimpleMeterRegistry meterRegistry;
+
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        OpenAIResilience resilience = new OpenAIResilience(new SimpleMeterRegistry(), 32, 20, 10, 50, 20,
+                Duration.ofSeconds(30), 3, 3, Duration.ofMillis(1));
+        meterRegistry = new SimpleMeterRegistry();
+        openAIService = new OpenAIService(restClient, objectMapper, resilience, meterRegistry);
         ReflectionTestUtils.setField(openAIService, "apiKey", "test-api-key");
         ReflectionTestUtils.setField(openAIService, "apiUrl", "https://api.openai.com/v1/chat/completions");
 
@@ -80,6 +99,25 @@ public class OpenAIServiceTests {
         assertThat(result).contains("\"feedback\": \"Great answer!\"");
     }
 
+    @Test
+    public void OpenAIService_getResponse_recordsLatencyAndTokenUsage() throws Exception {
+        String mockApiResponse = """
+                {
+                    "choices": [{"message": {"content": "{\\"rating\\": 8, \\"feedback\\": \\"Good\\"}"}}],
+                    "usage": {"prompt_tokens": 120, "completion_tokens": 30, "total_tokens": 150}
+                }
+                """;
+        when(responseSpec.toEntity(String.class)).thenReturn(ResponseEntity.ok(mockApiResponse));
+        when(objectMapper.readTree(anyString())).thenAnswer(invocation -> new ObjectMapper().readTree((String) invocation.getArgument(0)));
+
+        openAIService.getResponse("What is 2+2?", "You are a math tutor");
+
+        assertThat(meterRegistry.get("openai.requests").tag("mode", "blocking").tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("openai.tokens").tag("kind", "prompt").counter().count()).isEqualTo(120.0);
+        assertThat(meterRegistry.get("openai.tokens").tag("kind", "completion").counter().count()).isEqualTo(30.0);
+    }
+
     @Test
     public void OpenAIService_getResponse_handlesError() {
         String userInput = "What is 2+2?";
@@ -124,6 +162,35 @@ public class OpenAIServiceTests {
         assertThat(result).contains("This is not JSON");
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void OpenAIService_streamResponse_forwardsDeltasAndReturnsContent() throws Exception {
+        String stream = """
+                data: {"choices":[{"delta":{"role":"assistant"}}]}
+
+                data: {"choices":[{"delta":{"content":"{\\"rating\\": 9, "}}]}
+
+                data: {"choices":[{"delta":{"content":"\\"feedback\\": \\"Nice\\"}"}}]}
+
+                data: [DONE]
+
+                """;
+        ConvertibleClientHttpResponse response = mock(ConvertibleClientHttpResponse.class);
+        when(response.getStatusCode()).thenReturn(HttpStatus.OK);
+        when(response.getBody()).thenReturn(new ByteArrayInputStream(stream.getBytes(StandardCharsets.UTF_8)));
+        when(requestBodySpec.accept(any(MediaType.class))).thenReturn(requestBodySpec);
+        when(requestBodySpec.exchange(any(ExchangeFunction.class))).thenAnswer(invocation ->
+                ((ExchangeFunction<String>) invocation.getArgument(0)).exchange(null, response));
+        when(objectMapper.readTree(anyString())).thenAnswer(invocation -> new ObjectMapper().readTree((String) invocation.getArgument(0)));
+
+        List<String> deltas = new ArrayList<>();
+        String result = openAIService.streamResponse(1L, "What is 2+2?", "You are a math tutor", deltas::add);
+
+        assertThat(deltas).containsExactly("{\"rating\": 9, ", "\"feedback\": \"Nice\"}");
+        assertThat(result).isEqualTo("{\"rating\": 9, \"feedback\": \"Nice\"}");
+        verify(requestBodySpec).body(argThat((Map<String, Object> body) -> Boolean.TRUE.equals(body.get("stream"))));
+    }
+
     @Test
     public void OpenAIService_getResponse_usesCorrectHeaders() throws Exception {
         String userInput = "Test input";
@@ -12,10 +12,12 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import com.jobhunthub.jobhunthub.dto.OAuth2UserAttributes;
 import com.jobhunthub.jobhunthub.dto.ProfileDTO;
 import com.jobhunthub.jobhunthub.dto.UpdateProfileRequestDTO;
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler;
 import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.InvalidRequestException;
 import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.ResourceNotFoundException;
 import com.jobhunthub.jobhunthub.model.Profile;
@@ -27,6 +29,9 @@ public class ProfileServiceTests {
     @Mock
     private ProfileRepository profileRepository;
 
+    @Mock
+    private UsernameAvailabilityService usernameAvailability;
+
     @InjectMocks
     private ProfileService profileService;
 
@@ -69,25 +74,26 @@ public class ProfileServiceTests {
         });
 
         // Act
-        profileService.provisionProfile(user, githubAttrs);
+        Profile result = profileService.provisionProfile(user, githubAttrs, "github");
 
         // Assert
+        Assertions.assertThat(result.getId()).isEqualTo(1L);
+        Assertions.assertThat(result.getGithubEmail()).isEqualTo(githubAttrs.email());
+        Assertions.assertThat(result.getGoogleEmail()).isNull();
         verify(profileRepository).save(any(Profile.class));
     }
 
     @Test
     public void provisionProfile_createsNewProfile_withGoogleAttributes() {
         // Arrange
-        when(profileRepository.save(any(Profile.class))).thenAnswer(invocation -> {
-            Profile savedProfile = invocation.getArgument(0);
-            savedProfile.setId(1L);
-            return savedProfile;
-        });
+        when(profileRepository.save(any(Profile.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
-        profileService.provisionProfile(user, googleAttrs);
+        Profile result = profileService.provisionProfile(user, googleAttrs, "google");
 
         // Assert
+        Assertions.assertThat(result.getGoogleEmail()).isEqualTo(googleAttrs.email());
+        Assertions.assertThat(result.getGithubEmail()).isNull();
         verify(profileRepository).save(any(Profile.class));
     }
 
@@ -106,62 +112,49 @@ public class ProfileServiceTests {
         });
 
         // Act
-        profileService.provisionProfile(user, githubAttrs);
+        profileService.provisionProfile(user, githubAttrs, "github");
 
         // Assert
         verify(profileRepository).save(any(Profile.class));
     }
 
+    @Test
+    public void provisionProfile_throwsException_whenUnsupportedProvider() {
+        // Act & Assert
+        Assertions.assertThatThrownBy(() ->
+            profileService.provisionProfile(user, githubAttrs, "facebook")
+        ).isInstanceOf(IllegalArgumentException.class)
+         .hasMessageContaining("Unsupported provider: facebook");
+        verify(profileRepository, never()).save(any());
+    }
+
     // === LINK PROVIDER EMAIL TESTS ===
 
     @Test
     public void linkProviderEmail_updatesGithubEmail_whenGithubProvider() {
-        // Arrange
-        when(profileRepository.findByUser(user)).thenReturn(Optional.of(profile));
-        when(profileRepository.save(any(Profile.class))).thenReturn(profile);
-
         // Act
-        profileService.linkProviderEmail(user, githubAttrs, "github");
+        profileService.linkProviderEmail(profile, "new-github@example.com", "github");
 
         // Assert
-        Assertions.assertThat(profile.getGithubEmail()).isEqualTo(githubAttrs.email());
-        verify(profileRepository).save(profile);
+        Assertions.assertThat(profile.getGithubEmail()).isEqualTo("new-github@example.com");
+        verify(profileRepository, never()).save(any()); // written by dirty checking at commit
     }
 
     @Test
     public void linkProviderEmail_updatesGoogleEmail_whenGoogleProvider() {
-        // Arrange
-        when(profileRepository.findByUser(user)).thenReturn(Optional.of(profile));
-        when(profileRepository.save(any(Profile.class))).thenReturn(profile);
-
         // Act
-        profileService.linkProviderEmail(user, googleAttrs, "google");
+        profileService.linkProviderEmail(profile, "new-google@example.com", "google");
 
         // Assert
-        Assertions.assertThat(profile.getGoogleEmail()).isEqualTo(googleAttrs.email());
-        verify(profileRepository).save(profile);
-    }
-
-    @Test
-    public void linkProviderEmail_throwsException_whenProfileNotFound() {
-        // Arrange
-        when(profileRepository.findByUser(user)).thenReturn(Optional.empty());
-
-        // Act & Assert
-        Assertions.assertThatThrownBy(() -> 
-            profileService.linkProviderEmail(user, githubAttrs, "github")
-        ).isInstanceOf(IllegalStateException.class)
-         .hasMessageContaining("Profile must already exist before linking a new provider");
+        Assertions.assertThat(profile.getGoogleEmail()).isEqualTo("new-google@example.com");
+        verify(profileRepository, never()).save(any());
     }
 
     @Test
     public void linkProviderEmail_throwsException_whenUnsupportedProvider() {
-        // Arrange
-        when(profileRepository.findByUser(user)).thenReturn(Optional.of(profile));
-
         // Act & Assert
         Assertions.assertThatThrownBy(() -> 
-            profileService.linkProviderEmail(user, githubAttrs, "facebook")
+            profileService.linkProviderEmail(profile, githubAttrs.email(), "facebook")
         ).isInstanceOf(IllegalArgumentException.class)
          .hasMessageContaining("Unsupported provider: facebook");
     }
@@ -197,31 +190,31 @@ public class ProfileServiceTests {
          .hasMessageContaining("Profile not found with user: '1'");
     }
 
-    // === PROFILE EXISTS TESTS ===
+    // === FIND PROFILE TESTS ===
 
     @Test
-    public void profileExists_returnsTrue_whenProfileExists() {
+    public void findProfile_returnsProfile_whenProfileExists() {
         // Arrange
         when(profileRepository.findByUser(user)).thenReturn(Optional.of(profile));
 
         // Act
-        boolean result = profileService.profileExists(user);
+        Optional<Profile> result = profileService.findProfile(user);
 
         // Assert
-        Assertions.assertThat(result).isTrue();
+        Assertions.assertThat(result).contains(profile);
         verify(profileRepository).findByUser(user);
     }
 
     @Test
-    public void profileExists_returnsFalse_whenProfileDoesNotExist() {
+    public void findProfile_returnsEmpty_whenProfileDoesNotExist() {
         // Arrange
         when(profileRepository.findByUser(user)).thenReturn(Optional.empty());
 
         // Act
-        boolean result = profileService.profileExists(user);
+        Optional<Profile> result = profileService.findProfile(user);
 
         // Assert
-        Assertions.assertThat(result).isFalse();
+        Assertions.assertThat(result).isEmpty();
         verify(profileRepository).findByUser(user);
     }
 
@@ -234,8 +227,8 @@ public class ProfileServiceTests {
         updateRequest.setUsername("newusername");
 
         when(profileRepository.findByUser(user)).thenReturn(Optional.of(profile));
-        when(profileRepository.existsByUsername("newusername")).thenReturn(false);
-        when(profileRepository.save(any(Profile.class))).thenReturn(profile);
+        when(usernameAvailability.isAvailable("newusername", user)).thenReturn(true);
+        when(profileRepository.saveAndFlush(any(Profile.class))).thenReturn(profile);
 
         // Act
         ProfileDTO result = profileService.updateProfile(user, updateRequest);
@@ -243,7 +236,7 @@ public class ProfileServiceTests {
         // Assert
         Assertions.assertThat(profile.getUsername()).isEqualTo("newusername");
         Assertions.assertThat(result.username()).isEqualTo("newusername");
-        verify(profileRepository).save(profile);
+        verify(profileRepository).saveAndFlush(profile);
     }
 
     @Test
@@ -254,7 +247,7 @@ public class ProfileServiceTests {
 
         when(profileRepository.findByUser(user)).thenReturn(Optional.of(profile));
         when(profileRepository.existsByPrimaryEmail("newemail@example.com")).thenReturn(false);
-        when(profileRepository.save(any(Profile.class))).thenReturn(profile);
+        when(profileRepository.saveAndFlush(any(Profile.class))).thenReturn(profile);
 
         // Act
         ProfileDTO result = profileService.updateProfile(user, updateRequest);
@@ -262,7 +255,7 @@ public class ProfileServiceTests {
         // Assert
         Assertions.assertThat(profile.getPrimaryEmail()).isEqualTo("newemail@example.com");
         Assertions.assertThat(result.primaryEmail()).isEqualTo("newemail@example.com");
-        verify(profileRepository).save(profile);
+        verify(profileRepository).saveAndFlush(profile);
     }
 
     @Test
@@ -272,7 +265,7 @@ public class ProfileServiceTests {
         updateRequest.setAvatarUrl("https://newavatar.com/image.png");
 
         when(profileRepository.findByUser(user)).thenReturn(Optional.of(profile));
-        when(profileRepository.save(any(Profile.class))).thenReturn(profile);
+        when(profileRepository.saveAndFlush(any(Profile.class))).thenReturn(profile);
 
         // Act
         ProfileDTO result = profileService.updateProfile(user, updateRequest);
@@ -280,7 +273,7 @@ public class ProfileServiceTests {
         // Assert
         Assertions.assertThat(profile.getAvatarUrl()).isEqualTo("https://newavatar.com/image.png");
         Assertions.assertThat(result.avatarUrl()).isEqualTo("https://newavatar.com/image.png");
-        verify(profileRepository).save(profile);
+        verify(profileRepository).saveAndFlush(profile);
     }
 
     @Test
@@ -292,9 +285,9 @@ public class ProfileServiceTests {
         updateRequest.setAvatarUrl("https://newavatar.com/image.png");
 
         when(profileRepository.findByUser(user)).thenReturn(Optional.of(profile));
-        when(profileRepository.existsByUsername("newusername")).thenReturn(false);
+        when(usernameAvailability.isAvailable("newusername", user)).thenReturn(true);
         when(profileRepository.existsByPrimaryEmail("newemail@example.com")).thenReturn(false);
-        when(profileRepository.save(any(Profile.class))).thenReturn(profile);
+        when(profileRepository.saveAndFlush(any(Profile.class))).thenReturn(profile);
 
         // Act
         ProfileDTO result = profileService.updateProfile(user, updateRequest);
@@ -303,7 +296,7 @@ public class ProfileServiceTests {
         Assertions.assertThat(result.username()).isEqualTo("newusername");
         Assertions.assertThat(result.primaryEmail()).isEqualTo("newemail@example.com");
         Assertions.assertThat(result.avatarUrl()).isEqualTo("https://newavatar.com/image.png");
-        verify(profileRepository).save(profile);
+        verify(profileRepository).saveAndFlush(profile);
     }
 
     @Test
@@ -313,13 +306,13 @@ public class ProfileServiceTests {
         updateRequest.setUsername("testuser"); // Same as current username
 
         when(profileRepository.findByUser(user)).thenReturn(Optional.of(profile));
-        when(profileRepository.save(any(Profile.class))).thenReturn(profile);
+        when(profileRepository.saveAndFlush(any(Profile.class))).thenReturn(profile);
 
         // Act
         ProfileDTO result = profileService.updateProfile(user, updateRequest);
 
         // Assert
-        verify(profileRepository, never()).existsByUsername(any());
+        verify(usernameAvailability, never()).isAvailable(any(), any());
         Assertions.assertThat(result.username()).isEqualTo("testuser");
     }
 
@@ -330,7 +323,7 @@ public class ProfileServiceTests {
         updateRequest.setPrimaryEmail("test@example.com"); // Same as current email
 
         when(profileRepository.findByUser(user)).thenReturn(Optional.of(profile));
-        when(profileRepository.save(any(Profile.class))).thenReturn(profile);
+        when(profileRepository.saveAndFlush(any(Profile.class))).thenReturn(profile);
 
         // Act
         ProfileDTO result = profileService.updateProfile(user, updateRequest);
@@ -347,7 +340,7 @@ public class ProfileServiceTests {
         updateRequest.setUsername("existinguser");
 
         when(profileRepository.findByUser(user)).thenReturn(Optional.of(profile));
-        when(profileRepository.existsByUsername("existinguser")).thenReturn(true);
+        when(usernameAvailability.isAvailable("existinguser", user)).thenReturn(false);
 
         // Act & Assert
         Assertions.assertThatThrownBy(() -> 
@@ -356,6 +349,42 @@ public class ProfileServiceTests {
          .hasMessageContaining("Username already exists");
     }
 
+    @Test
+    public void updateProfile_throwsException_whenUsernameTakenConcurrently() {
+        // Arrange
+        UpdateProfileRequestDTO updateRequest = new UpdateProfileRequestDTO();
+        updateRequest.setUsername("racedname");
+
+        when(profileRepository.findByUser(user)).thenReturn(Optional.of(profile));
+        when(usernameAvailability.isAvailable("racedname", user)).thenReturn(true);
+        when(profileRepository.saveAndFlush(profile))
+                .thenThrow(new DataIntegrityViolationException("uk_profiles_username"));
+
+        // Act & Assert
+        Assertions.assertThatThrownBy(() ->
+            profileService.updateProfile(user, updateRequest)
+        ).isInstanceOf(GlobalExceptionHandler.DataIntegrityViolationException.class)
+         .hasMessageContaining("Username already exists");
+        verify(usernameAvailability, never()).record(any());
+    }
+
+    @Test
+    public void updateProfile_recordsNewUsername_afterSaving() {
+        // Arrange
+        UpdateProfileRequestDTO updateRequest = new UpdateProfileRequestDTO();
+        updateRequest.setUsername("recordedname");
+
+        when(profileRepository.findByUser(user)).thenReturn(Optional.of(profile));
+        when(usernameAvailability.isAvailable("recordedname", user)).thenReturn(true);
+        when(profileRepository.saveAndFlush(profile)).thenReturn(profile);
+
+        // Act
+        profileService.updateProfile(user, updateRequest);
+
+        // Assert
+        verify(usernameAvailability).record("recordedname");
+    }
+
     @Test
     public void updateProfile_throwsException_whenEmailAlreadyExists() {
         // Arrange
@@ -396,7 +425,7 @@ public class ProfileServiceTests {
         updateRequest.setUsername("   "); // Empty/whitespace username
 
         when(profileRepository.findByUser(user)).thenReturn(Optional.of(profile));
-        when(profileRepository.existsByUsername("   ")).thenReturn(false);
+        when(usernameAvailability.isAvailable("   ", user)).thenReturn(true);
 
         // Act & Assert
         Assertions.assertThatThrownBy(() -> 
@@ -428,7 +457,7 @@ public class ProfileServiceTests {
         // All fields are null
 
         when(profileRepository.findByUser(user)).thenReturn(Optional.of(profile));
-        when(profileRepository.save(any(Profile.class))).thenReturn(profile);
+        when(profileRepository.saveAndFlush(any(Profile.class))).thenReturn(profile);
 
         String originalUsername = profile.getUsername();
         String originalEmail = profile.getPrimaryEmail();
@@ -441,6 +470,6 @@ public class ProfileServiceTests {
         Assertions.assertThat(result.username()).isEqualTo(originalUsername);
         Assertions.assertThat(result.primaryEmail()).isEqualTo(originalEmail);
         Assertions.assertThat(result.avatarUrl()).isEqualTo(originalAvatar);
-        verify(profileRepository).save(profile);
+        verify(profileRepository).saveAndFlush(profile);
     }
 } 
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.jobhunthub.jobhunthub.service;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.List;
@@ -10,9 +11,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -25,8 +30,11 @@ import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.ResourceNotFou
 import com.jobhunthub.jobhunthub.model.Question;
 import com.jobhunthub.jobhunthub.model.Question.QuestionType;
 import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.repository.EvaluationCacheRepository;
 import com.jobhunthub.jobhunthub.repository.QuestionRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 public class QuestionServiceTests {
 
     @Mock
@@ -35,9 +43,16 @@ public class QuestionServiceTests {
     @Mock
     private OpenAIService openAIService;
 
+    @Mock
+    private EvaluationCacheRepository evaluationCacheRepository;
+
+    @Mock
+    private SearchService searchService;
+
     @InjectMocks
     private QuestionService questionService;
 
+    private SimpleMeterRegistry meterRegistry;
     private User user;
     private Question question;
 
@@ -46,7 +61,10 @@ public class QuestionServiceTests {
         MockitoAnnotations.openMocks(this);
         ZoneId zoneId = ZoneId.systemDefault();
 
-        questionService = new QuestionService(questionRepository, openAIService, zoneId);
+        EvaluationCache evaluationCache = new EvaluationCache(evaluationCacheRepository, new SimpleMeterRegistry(),
+                100, Duration.ofMinutes(5), Duration.ofDays(1), Duration.ofHours(1));
+        meterRegistry = new SimpleMeterRegistry();
+        questionService = new QuestionService(questionRepository, openAIService, evaluationCache, meterRegistry, searchService, zoneId);
 
         user = User.builder()
                 .id(1L)
@@ -68,7 +86,7 @@ public class QuestionServiceTests {
     @Test
     public void QuestionService_getRandomQuestion_returnsQuestion() {
         // Arrange
-        when(questionRepository.findRandomQuestionForUserAndType(user.getId(), QuestionType.TECHNICAL.toString()))
+        when(questionRepository.findNextUnansweredByRandomKey(eq(user.getId()), eq(QuestionType.TECHNICAL.toString()), anyDouble()))
                 .thenReturn(question);
 
         // Act
@@ -79,10 +97,29 @@ public class QuestionServiceTests {
         assertThat(randomQuestion.getQuestion()).isEqualTo("What is 2x4?");
     }
 
+    @Test
+    public void QuestionService_getRandomQuestion_wrapsAroundWhenProbeMisses() {
+        // Arrange: nothing after the random start, but a question exists from the beginning of the key range
+        when(questionRepository.findNextUnansweredByRandomKey(eq(user.getId()), eq(QuestionType.TECHNICAL.toString()), anyDouble()))
+                .thenReturn(null);
+        when(questionRepository.findNextUnansweredByRandomKey(user.getId(), QuestionType.TECHNICAL.toString(), 0.0))
+                .thenReturn(question);
+
+        // Act
+        Question randomQuestion = questionService.getRandomQuestion(user, QuestionType.TECHNICAL);
+
+        // Assert
+        assertThat(randomQuestion.getQuestion()).isEqualTo("What is 2x4?");
+    }
+
     @Test
     public void QuestionService_addQuestion_returnsSavedQuestion() {
         // Arrange
-        when(questionRepository.save(any(Question.class))).thenReturn(question);
+        String hash = Question.contentHash(question.getQuestion());
+        when(questionRepository.insertIfAbsent(eq(user.getId()), eq(QuestionType.TECHNICAL), eq(question.getQuestion()),
+                eq(hash), anyDouble()))
+                .thenReturn(true);
+        when(questionRepository.findByQuestionHashAndUserAndType(hash, user, QuestionType.TECHNICAL)).thenReturn(question);
 
         // Act
         Question savedQuestion = questionService.addQuestion(question, user, QuestionType.TECHNICAL);
@@ -90,6 +127,7 @@ public class QuestionServiceTests {
         // Assert
         assertThat(savedQuestion).isNotNull();
         assertThat(savedQuestion.getQuestion()).isEqualTo("What is 2x4?");
+        verify(searchService).invalidate(user.getId());
     }
 
     @Test
@@ -202,15 +240,24 @@ public class QuestionServiceTests {
     @Test
     public void QuestionService_addQuestion_throwsInvalidRequestException_whenDuplicateQuestion() {
         // Arrange
-        when(questionRepository.findByQuestionAndUserAndType(
-                question.getQuestion(), user, QuestionType.TECHNICAL))
-                .thenReturn(question);
+        when(questionRepository.insertIfAbsent(eq(user.getId()), eq(QuestionType.TECHNICAL), eq(question.getQuestion()),
+                eq(Question.contentHash(question.getQuestion())), anyDouble()))
+                .thenReturn(false);
 
         // Act & Assert
         Assertions.assertThatThrownBy(() ->
                         questionService.addQuestion(question, user, QuestionType.TECHNICAL)
                 ).isInstanceOf(InvalidRequestException.class)
                 .hasMessageContaining("This question already exists for your account");
+        verify(searchService, never()).invalidate(any());
+    }
+
+    @Test
+    public void QuestionService_contentHash_ignoresCaseAndWhitespace() {
+        assertThat(Question.contentHash("  what IS\t2x4? "))
+                .isEqualTo(Question.contentHash("What is 2x4?"))
+                .hasSize(64);
+        assertThat(Question.contentHash("What is 2x5?")).isNotEqualTo(Question.contentHash("What is 2x4?"));
     }
 
     @Test
@@ -225,9 +272,9 @@ public class QuestionServiceTests {
                 }
                 """;
 
-        when(questionRepository.findByQuestionAndUserAndType(questionText, user, QuestionType.TECHNICAL))
+        when(questionRepository.findByQuestionHashAndUserAndType(Question.contentHash(questionText), user, QuestionType.TECHNICAL))
                 .thenReturn(question);
-        when(openAIService.getResponse(anyString(), anyString())).thenReturn(jsonResponse);
+        when(openAIService.getResponse(eq(user.getId()), anyString(), anyString())).thenReturn(jsonResponse);
         when(questionRepository.save(any(Question.class))).thenReturn(question);
 
         // Act
@@ -237,6 +284,7 @@ public class QuestionServiceTests {
         assertThat(result.getRating()).isEqualTo(8);
         assertThat(result.getFeedback()).isEqualTo("Great answer!");
         assertThat(result.getUpdatedAt()).isNotNull();
+        assertThat(meterRegistry.get("evaluations.outcomes").tag("rating", "7-10").counter().count()).isEqualTo(1.0);
     }
 
     @Test
@@ -251,9 +299,9 @@ public class QuestionServiceTests {
                 }
                 """;
 
-        when(questionRepository.findByQuestionAndUserAndType(questionText, user, QuestionType.TECHNICAL))
+        when(questionRepository.findByQuestionHashAndUserAndType(Question.contentHash(questionText), user, QuestionType.TECHNICAL))
                 .thenReturn(question);
-        when(openAIService.getResponse(anyString(), anyString())).thenReturn(jsonResponse);
+        when(openAIService.getResponse(eq(user.getId()), anyString(), anyString())).thenReturn(jsonResponse);
         when(questionRepository.save(any(Question.class))).thenReturn(question);
 
         // Act
@@ -269,7 +317,7 @@ public class QuestionServiceTests {
     public void QuestionService_resetQuestionDate_resetsUpdatedDate() {
         // Arrange
         String questionText = "What is 2x4?";
-        when(questionRepository.findByQuestionAndUserAndType(questionText, user, QuestionType.TECHNICAL))
+        when(questionRepository.findByQuestionHashAndUserAndType(Question.contentHash(questionText), user, QuestionType.TECHNICAL))
                 .thenReturn(question);
         when(questionRepository.save(any(Question.class))).thenReturn(question);
 
@@ -277,8 +325,40 @@ public class QuestionServiceTests {
         questionService.resetQuestionDate(questionText, user, QuestionType.TECHNICAL);
 
         // Assert
-        verify(questionRepository).findByQuestionAndUserAndType(questionText, user, QuestionType.TECHNICAL);
+        verify(questionRepository).findByQuestionHashAndUserAndType(Question.contentHash(questionText), user, QuestionType.TECHNICAL);
         verify(questionRepository).save(question);
         assertThat(question.getUpdatedAt()).isNull();
     }
+
+    @Test
+    public void QuestionService_evaluateResponse_byId_promptsWithStoredText() {
+        // Arrange
+        String jsonResponse = """
+                {
+                    "rating": 9,
+                    "feedback": "Correct"
+                }
+                """;
+        when(questionRepository.findById(1L)).thenReturn(Optional.of(question));
+        when(openAIService.getResponse(eq(user.getId()), anyString(), anyString())).thenReturn(jsonResponse);
+        when(questionRepository.save(any(Question.class))).thenReturn(question);
+
+        // Act
+        Question result = questionService.evaluateResponse(1L, "8", user, QuestionType.TECHNICAL, false);
+
+        // Assert
+        assertThat(result.getRating()).isEqualTo(9);
+        verify(openAIService).getResponse(eq(user.getId()), eq("8"), contains("Question: 'What is 2x4?'"));
+    }
+
+    @Test
+    public void QuestionService_resetQuestionDate_byId_throwsResourceNotFoundException_whenMissing() {
+        // Arrange
+        when(questionRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        Assertions.assertThatThrownBy(() ->
+                        questionService.resetQuestionDate(99L, user, QuestionType.TECHNICAL)
+                ).isInstanceOf(ResourceNotFoundException.class);
+    }
 }
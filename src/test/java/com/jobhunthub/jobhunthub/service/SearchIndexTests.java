@@ -0,0 +1,80 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.jobhunthub.jobhunthub.dto.SearchResultDTO;
+
+public class SearchIndexTests {
+
+    private final SearchIndex index = SearchIndex.builder()
+            .addJob(1, "Software Engineer", "Google", "Mountain View, CA")
+            .addJob(2, "Data Analyst", "Goodyear", "Akron, OH")
+            .addJob(3, "Engineering Manager", "Acme", "Remote")
+            .addQuestion(4, "Tell me about a time you disagreed with your manager", "BEHAVIORAL", null)
+            .addQuestion(5, "How does a hash map work?", "TECHNICAL", "Mention Google-scale sharding for extra credit")
+            .build();
+
+    @Test
+    public void SearchIndex_tokenize_lowercasesSplitsAndDropsDuplicates() {
+        Assertions.assertThat(SearchIndex.tokenize("  Full-Stack, full STACK C++ "))
+                .containsExactly("full", "stack", "c");
+        Assertions.assertThat(SearchIndex.tokenize("!!!")).isEmpty();
+    }
+
+    @Test
+    public void SearchIndex_search_matchesEveryWordAsPrefix() {
+        Assertions.assertThat(ids(index.search(List.of("goo"), null, 0, 10))).containsExactlyInAnyOrder(1L, 2L, 5L);
+        Assertions.assertThat(ids(index.search(List.of("engineer"), null, 0, 10))).containsExactlyInAnyOrder(1L, 3L);
+        Assertions.assertThat(ids(index.search(List.of("eng", "man"), null, 0, 10))).containsExactly(3L);
+        Assertions.assertThat(index.search(List.of("nothing"), null, 0, 10)).isEmpty();
+    }
+
+    @Test
+    public void SearchIndex_search_ranksTitleMatchesAboveFeedbackMatches() {
+        List<SearchResultDTO> results = index.search(List.of("google"), null, 0, 10);
+
+        Assertions.assertThat(ids(results)).containsExactly(1L, 5L);
+        Assertions.assertThat(results.get(0).score()).isGreaterThan(results.get(1).score());
+        Assertions.assertThat(results.get(0)).isEqualTo(new SearchResultDTO("JOB", 1L, "Software Engineer", "Google", 1.0f));
+    }
+
+    @Test
+    public void SearchIndex_search_filtersByType() {
+        Assertions.assertThat(ids(index.search(List.of("man"), SearchIndex.JOB, 0, 10))).containsExactly(3L);
+        Assertions.assertThat(ids(index.search(List.of("man"), SearchIndex.QUESTION, 0, 10))).containsExactly(4L);
+    }
+
+    @Test
+    public void SearchIndex_search_pagesThroughEqualScoresByDescendingId() {
+        SearchIndex.Builder builder = SearchIndex.builder();
+        for (int id = 1; id <= 25; id++) {
+            builder.addJob(id, "Engineer", "Company " + id, "Remote");
+        }
+        SearchIndex jobs = builder.build();
+
+        Assertions.assertThat(ids(jobs.search(List.of("engineer"), null, 0, 10))).startsWith(25L, 24L).hasSize(10);
+        Assertions.assertThat(ids(jobs.search(List.of("engineer"), null, 20, 10))).containsExactly(5L, 4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    public void SearchIndex_search_breaksEqualScoresOnTypeBeforeId() {
+        SearchIndex shared = SearchIndex.builder()
+                .addQuestion(7, "Zebra", "TECHNICAL", null)
+                .addQuestion(8, "Zebra", "TECHNICAL", null)
+                .addJob(7, "Zebra", "Acme", "Remote")
+                .build();
+
+        List<SearchResultDTO> results = shared.search(List.of("zebra"), null, 0, 10);
+
+        Assertions.assertThat(results).extracting(SearchResultDTO::type).containsExactly("JOB", "QUESTION", "QUESTION");
+        Assertions.assertThat(ids(results)).containsExactly(7L, 8L, 7L);
+        Assertions.assertThat(shared.search(List.of("zebra"), null, 1, 1)).extracting(SearchResultDTO::id).containsExactly(8L);
+    }
+
+    private static List<Long> ids(List<SearchResultDTO> results) {
+        return results.stream().map(SearchResultDTO::id).toList();
+    }
+}
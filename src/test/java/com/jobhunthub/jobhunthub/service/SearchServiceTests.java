@@ -0,0 +1,145 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jobhunthub.jobhunthub.dto.SearchResultDTO;
+import com.jobhunthub.jobhunthub.model.Job;
+import com.jobhunthub.jobhunthub.model.Profile;
+import com.jobhunthub.jobhunthub.model.Question;
+import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.repository.JobRepository;
+import com.jobhunthub.jobhunthub.repository.ProfileRepository;
+import com.jobhunthub.jobhunthub.repository.QuestionRepository;
+import com.jobhunthub.jobhunthub.repository.UserRepository;
+
+/**
+ * Checks that the in-memory search index used on H2 follows committed
+ * writes. The index is dropped by Hibernate post-commit events, so each
+ * write commits on its own (as a request would) and the test cleans up.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class SearchServiceTests {
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        user = profileRepository.save(Profile.builder().user(User.builder().githubId("search-index-gh").build())
+                .username("search-index-user").build()).getUser();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jobRepository.deleteAll(jobRepository.findByUser(user));
+            questionRepository.deleteAll(questionRepository.findByUserAndType(user, Question.QuestionType.BEHAVIORAL));
+            profileRepository.findByUser(user).ifPresent(profileRepository::delete);
+            userRepository.deleteById(user.getId());
+        });
+    }
+
+    @Test
+    public void search_findsJobCommittedAfterIndexWasBuilt() {
+        assertThat(titles("kotlin")).isEmpty();
+
+        saveJob("Kotlin Developer");
+
+        assertThat(titles("kotlin")).containsExactly("Kotlin Developer");
+    }
+
+    @Test
+    public void search_followsUpdatesAndDeletes() {
+        Job job = saveJob("Kotlin Developer");
+        assertThat(titles("kotlin")).containsExactly("Kotlin Developer");
+
+        transactionTemplate.executeWithoutResult(status ->
+                jobRepository.findById(job.getId()).orElseThrow().setTitle("Scala Developer"));
+        assertThat(titles("kotlin")).isEmpty();
+        assertThat(titles("scala")).containsExactly("Scala Developer");
+
+        jobRepository.deleteById(job.getId());
+        assertThat(titles("scala")).isEmpty();
+    }
+
+    @Test
+    public void search_findsQuestionByFeedbackOnceEvaluated() {
+        Question question = questionRepository.save(Question.builder().type(Question.QuestionType.BEHAVIORAL)
+                .question("Describe a conflict with a teammate").user(user).build());
+        assertThat(titles("stakeholder")).isEmpty();
+
+        transactionTemplate.executeWithoutResult(status -> questionRepository.findById(question.getId()).orElseThrow()
+                .setFeedback("Strong answer; name the stakeholder next time"));
+
+        assertThat(titles("stakeholder")).containsExactly("Describe a conflict with a teammate");
+    }
+
+    @Test
+    public void search_findsQuestionAddedWithNativeInsert() {
+        assertThat(titles("teammate")).isEmpty();
+
+        questionService.addQuestion(Question.builder().question("Describe a conflict with a teammate").build(),
+                user, Question.QuestionType.BEHAVIORAL);
+
+        assertThat(titles("teammate")).containsExactly("Describe a conflict with a teammate");
+    }
+
+    @Test
+    public void search_ignoresRolledBackWrites() {
+        assertThat(titles("kotlin")).isEmpty();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            saveJob("Kotlin Developer");
+            status.setRollbackOnly();
+        });
+
+        assertThat(titles("kotlin")).isEmpty();
+    }
+
+    @Test
+    public void search_returnsEmptyPage_whenQueryHasNoWords() {
+        saveJob("Kotlin Developer");
+
+        assertThat(searchService.search("-- !!", "all", 0, 20, user).results()).isEmpty();
+    }
+
+    private Job saveJob(String title) {
+        return jobRepository.save(Job.builder().title(title).company("Acme").location("Remote")
+                .status(Job.Status.APPLIED).createdAt(LocalDate.now()).user(user).build());
+    }
+
+    private List<String> titles(String query) {
+        return searchService.search(query, "all", 0, 20, user).results().stream().map(SearchResultDTO::title).toList();
+    }
+}
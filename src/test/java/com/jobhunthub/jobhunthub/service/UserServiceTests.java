@@ -19,6 +19,7 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import com.jobhunthub.jobhunthub.dto.AuthenticatedUserDTO;
 import com.jobhunthub.jobhunthub.dto.OAuth2UserAttributes;
 import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.InvalidRequestException;
+import com.jobhunthub.jobhunthub.model.Profile;
 import com.jobhunthub.jobhunthub.model.User;
 import com.jobhunthub.jobhunthub.repository.UserRepository;
 
@@ -70,7 +71,7 @@ public class UserServiceTests {
         Assertions.assertThat(result).isEqualTo(existingUser);
         verify(userRepository).findByGithubId("github123");
         verify(userRepository, never()).save(any());
-        verify(profileService, never()).provisionProfile(any(), any());
+        verify(profileService, never()).provisionProfile(any(), any(), any());
     }
 
     @Test
@@ -86,18 +87,13 @@ public class UserServiceTests {
         Assertions.assertThat(result).isEqualTo(existingUser);
         verify(userRepository).findByGoogleId("google123");
         verify(userRepository, never()).save(any());
-        verify(profileService, never()).provisionProfile(any(), any());
+        verify(profileService, never()).provisionProfile(any(), any(), any());
     }
 
     @Test
     public void authenticateUser_createsNewUser_whenGithubUserDoesNotExist() {
         // Arrange
         when(userRepository.findByGithubId("github123")).thenReturn(Optional.empty());
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
-            User savedUser = invocation.getArgument(0);
-            savedUser.setId(1L);
-            return savedUser;
-        });
 
         // Act
         User result = userService.authenticateUser(mockGithubOAuth2User, "github");
@@ -105,20 +101,14 @@ public class UserServiceTests {
         // Assert
         Assertions.assertThat(result).isNotNull();
         Assertions.assertThat(result.getGithubId()).isEqualTo("github123");
-        verify(userRepository).save(any(User.class));
-        verify(profileService).provisionProfile(eq(result), any(OAuth2UserAttributes.class));
-        verify(profileService).linkProviderEmail(eq(result), any(OAuth2UserAttributes.class), eq("github"));
+        verify(userRepository, never()).save(any()); // persisted through the profile cascade
+        verify(profileService).provisionProfile(eq(result), any(OAuth2UserAttributes.class), eq("github"));
     }
 
     @Test
     public void authenticateUser_createsNewUser_whenGoogleUserDoesNotExist() {
         // Arrange
         when(userRepository.findByGoogleId("google123")).thenReturn(Optional.empty());
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
-            User savedUser = invocation.getArgument(0);
-            savedUser.setId(1L);
-            return savedUser;
-        });
 
         // Act
         User result = userService.authenticateUser(mockGoogleOAuth2User, "google");
@@ -126,9 +116,8 @@ public class UserServiceTests {
         // Assert
         Assertions.assertThat(result).isNotNull();
         Assertions.assertThat(result.getGoogleId()).isEqualTo("google123");
-        verify(userRepository).save(any(User.class));
-        verify(profileService).provisionProfile(eq(result), any(OAuth2UserAttributes.class));
-        verify(profileService).linkProviderEmail(eq(result), any(OAuth2UserAttributes.class), eq("google"));
+        verify(userRepository, never()).save(any()); // persisted through the profile cascade
+        verify(profileService).provisionProfile(eq(result), any(OAuth2UserAttributes.class), eq("google"));
     }
 
     @Test
@@ -148,9 +137,10 @@ public class UserServiceTests {
     public void linkProviderToUser_linksProvider_whenProfileExists() {
         // Arrange
         User user = User.builder().id(1L).googleId("google123").build();
-        when(profileService.profileExists(user)).thenReturn(true);
+        User managedUser = User.builder().id(1L).googleId("google123").build();
+        Profile profile = Profile.builder().id(1L).user(managedUser).build();
+        when(profileService.findProfile(user)).thenReturn(Optional.of(profile));
         when(userRepository.findByGithubId("github123")).thenReturn(Optional.empty());
-        when(userRepository.save(user)).thenReturn(user);
 
         // Act
         User result = userService.linkProviderToUser(user, mockGithubOAuth2User, "github");
@@ -158,28 +148,29 @@ public class UserServiceTests {
         // Assert
         Assertions.assertThat(result).isEqualTo(user);
         Assertions.assertThat(user.getGithubId()).isEqualTo("github123");
-        verify(userRepository).save(user);
-        verify(profileService).profileExists(user);
-        verify(profileService, never()).provisionProfile(any(), any());
-        verify(profileService).linkProviderEmail(eq(user), any(OAuth2UserAttributes.class), eq("github"));
+        Assertions.assertThat(managedUser.getGithubId()).isEqualTo("github123");
+        verify(userRepository, never()).save(any());
+        verify(profileService, never()).provisionProfile(any(), any(), any());
+        verify(profileService).linkProviderEmail(profile, "github@test.com", "github");
     }
 
     @Test
     public void linkProviderToUser_provisionsProfile_whenProfileDoesNotExist() {
         // Arrange
         User user = User.builder().id(1L).googleId("google123").build();
-        when(profileService.profileExists(user)).thenReturn(false);
+        User managedUser = User.builder().id(1L).googleId("google123").build();
+        when(profileService.findProfile(user)).thenReturn(Optional.empty());
         when(userRepository.findByGithubId("github123")).thenReturn(Optional.empty());
-        when(userRepository.save(user)).thenReturn(user);
+        when(userRepository.getReferenceById(1L)).thenReturn(managedUser);
 
         // Act
         User result = userService.linkProviderToUser(user, mockGithubOAuth2User, "github");
 
         // Assert
         Assertions.assertThat(result).isEqualTo(user);
-        verify(profileService).profileExists(user);
-        verify(profileService).provisionProfile(eq(user), any(OAuth2UserAttributes.class));
-        verify(profileService).linkProviderEmail(eq(user), any(OAuth2UserAttributes.class), eq("github"));
+        Assertions.assertThat(managedUser.getGithubId()).isEqualTo("github123");
+        verify(profileService).provisionProfile(eq(managedUser), any(OAuth2UserAttributes.class), eq("github"));
+        verify(profileService, never()).linkProviderEmail(any(), any(), any());
     }
 
     @Test
@@ -0,0 +1,137 @@
+package com.jobhunthub.jobhunthub.service;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jobhunthub.jobhunthub.dto.UsernameAvailabilityDTO;
+import com.jobhunthub.jobhunthub.exception.GlobalExceptionHandler.InvalidRequestException;
+import com.jobhunthub.jobhunthub.model.User;
+import com.jobhunthub.jobhunthub.repository.ProfileRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class UsernameAvailabilityServiceTests {
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UsernameAvailabilityService service;
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new UsernameAvailabilityService(profileRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry,
+                1_000, 0.01, Duration.ofHours(1));
+        user = User.builder().id(1L).githubId("github123").build();
+
+        when(profileRepository.countByUsernameIsNotNull()).thenReturn(2L);
+        when(profileRepository.streamUsernames()).thenAnswer(invocation -> Stream.of("taken", "alsotaken"));
+    }
+
+    @Test
+    public void isAvailable_answersFromFilter_whenNameWasNeverSeen() {
+        service.rebuild();
+
+        boolean result = service.isAvailable("freshname", user);
+
+        Assertions.assertThat(result).isTrue();
+        verify(profileRepository, never()).existsByUsernameAndUser_IdNot(any(), anyLong());
+        Assertions.assertThat(checks("filter")).isEqualTo(1);
+    }
+
+    @Test
+    public void isAvailable_confirmsInDatabase_whenFilterMightContainName() {
+        service.rebuild();
+        when(profileRepository.existsByUsernameAndUser_IdNot("taken", 1L)).thenReturn(true);
+
+        boolean result = service.isAvailable("taken", user);
+
+        Assertions.assertThat(result).isFalse();
+        verify(profileRepository).existsByUsernameAndUser_IdNot("taken", 1L);
+        Assertions.assertThat(checks("database")).isEqualTo(1);
+    }
+
+    @Test
+    public void isAvailable_checksDatabase_untilFilterIsBuilt() {
+        when(profileRepository.existsByUsernameAndUser_IdNot("freshname", 1L)).thenReturn(false);
+
+        boolean result = service.isAvailable("freshname", user);
+
+        Assertions.assertThat(result).isTrue();
+        verify(profileRepository).existsByUsernameAndUser_IdNot("freshname", 1L);
+    }
+
+    @Test
+    public void record_makesFilterSendNameToDatabase() {
+        service.rebuild();
+        service.record("newlytaken");
+        when(profileRepository.existsByUsernameAndUser_IdNot("newlytaken", 1L)).thenReturn(true);
+
+        Assertions.assertThat(service.isAvailable("newlytaken", user)).isFalse();
+        verify(profileRepository).existsByUsernameAndUser_IdNot("newlytaken", 1L);
+    }
+
+    @Test
+    public void record_duringRebuild_isKeptInNewFilter() {
+        service.rebuild();
+        // Saved after the build read its rows but before the new filter is swapped in
+        when(profileRepository.streamUsernames()).thenReturn(Stream.of("taken", "alsotaken")
+                .onClose(() -> service.record("racer")));
+        service.rebuild();
+        when(profileRepository.existsByUsernameAndUser_IdNot("racer", 1L)).thenReturn(true);
+
+        Assertions.assertThat(service.isAvailable("racer", user)).isFalse();
+        verify(profileRepository).existsByUsernameAndUser_IdNot("racer", 1L);
+    }
+
+    @Test
+    public void record_beforeRebuildSeesCommittedRow_isKeptInNewFilter() {
+        service.rebuild();
+        // Recorded inside a transaction that commits after the next build streams the table
+        service.record("uncommitted");
+        service.rebuild();
+        when(profileRepository.existsByUsernameAndUser_IdNot("uncommitted", 1L)).thenReturn(true);
+
+        Assertions.assertThat(service.isAvailable("uncommitted", user)).isFalse();
+        verify(profileRepository).existsByUsernameAndUser_IdNot("uncommitted", 1L);
+    }
+
+    @Test
+    public void check_returnsDto_forValidUsername() {
+        service.rebuild();
+
+        UsernameAvailabilityDTO result = service.check("freshname", user);
+
+        Assertions.assertThat(result.username()).isEqualTo("freshname");
+        Assertions.assertThat(result.available()).isTrue();
+    }
+
+    @Test
+    public void check_throwsException_whenUsernameIsBlank() {
+        Assertions.assertThatThrownBy(() -> service.check("   ", user))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("Username cannot be empty");
+    }
+
+    private double checks(String answeredBy) {
+        return meterRegistry.get("profile.username.checks").tag("answered_by", answeredBy).counter().count();
+    }
+}